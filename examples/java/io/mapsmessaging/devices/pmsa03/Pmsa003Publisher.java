@@ -70,7 +70,7 @@ public class Pmsa003Publisher implements Runnable {
 
     while (!readings.isEmpty()) {
       StringBuilder sb = new StringBuilder(""+System.currentTimeMillis()+",");
-      synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+      synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
         for (SensorReading<?> reading : readings) {
           sb.append(""+ reading.getValue().getResult()).append(",");
         }
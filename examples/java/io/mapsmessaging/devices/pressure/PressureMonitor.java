@@ -23,7 +23,7 @@ public class PressureMonitor implements Runnable {
 
   public PressureMonitor(Lps25Sensor device) throws IOException {
     this.device = device;
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       device.reset();
       device.delay(100);
       device.getControl1().setDataRate(DataRate.RATE_1_HZ);
@@ -70,7 +70,7 @@ public class PressureMonitor implements Runnable {
     float altitude = 0.0f;
     float pResOld = 0.0f;
     while (pressure != null && temp != null && stop > System.currentTimeMillis()) {
-      synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+      synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
         ComputationResult<Float> tempResult = (ComputationResult<Float>) temp.getValue();
         ComputationResult<Float> result = (ComputationResult<Float>) pressure.getValue();
         if (!result.hasError()) {
@@ -34,7 +34,7 @@ public class ServoDemo {
   private static final int SERVO_HIGHER_BOUND = 550;
 
   public ServoDemo(Pca9685Device device) throws IOException {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       device.reset();
       device.setPWMFrequency(SERVO_PWM_FREQUENCY);
       // Allocate the servos. This code simple manages the bounds that the servo can work within
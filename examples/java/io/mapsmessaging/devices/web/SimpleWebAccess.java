@@ -275,7 +275,7 @@ public class SimpleWebAccess {
   private void handleFunction(Context ctx, DeviceController deviceController, String function) throws IOException {
     if (deviceController instanceof I2CDeviceController) {
       I2CDevice device = ((I2CDeviceController) deviceController).getDevice();
-      synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+      synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
         if (device instanceof PowerManagement) {
           if (function.equalsIgnoreCase("powerOn")) {
             ((PowerManagement) device).powerOn();
@@ -0,0 +1,75 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.Mcp23017Controller;
+import io.mapsmessaging.devices.i2c.devices.rtc.ds3231.Ds3231Controller;
+import io.mapsmessaging.devices.i2c.devices.sensors.bno055.BNO055Controller;
+import io.mapsmessaging.devices.i2c.devices.sensors.ina219.Ina219Controller;
+import io.mapsmessaging.devices.i2c.devices.sensors.lps25.Lps25Controller;
+import io.mapsmessaging.devices.i2c.devices.sensors.msa311.Msa311Controller;
+import io.mapsmessaging.devices.i2c.emulator.*;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * The drivers the benchmarks run, each paired with the emulated chip it is mounted on
+ */
+public enum BenchmarkDriver {
+  LPS25(0x5C, Lps25Model::new, Lps25Controller::new),
+  MSA311(0x62, Msa311Model::new, Msa311Controller::new),
+  INA219(0x40, Ina219Model::new, Ina219Controller::new),
+  DS3231(0x68, Ds3231Model::new, Ds3231Controller::new),
+  BNO055(0x28, Bno055Model::new, BNO055Controller::new),
+  MCP23017(0x20, Mcp23017Model::new, Mcp23017Controller::new);
+
+  private final int address;
+  private final Supplier<ChipModel> model;
+  private final Supplier<I2CDeviceController> driver;
+
+  BenchmarkDriver(int address, Supplier<ChipModel> model, Supplier<I2CDeviceController> driver) {
+    this.address = address;
+    this.model = model;
+    this.driver = driver;
+  }
+
+  /**
+   * Mounts the driver straight onto the emulated device, without a scheduler in front of it
+   */
+  public I2CDeviceController mount(EmulatedI2CBus bus) throws IOException {
+    return driver.get().mount(attach(bus));
+  }
+
+  /**
+   * Mounts the driver behind an I2CDeviceScheduler on the bus's arbiter, as the bus manager does
+   */
+  public I2CDeviceController mountScheduled(EmulatedI2CBus bus) throws IOException {
+    attach(bus);
+    return bus.mount(address, driver.get());
+  }
+
+  private EmulatedDevice attach(EmulatedI2CBus bus) {
+    EmulatedDevice device = bus.get(address);
+    if (device == null) {
+      device = bus.attach(address, model.get());
+    }
+    return device;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getDeviceState for representative drivers mounted straight onto emulated chips, so the figures
+ * are the cost of the driver's reads and the state encoding, without any scheduling
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceStateJMH {
+
+  @Param({"LPS25", "MSA311", "INA219", "DS3231", "BNO055"})
+  private BenchmarkDriver driver;
+
+  @Param({"JSON", "CBOR"})
+  private StateFormat format;
+
+  private I2CDeviceController controller;
+
+  @Setup
+  public void setup() throws IOException {
+    controller = driver.mount(new EmulatedI2CBus(204));
+    controller.setStateFormat(format);
+  }
+
+  @Benchmark
+  public byte[] deviceState() throws IOException {
+    return controller.getDeviceState();
+  }
+
+  @Benchmark
+  public byte[] deviceStateChanges() throws IOException {
+    return controller.getDeviceStateChanges();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.i2c.I2CDevice;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
+import io.mapsmessaging.devices.i2c.emulator.RegisterFileModel;
+import io.mapsmessaging.devices.impl.AddressableDevice;
+import io.mapsmessaging.logging.LoggerFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The raw I2CDevice read and write paths, against an emulated register file with no bus latency,
+ * so the cost measured is that of the device layer itself
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class I2CDeviceJMH {
+
+  private static final int ADDRESS = 0x10;
+  private static final int REGISTER = 0x20;
+
+  @Param({"1", "6", "32"})
+  private int length;
+
+  private RawDevice device;
+  private byte[] buffer;
+  private byte value;
+
+  @Setup
+  public void setup() {
+    EmulatedI2CBus bus = new EmulatedI2CBus(200);
+    AddressableDevice emulated = bus.attach(ADDRESS, new RegisterFileModel("registers", 256));
+    device = new RawDevice(emulated);
+    buffer = new byte[length];
+  }
+
+  @Benchmark
+  public int read() throws IOException {
+    return device.readBuffer(buffer);
+  }
+
+  @Benchmark
+  public int readRegister() throws IOException {
+    return device.readRegister(REGISTER);
+  }
+
+  @Benchmark
+  public int readRegisterBlock() throws IOException {
+    return device.readRegister(REGISTER, buffer);
+  }
+
+  @Benchmark
+  public void write() throws IOException {
+    device.write(REGISTER, value++);
+  }
+
+  @Benchmark
+  public void writeBlock() throws IOException {
+    buffer[0] = value++;
+    device.write(REGISTER, buffer);
+  }
+
+  private static final class RawDevice extends I2CDevice {
+
+    private RawDevice(AddressableDevice device) {
+      super(device, LoggerFactory.getLogger(RawDevice.class));
+    }
+
+    private int readBuffer(byte[] buffer) throws IOException {
+      return read(buffer);
+    }
+
+    @Override
+    public String getName() {
+      return "benchmark";
+    }
+
+    @Override
+    public String getDescription() {
+      return "Register file used to benchmark the device layer";
+    }
+
+    @Override
+    public boolean isConnected() {
+      return true;
+    }
+
+    @Override
+    public DeviceType getType() {
+      return DeviceType.SENSOR;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Device state reads through I2CDeviceScheduler, from one thread and from several threads at once.
+ * The contended runs queue on the bus arbiter, either for the same device or for different devices
+ * sharing the bus, and the clock speed gives each transaction the time it would hold a real bus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class I2CDeviceSchedulerJMH {
+
+  private static final BenchmarkDriver[] SHARED = {
+      BenchmarkDriver.LPS25, BenchmarkDriver.MSA311, BenchmarkDriver.INA219, BenchmarkDriver.DS3231
+  };
+
+  @Param({"0", "400000"})
+  private int clockSpeed;
+
+  private I2CDeviceController controller;
+  private I2CDeviceController[] shared;
+  private final AtomicInteger nextShared = new AtomicInteger();
+
+  @Setup
+  public void setup() throws IOException {
+    EmulatedI2CBus bus = new EmulatedI2CBus(201);
+    bus.setClockSpeed(clockSpeed);
+    shared = new I2CDeviceController[SHARED.length];
+    for (int x = 0; x < SHARED.length; x++) {
+      shared[x] = SHARED[x].mountScheduled(bus);
+    }
+    controller = shared[0];
+  }
+
+  @State(Scope.Thread)
+  public static class SharedDevice {
+    private I2CDeviceController controller;
+
+    @Setup
+    public void setup(I2CDeviceSchedulerJMH benchmark) {
+      int index = benchmark.nextShared.getAndIncrement();
+      controller = benchmark.shared[index % benchmark.shared.length];
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public byte[] uncontended() throws IOException {
+    return controller.getDeviceState();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public byte[] sameDevice() throws IOException {
+    return controller.getDeviceState();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public byte[] sharedBus(SharedDevice device) throws IOException {
+    return device.controller.getDeviceState();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.devices.RegisterMap;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshots of a driver's register map, and the writes that restore one
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterMapJMH {
+
+  @Param({"LPS25", "MSA311", "DS3231", "MCP23017"})
+  private BenchmarkDriver driver;
+
+  private RegisterMap registerMap;
+  private Map<Integer, RegisterData> data;
+
+  @Setup
+  public void setup() throws IOException {
+    I2CDeviceController controller = driver.mount(new EmulatedI2CBus(202));
+    registerMap = controller.getDevice().getRegisterMap();
+    data = registerMap.getData();
+  }
+
+  @Benchmark
+  public Map<Integer, RegisterData> getData() throws IOException {
+    return registerMap.getData();
+  }
+
+  @Benchmark
+  public void setData() throws IOException {
+    registerMap.setData(data);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.benchmark;
+
+import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
+import io.mapsmessaging.devices.io.SerialisationHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Register snapshot round trips through SerialisationHelper, in the JSON and the binary format
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerialisationHelperJMH {
+
+  @Param({"LPS25", "DS3231", "MCP23017"})
+  private BenchmarkDriver driver;
+
+  private SerialisationHelper helper;
+  private Map<Integer, RegisterData> data;
+  private byte[] json;
+  private byte[] binary;
+
+  @Setup
+  public void setup() throws IOException {
+    I2CDeviceController controller = driver.mount(new EmulatedI2CBus(203));
+    helper = new SerialisationHelper();
+    data = controller.getDevice().getRegisterMap().getData();
+    json = helper.serialise(data);
+    binary = helper.serialiseBinary(data);
+  }
+
+  @Benchmark
+  public byte[] serialiseJson() throws IOException {
+    return helper.serialise(data);
+  }
+
+  @Benchmark
+  public Map<Integer, RegisterData> deserialiseJson() throws IOException {
+    return helper.deserialise(json);
+  }
+
+  @Benchmark
+  public Map<Integer, RegisterData> roundTripJson() throws IOException {
+    return helper.deserialise(helper.serialise(data));
+  }
+
+  @Benchmark
+  public byte[] serialiseBinary() {
+    return helper.serialiseBinary(data);
+  }
+
+  @Benchmark
+  public Map<Integer, RegisterData> deserialiseBinary() throws IOException {
+    return helper.deserialise(binary);
+  }
+
+  @Benchmark
+  public Map<Integer, RegisterData> roundTripBinary() throws IOException {
+    return helper.deserialise(helper.serialiseBinary(data));
+  }
+}
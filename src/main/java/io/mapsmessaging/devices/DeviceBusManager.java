@@ -24,16 +24,22 @@ import io.mapsmessaging.devices.gpio.InterruptFactory;
 import io.mapsmessaging.devices.gpio.Pi4JPinManagement;
 import io.mapsmessaging.devices.gpio.PiInterruptFactory;
 import io.mapsmessaging.devices.i2c.I2CBusManager;
+import io.mapsmessaging.devices.i2c.I2CDriverRegistry;
 import io.mapsmessaging.devices.logging.DeviceLogMessage;
 import io.mapsmessaging.devices.onewire.OneWireBusManager;
+import io.mapsmessaging.devices.polling.SensorPoll;
+import io.mapsmessaging.devices.polling.SensorPoller;
 import io.mapsmessaging.devices.spi.SpiBusManager;
 import io.mapsmessaging.logging.Logger;
 import io.mapsmessaging.logging.LoggerFactory;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Getter
 public class DeviceBusManager {
@@ -51,14 +57,19 @@ public class DeviceBusManager {
   private final Logger logger = LoggerFactory.getLogger(DeviceBusManager.class);
   private final Context pi4j;
   private final I2CBusManager[] i2cBusManager;
-  private final OneWireBusManager oneWireBusManager;
-  private final SpiBusManager spiBusManager;
-  private final Pi4JPinManagement pinManagement;
-  private final InterruptFactory interruptFactory;
+  private final SensorPoller sensorPoller;
   private final boolean supportsLengthResponse;
 
+  // Created on first use, so a system that only uses I2C does not start the other buses
+  private volatile OneWireBusManager oneWireBusManager;
+  private volatile SpiBusManager spiBusManager;
+  private volatile Pi4JPinManagement pinManagement;
+  private volatile InterruptFactory interruptFactory;
+
   private DeviceBusManager() {
     logger.log(DeviceLogMessage.BUS_MANAGER_STARTUP);
+    // The drivers do not need Pi4J, so they are loaded while the Pi4J context starts
+    CompletableFuture.runAsync(I2CDriverRegistry::getInstance);
     pi4j = Pi4J.newAutoContext();
     String provider = getProvider();
     supportsLengthResponse = provider.equalsIgnoreCase("linuxfs-i2c");
@@ -68,10 +79,51 @@ public class DeviceBusManager {
     for (int x = 0; x < i2cBusManager.length; x++) {
       i2cBusManager[x] = new I2CBusManager(pi4j, i2cProvider, x);
     }
-    oneWireBusManager = new OneWireBusManager();
-    spiBusManager = new SpiBusManager(pi4j);
-    pinManagement = new Pi4JPinManagement(pi4j);
-    interruptFactory = new PiInterruptFactory(pi4j);
+    sensorPoller = new SensorPoller();
+  }
+
+  public OneWireBusManager getOneWireBusManager() {
+    if (oneWireBusManager == null) {
+      synchronized (this) {
+        if (oneWireBusManager == null) {
+          oneWireBusManager = new OneWireBusManager();
+        }
+      }
+    }
+    return oneWireBusManager;
+  }
+
+  public SpiBusManager getSpiBusManager() {
+    if (spiBusManager == null) {
+      synchronized (this) {
+        if (spiBusManager == null) {
+          spiBusManager = new SpiBusManager(pi4j);
+        }
+      }
+    }
+    return spiBusManager;
+  }
+
+  public Pi4JPinManagement getPinManagement() {
+    if (pinManagement == null) {
+      synchronized (this) {
+        if (pinManagement == null) {
+          pinManagement = new Pi4JPinManagement(pi4j);
+        }
+      }
+    }
+    return pinManagement;
+  }
+
+  public InterruptFactory getInterruptFactory() {
+    if (interruptFactory == null) {
+      synchronized (this) {
+        if (interruptFactory == null) {
+          interruptFactory = new PiInterruptFactory(pi4j);
+        }
+      }
+    }
+    return interruptFactory;
   }
 
   public boolean isAvailable(){
@@ -100,7 +152,7 @@ public class DeviceBusManager {
   }
 
   public void configureDevices(Map<String, Object> config) throws IOException {
-    // Note: 1-Wire autoconfigures within the filesystem
+    // Note: 1-Wire autoconfigures within the filesystem, only its reading filters are configured
     logger.log(DeviceLogMessage.BUS_MANAGER_CONFIGURE_DEVICES);
     Map<String, Object> i2c = getConfig("i2c", config);
     if (!i2c.isEmpty()) {
@@ -109,7 +161,40 @@ public class DeviceBusManager {
     }
     Map<String, Object> spi = getConfig("spi", config);
     if (!spi.isEmpty()) {
-      spiBusManager.configureDevices(spi);
+      getSpiBusManager().configureDevices(spi);
+    }
+    Map<String, Object> oneWire = getConfig("oneWire", config);
+    if (!oneWire.isEmpty()) {
+      getOneWireBusManager().configureDevices(oneWire);
+    }
+  }
+
+  /**
+   * Polls every mounted device that provides sensor readings, on all the buses, at the same
+   * interval. The polls are identified by bus and device, for example i2c[1]/76 or
+   * 1Wire/28-0316a2795cff. Devices whose controller has no sensor, such as GPIO expanders, are skipped.
+   *
+   * @param interval milliseconds between samples
+   * @return the polls that were started
+   */
+  public List<SensorPoll> pollAllSensors(long interval) throws IOException {
+    List<SensorPoll> started = new ArrayList<>();
+    for (int x = 0; x < i2cBusManager.length; x++) {
+      pollSensors("i2c[" + x + "]/", i2cBusManager[x].getActive(), interval, started);
+    }
+    SpiBusManager spiBus = spiBusManager;
+    if (spiBus != null) {
+      pollSensors("spi/", spiBus.getActive(), interval, started);
+    }
+    pollSensors("1Wire/", getOneWireBusManager().getActive(), interval, started);
+    return started;
+  }
+
+  private void pollSensors(String prefix, Map<String, DeviceController> devices, long interval, List<SensorPoll> started) throws IOException {
+    for (Map.Entry<String, DeviceController> entry : devices.entrySet()) {
+      if (entry.getValue().getSensor() != null) {
+        started.add(sensorPoller.poll(prefix + entry.getKey(), entry.getValue(), interval));
+      }
     }
   }
 
@@ -122,6 +207,7 @@ public class DeviceBusManager {
   }
 
   public void close() {
+    sensorPoller.close();
     pi4j.shutdown();
     logger.log(DeviceLogMessage.BUS_MANAGER_SHUTDOWN);
   }
@@ -16,6 +16,11 @@
 
 package io.mapsmessaging.devices;
 
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import io.mapsmessaging.devices.util.SchemaCache;
 import io.mapsmessaging.schemas.config.SchemaConfig;
 import org.everit.json.schema.ObjectSchema;
 import org.everit.json.schema.internal.JSONPrinter;
@@ -32,12 +37,52 @@ public interface DeviceController {
 
   SchemaConfig getSchema();
 
+  /**
+   * @return a fingerprint of the schema, which only changes when the schema does
+   */
+  default String getSchemaFingerprint() {
+    return SchemaCache.getFingerprint(this);
+  }
+
   byte[] getDeviceConfiguration() throws IOException;
 
   DeviceType getType();
 
   byte[] getDeviceState() throws IOException;
 
+  /**
+   * Returns only the readings that have moved past their deadband, or whose heartbeat has expired,
+   * since they were last returned. Devices without readings return their full state.
+   */
+  default byte[] getDeviceStateChanges() throws IOException {
+    return getDeviceState();
+  }
+
+  /**
+   * @return the deadband and heartbeat settings used by getDeviceStateChanges, or null if not supported
+   */
+  default ReadingFilter getReadingFilter() {
+    return null;
+  }
+
+  /**
+   * @return the mounted device as a Sensor, or null if it does not provide readings
+   */
+  default Sensor getSensor() {
+    return null;
+  }
+
+  /**
+   * @return the bus usage of the mounted device, or null if it is not recorded
+   */
+  default BusMetrics getBusMetrics() {
+    return null;
+  }
+
+  StateFormat getStateFormat();
+
+  void setStateFormat(StateFormat format);
+
 
   void setRaiseExceptionOnError(boolean flag);
 
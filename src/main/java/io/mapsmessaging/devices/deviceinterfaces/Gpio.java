@@ -48,4 +48,12 @@ public interface Gpio {
 
   boolean isSet(int pin) throws IOException;
 
+  /**
+   * Starts a batch of pin changes. The changes are held locally and only written to the device,
+   * using the fewest writes possible, when the batch is committed.
+   */
+  void beginBatch() throws IOException;
+
+  void commitBatch() throws IOException;
+
 }
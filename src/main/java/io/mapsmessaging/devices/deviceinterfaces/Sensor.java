@@ -16,6 +16,7 @@
 
 package io.mapsmessaging.devices.deviceinterfaces;
 
+import io.mapsmessaging.devices.sensorreadings.ReadingSink;
 import io.mapsmessaging.devices.sensorreadings.SensorReading;
 
 import java.io.IOException;
@@ -28,4 +29,36 @@ public interface Sensor {
     return new ArrayList<>();
   }
 
+  /**
+   * Reads all the raw data the readings need in one bus transaction and holds it, so every reading
+   * that follows decodes from the same frame, and shares its timestamp, until the snapshot is released.
+   * Sensors that have nothing to gain simply return the current time.
+   *
+   * @return the time, in milliseconds, the data was read
+   */
+  default long snapshot() throws IOException {
+    return System.currentTimeMillis();
+  }
+
+  default void releaseSnapshot() {
+  }
+
+  /**
+   * Reads every reading into the sink, without boxing numeric values or allocating results. All the
+   * readings are taken from a single snapshot of the device.
+   *
+   * @param sink receives each value, or error, in the order of getReadings()
+   */
+  default void readAll(ReadingSink sink) throws IOException {
+    List<SensorReading<?>> readings = getReadings();
+    snapshot();
+    try {
+      for (int x = 0; x < readings.size(); x++) {
+        readings.get(x).read(sink);
+      }
+    } finally {
+      releaseSnapshot();
+    }
+  }
+
 }
@@ -0,0 +1,71 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.deviceinterfaces;
+
+import lombok.Getter;
+
+/**
+ * The raw data a sensor's readings decode from, read from the device in a single bus transaction.
+ * While a snapshot holds the frame every reading decodes from it and shares its timestamp. Outside
+ * a snapshot the frame is reused until it is older than the maximum age, a maximum age of 0 means
+ * the readings go to the device each time.
+ */
+public class SensorFrame {
+
+  @Getter
+  private final byte[] data;
+  private final long maxAge;
+
+  @Getter
+  private long timestamp;
+  private int holds;
+
+  public SensorFrame(int length, long maxAge) {
+    data = new byte[length];
+    this.maxAge = maxAge;
+    timestamp = 0;
+    holds = 0;
+  }
+
+  /**
+   * @return true if the data needs to be read from the device before it is used
+   */
+  public boolean isStale() {
+    return holds == 0 && System.currentTimeMillis() - timestamp >= maxAge;
+  }
+
+  public boolean isHeld() {
+    return holds > 0;
+  }
+
+  /**
+   * Records that the data has just been read from the device
+   */
+  public void loaded() {
+    timestamp = System.currentTimeMillis();
+  }
+
+  public void hold() {
+    holds++;
+  }
+
+  public void release() {
+    if (holds > 0) {
+      holds--;
+    }
+  }
+}
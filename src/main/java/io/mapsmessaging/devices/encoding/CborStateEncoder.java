@@ -0,0 +1,152 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.encoding;
+
+/**
+ * CBOR (RFC 8949). Objects and arrays are written with indefinite lengths so they can be streamed
+ * without knowing how many values will follow, floats are written as single precision.
+ */
+public class CborStateEncoder extends StateEncoder {
+
+  private static final int MAJOR_UNSIGNED = 0;
+  private static final int MAJOR_NEGATIVE = 1 << 5;
+  private static final int MAJOR_TEXT = 3 << 5;
+
+  private static final byte START_ARRAY = (byte) 0x9F;
+  private static final byte START_MAP = (byte) 0xBF;
+  private static final byte BREAK = (byte) 0xFF;
+  private static final byte FALSE = (byte) 0xF4;
+  private static final byte TRUE = (byte) 0xF5;
+  private static final byte NULL = (byte) 0xF6;
+  private static final byte FLOAT32 = (byte) 0xFA;
+  private static final byte FLOAT64 = (byte) 0xFB;
+
+  public CborStateEncoder() {
+    super(StateFormat.CBOR);
+  }
+
+  @Override
+  protected void startObject() {
+    ensure(1);
+    buffer.put(START_MAP);
+  }
+
+  @Override
+  public void put(String name, long value) {
+    writeText(name);
+    writeLong(value);
+  }
+
+  @Override
+  public void put(String name, float value) {
+    writeText(name);
+    ensure(5);
+    buffer.put(FLOAT32);
+    buffer.putFloat(value);
+  }
+
+  @Override
+  public void put(String name, double value) {
+    writeText(name);
+    ensure(9);
+    buffer.put(FLOAT64);
+    buffer.putDouble(value);
+  }
+
+  @Override
+  public void put(String name, boolean value) {
+    writeText(name);
+    ensure(1);
+    buffer.put(value ? TRUE : FALSE);
+  }
+
+  @Override
+  public void put(String name, String value) {
+    writeText(name);
+    if (value == null) {
+      ensure(1);
+      buffer.put(NULL);
+    } else {
+      writeText(value);
+    }
+  }
+
+  @Override
+  public void startObject(String name) {
+    writeText(name);
+    ensure(1);
+    buffer.put(START_MAP);
+  }
+
+  @Override
+  public void startArray(String name) {
+    writeText(name);
+    ensure(1);
+    buffer.put(START_ARRAY);
+  }
+
+  @Override
+  public void add(long value) {
+    writeLong(value);
+  }
+
+  @Override
+  public void endArray() {
+    ensure(1);
+    buffer.put(BREAK);
+  }
+
+  @Override
+  public void endObject() {
+    ensure(1);
+    buffer.put(BREAK);
+  }
+
+  private void writeLong(long value) {
+    if (value < 0) {
+      writeHeader(MAJOR_NEGATIVE, -1 - value);
+    } else {
+      writeHeader(MAJOR_UNSIGNED, value);
+    }
+  }
+
+  private void writeText(String value) {
+    writeHeader(MAJOR_TEXT, utf8Length(value));
+    int x = 0;
+    while (x < value.length()) {
+      x += writeUtf8(value, x);
+    }
+  }
+
+  private void writeHeader(int major, long length) {
+    ensure(9);
+    if (length < 24) {
+      buffer.put((byte) (major | length));
+    } else if (length <= 0xFF) {
+      buffer.put((byte) (major | 24));
+      buffer.put((byte) length);
+    } else if (length <= 0xFFFF) {
+      buffer.put((byte) (major | 25));
+      buffer.putShort((short) length);
+    } else if (length <= 0xFFFFFFFFL) {
+      buffer.put((byte) (major | 26));
+      buffer.putInt((int) length);
+    } else {
+      buffer.put((byte) (major | 27));
+      buffer.putLong(length);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.encoding;
+
+import io.mapsmessaging.devices.sensorreadings.Orientation;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Writes a device state through a {@link ReadingFilter}, so a controller produces its changes with
+ * the same code, and in the same shape, as its full state. Each top level value is passed on to the
+ * target encoder only if the filter passes it. An array, or an orientation, is passed on whole when
+ * any of its values has moved. Objects the controller opens itself are passed on unfiltered.
+ * Readings are filtered as readings, so their own ranges apply.
+ */
+public class FilteredStateEncoder extends StateEncoder {
+
+  private StateEncoder target;
+  private ReadingFilter filter;
+  private int depth;
+
+  // The top level array being collected, null if none
+  private String array;
+  private double[] values;
+  private int count;
+
+  public FilteredStateEncoder(StateFormat format) {
+    super(format);
+    values = new double[8];
+  }
+
+  /**
+   * @param encoder the started encoder the values that pass are written to
+   * @return this encoder, ready for the values
+   */
+  public FilteredStateEncoder begin(StateEncoder encoder, ReadingFilter readingFilter) {
+    target = encoder;
+    filter = readingFilter;
+    depth = 0;
+    array = null;
+    filter.begin(encoder);
+    return this;
+  }
+
+  @Override
+  public StateEncoder start() {
+    target.start();
+    return begin(target, filter);
+  }
+
+  @Override
+  public ByteBuffer finish() {
+    return target.finish();
+  }
+
+  @Override
+  public Exception getError() {
+    return target.getError();
+  }
+
+  @Override
+  public void put(String name, long value) {
+    if (depth > 0 || filter.hasChanged(name, (double) value)) {
+      target.put(name, value);
+    }
+  }
+
+  @Override
+  public void put(String name, float value) {
+    if (depth > 0 || filter.hasChanged(name, value)) {
+      target.put(name, value);
+    }
+  }
+
+  @Override
+  public void put(String name, double value) {
+    if (depth > 0 || filter.hasChanged(name, value)) {
+      target.put(name, value);
+    }
+  }
+
+  @Override
+  public void put(String name, boolean value) {
+    if (depth > 0 || filter.hasChanged(name, (Object) value)) {
+      target.put(name, value);
+    }
+  }
+
+  @Override
+  public void put(String name, String value) {
+    if (depth > 0 || filter.hasChanged(name, (Object) value)) {
+      target.put(name, value);
+    }
+  }
+
+  @Override
+  public void put(String name, Object value) {
+    if (depth == 0 && value instanceof Orientation) {
+      Orientation orientation = (Orientation) value;
+      values[0] = orientation.getX();
+      values[1] = orientation.getY();
+      values[2] = orientation.getZ();
+      if (filter.hasChanged(name, values, 3)) {
+        target.put(name, value);
+      }
+    } else {
+      super.put(name, value);
+    }
+  }
+
+  @Override
+  public void startObject(String name) {
+    depth++;
+    target.startObject(name);
+  }
+
+  @Override
+  public void startArray(String name) {
+    if (depth == 0 && array == null) {
+      array = name;
+      count = 0;
+    } else {
+      depth++;
+      target.startArray(name);
+    }
+  }
+
+  @Override
+  public void add(long value) {
+    if (array != null && depth == 0) {
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = value;
+    } else {
+      target.add(value);
+    }
+  }
+
+  @Override
+  public void endArray() {
+    if (array != null && depth == 0) {
+      if (filter.hasChanged(array, values, count)) {
+        target.startArray(array);
+        for (int x = 0; x < count; x++) {
+          target.add((long) values[x]);
+        }
+        target.endArray();
+      }
+      array = null;
+    } else {
+      depth--;
+      target.endArray();
+    }
+  }
+
+  @Override
+  public void endObject() {
+    depth--;
+    target.endObject();
+  }
+
+  @Override
+  protected void startObject() {
+    // The target encoder has already been started
+  }
+
+  //<editor-fold desc="Reading sink">
+  @Override
+  public void acceptFloat(SensorReading<?> reading, float value) {
+    filter.acceptFloat(reading, value);
+  }
+
+  @Override
+  public void acceptLong(SensorReading<?> reading, long value) {
+    filter.acceptLong(reading, value);
+  }
+
+  @Override
+  public void acceptInt(SensorReading<?> reading, int value) {
+    filter.acceptInt(reading, value);
+  }
+
+  @Override
+  public void acceptObject(SensorReading<?> reading, Object value) {
+    filter.acceptObject(reading, value);
+  }
+
+  @Override
+  public void acceptError(SensorReading<?> reading, Exception error) {
+    filter.acceptError(reading, error);
+  }
+  //</editor-fold>
+}
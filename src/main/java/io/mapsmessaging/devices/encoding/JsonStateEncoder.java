@@ -0,0 +1,240 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.encoding;
+
+/**
+ * Compact JSON, no whitespace is written between tokens. Numbers are formatted the same way as
+ * JSONObject, so the values match the pretty printed state apart from the layout.
+ */
+public class JsonStateEncoder extends StateEncoder {
+
+  private static final byte[] HEX = "0123456789abcdef".getBytes();
+  private static final int MAX_DEPTH = 16;
+
+  // Whether the next value, at each level of nesting, has to be preceded by a comma
+  private final boolean[] separate;
+  private int depth;
+
+  public JsonStateEncoder() {
+    super(StateFormat.JSON);
+    separate = new boolean[MAX_DEPTH];
+  }
+
+  @Override
+  protected void startObject() {
+    depth = 0;
+    separate[0] = false;
+    ensure(1);
+    buffer.put((byte) '{');
+  }
+
+  @Override
+  public void put(String name, long value) {
+    name(name);
+    writeLong(value);
+  }
+
+  @Override
+  public void put(String name, float value) {
+    name(name);
+    if (Float.isNaN(value) || Float.isInfinite(value)) {
+      writeAscii("null");
+    } else {
+      writeNumber(Float.toString(value));
+    }
+  }
+
+  @Override
+  public void put(String name, double value) {
+    name(name);
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      writeAscii("null");
+    } else {
+      writeNumber(Double.toString(value));
+    }
+  }
+
+  @Override
+  public void put(String name, boolean value) {
+    name(name);
+    writeAscii(value ? "true" : "false");
+  }
+
+  @Override
+  public void put(String name, String value) {
+    name(name);
+    if (value == null) {
+      writeAscii("null");
+    } else {
+      writeString(value);
+    }
+  }
+
+  @Override
+  public void startObject(String name) {
+    name(name);
+    open('{');
+  }
+
+  @Override
+  public void startArray(String name) {
+    name(name);
+    open('[');
+  }
+
+  @Override
+  public void add(long value) {
+    separator();
+    writeLong(value);
+  }
+
+  @Override
+  public void endArray() {
+    close(']');
+  }
+
+  @Override
+  public void endObject() {
+    close('}');
+  }
+
+  private void open(char ch) {
+    if (depth + 1 >= MAX_DEPTH) {
+      throw new IllegalStateException("State nested too deeply");
+    }
+    ensure(1);
+    buffer.put((byte) ch);
+    depth++;
+    separate[depth] = false;
+  }
+
+  private void close(char ch) {
+    ensure(1);
+    buffer.put((byte) ch);
+    if (depth > 0) {
+      depth--;
+    }
+  }
+
+  private void separator() {
+    if (separate[depth]) {
+      ensure(1);
+      buffer.put((byte) ',');
+    }
+    separate[depth] = true;
+  }
+
+  private void name(String name) {
+    separator();
+    writeString(name);
+    ensure(1);
+    buffer.put((byte) ':');
+  }
+
+  private void writeString(String value) {
+    ensure(1);
+    buffer.put((byte) '"');
+    int x = 0;
+    while (x < value.length()) {
+      char ch = value.charAt(x);
+      if (ch == '"' || ch == '\\') {
+        ensure(2);
+        buffer.put((byte) '\\');
+        buffer.put((byte) ch);
+        x++;
+      } else if (ch < 0x20) {
+        writeControl(ch);
+        x++;
+      } else {
+        x += writeUtf8(value, x);
+      }
+    }
+    ensure(1);
+    buffer.put((byte) '"');
+  }
+
+  private void writeControl(char ch) {
+    ensure(6);
+    buffer.put((byte) '\\');
+    switch (ch) {
+      case '\n':
+        buffer.put((byte) 'n');
+        break;
+      case '\r':
+        buffer.put((byte) 'r');
+        break;
+      case '\t':
+        buffer.put((byte) 't');
+        break;
+      case '\b':
+        buffer.put((byte) 'b');
+        break;
+      case '\f':
+        buffer.put((byte) 'f');
+        break;
+      default:
+        buffer.put((byte) 'u');
+        buffer.put((byte) '0');
+        buffer.put((byte) '0');
+        buffer.put(HEX[ch >> 4]);
+        buffer.put(HEX[ch & 0xF]);
+    }
+  }
+
+  // Trims trailing zeros from the fraction, as JSONObject does, so 21.0 is written as 21
+  private void writeNumber(String number) {
+    int end = number.length();
+    if (number.indexOf('.') > 0 && number.indexOf('E') < 0) {
+      while (number.charAt(end - 1) == '0') {
+        end--;
+      }
+      if (number.charAt(end - 1) == '.') {
+        end--;
+      }
+    }
+    ensure(end);
+    for (int x = 0; x < end; x++) {
+      buffer.put((byte) number.charAt(x));
+    }
+  }
+
+  private void writeAscii(String value) {
+    ensure(value.length());
+    for (int x = 0; x < value.length(); x++) {
+      buffer.put((byte) value.charAt(x));
+    }
+  }
+
+  private void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    ensure(20);
+    if (value < 0) {
+      buffer.put((byte) '-');
+      value = -value;
+    }
+    long divisor = 1;
+    while (divisor <= value / 10) {
+      divisor *= 10;
+    }
+    while (divisor > 0) {
+      buffer.put((byte) ('0' + (value / divisor) % 10));
+      divisor /= 10;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.encoding;
+
+import io.mapsmessaging.devices.sensorreadings.Orientation;
+import io.mapsmessaging.devices.sensorreadings.ReadingSink;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streams a device state, as a single object of named values, straight into a reusable buffer. A
+ * controller keeps one encoder and calls start() for each state it returns, so once the buffer has
+ * grown to fit the state nothing further is allocated. Encoders are not thread safe, the bus
+ * already serialises calls for a device.
+ * <p>
+ * The encoder is also a ReadingSink, so sensor readings can be read directly into it.
+ */
+public abstract class StateEncoder implements ReadingSink {
+
+  private static final int INITIAL_SIZE = 256;
+
+  @Getter
+  private final StateFormat format;
+  protected ByteBuffer buffer;
+
+  @Getter
+  private Exception error;
+
+  protected StateEncoder(StateFormat format) {
+    this.format = format;
+    buffer = ByteBuffer.allocate(INITIAL_SIZE);
+  }
+
+  public StateEncoder start() {
+    buffer.clear();
+    error = null;
+    startObject();
+    return this;
+  }
+
+  /**
+   * Completes the state
+   *
+   * @return a view of the encoded bytes, only valid until the encoder is next started
+   */
+  public ByteBuffer finish() {
+    endObject();
+    ByteBuffer result = buffer.duplicate();
+    result.flip();
+    return result;
+  }
+
+  public byte[] toByteArray() {
+    ByteBuffer result = finish();
+    byte[] data = new byte[result.remaining()];
+    result.get(data);
+    return data;
+  }
+
+  public abstract void put(String name, long value);
+
+  public abstract void put(String name, float value);
+
+  public abstract void put(String name, double value);
+
+  public abstract void put(String name, boolean value);
+
+  public abstract void put(String name, String value);
+
+  public void put(String name, Object value) {
+    if (value == null || value instanceof String) {
+      put(name, (String) value);
+    } else if (value instanceof Float) {
+      put(name, ((Float) value).floatValue());
+    } else if (value instanceof Double) {
+      put(name, ((Double) value).doubleValue());
+    } else if (value instanceof Number) {
+      put(name, ((Number) value).longValue());
+    } else if (value instanceof Boolean) {
+      put(name, ((Boolean) value).booleanValue());
+    } else if (value instanceof Orientation) {
+      Orientation orientation = (Orientation) value;
+      startObject(name);
+      put("x", orientation.getX());
+      put("y", orientation.getY());
+      put("z", orientation.getZ());
+      endObject();
+    } else if (value instanceof Enum) {
+      put(name, ((Enum<?>) value).name());
+    } else {
+      put(name, value.toString());
+    }
+  }
+
+  public abstract void startObject(String name);
+
+  public abstract void startArray(String name);
+
+  public abstract void add(long value);
+
+  public abstract void endArray();
+
+  public abstract void endObject();
+
+  protected abstract void startObject();
+
+  //<editor-fold desc="Reading sink">
+  @Override
+  public void acceptFloat(SensorReading<?> reading, float value) {
+    put(reading.getName(), value);
+  }
+
+  @Override
+  public void acceptLong(SensorReading<?> reading, long value) {
+    put(reading.getName(), value);
+  }
+
+  @Override
+  public void acceptObject(SensorReading<?> reading, Object value) {
+    put(reading.getName(), value);
+  }
+
+  @Override
+  public void acceptError(SensorReading<?> reading, Exception error) {
+    if (this.error == null) {
+      this.error = error;
+    }
+    put(reading.getName(), error.getMessage());
+  }
+  //</editor-fold>
+
+  protected void ensure(int length) {
+    if (buffer.remaining() < length) {
+      int size = Math.max(buffer.capacity() * 2, buffer.position() + length);
+      ByteBuffer grown = ByteBuffer.allocate(size);
+      buffer.flip();
+      grown.put(buffer);
+      buffer = grown;
+    }
+  }
+
+  protected static int utf8Length(String value) {
+    int length = 0;
+    for (int x = 0; x < value.length(); x++) {
+      char ch = value.charAt(x);
+      if (ch < 0x80) {
+        length++;
+      } else if (ch < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(ch) && x + 1 < value.length() && Character.isLowSurrogate(value.charAt(x + 1))) {
+        length += 4;
+        x++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  // Writes a single character, or surrogate pair, as UTF-8 and returns the number of chars consumed
+  protected int writeUtf8(String value, int index) {
+    char ch = value.charAt(index);
+    ensure(4);
+    if (ch < 0x80) {
+      buffer.put((byte) ch);
+    } else if (ch < 0x800) {
+      buffer.put((byte) (0xC0 | (ch >> 6)));
+      buffer.put((byte) (0x80 | (ch & 0x3F)));
+    } else if (Character.isHighSurrogate(ch) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+      int codePoint = Character.toCodePoint(ch, value.charAt(index + 1));
+      buffer.put((byte) (0xF0 | (codePoint >> 18)));
+      buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+      buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+      buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      return 2;
+    } else {
+      buffer.put((byte) (0xE0 | (ch >> 12)));
+      buffer.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+      buffer.put((byte) (0x80 | (ch & 0x3F)));
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.encoding;
+
+/**
+ * Wire format used by a controller for the device state it returns
+ */
+public enum StateFormat {
+  JSON,
+  CBOR;
+
+  public static StateFormat parse(Object value) {
+    if (value != null) {
+      String name = value.toString().trim().toUpperCase();
+      for (StateFormat format : values()) {
+        if (format.name().equals(name)) {
+          return format;
+        }
+      }
+    }
+    return JSON;
+  }
+
+  public StateEncoder createEncoder() {
+    if (this == CBOR) {
+      return new CborStateEncoder();
+    }
+    return new JsonStateEncoder();
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.history;
+
+import lombok.Getter;
+
+/**
+ * A downsampled level of a reading's history. Each entry covers one period of the resolution and
+ * records the minimum, maximum and average of the samples that fell within it.
+ */
+@Getter
+public class HistoryTier {
+
+  private final long resolution;
+  private final int capacity;
+
+  /**
+   * @param resolution milliseconds covered by each entry
+   * @param capacity   the number of entries kept, the oldest is overwritten once it is full
+   */
+  public HistoryTier(long resolution, int capacity) {
+    if (resolution <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("Resolution and capacity must be positive");
+    }
+    this.resolution = resolution;
+    this.capacity = capacity;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.history;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The recent history of a single reading, held off-heap in fixed size rings so that long histories
+ * add nothing to the garbage collector's work. The raw ring keeps the last samples as a timestamp
+ * and value, and each tier keeps min, max and average entries at a coarser resolution.
+ * <p>
+ * Index 0 is always the oldest entry held. There is a single writer, normally the poller, and any
+ * number of readers; all access is synchronised on the history.
+ */
+public class ReadingHistory {
+
+  private static final int SAMPLE_SIZE = 16;   // timestamp, value
+  private static final int AGGREGATE_SIZE = 36; // start, min, max, sum, count
+
+  @Getter
+  private final String name;
+  private final ByteBuffer samples;
+  private final int capacity;
+  private int head;
+  private int count;
+  private final Tier[] tiers;
+
+  public ReadingHistory(String name, int capacity, HistoryTier... tiers) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.name = name;
+    this.capacity = capacity;
+    samples = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, SAMPLE_SIZE));
+    this.tiers = new Tier[tiers.length];
+    for (int x = 0; x < tiers.length; x++) {
+      this.tiers[x] = new Tier(tiers[x]);
+    }
+  }
+
+  public synchronized void add(long timestamp, double value) {
+    int offset = head * SAMPLE_SIZE;
+    samples.putLong(offset, timestamp);
+    samples.putDouble(offset + 8, value);
+    head = (head + 1) % capacity;
+    if (count < capacity) {
+      count++;
+    }
+    for (Tier tier : tiers) {
+      tier.add(timestamp, value);
+    }
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public synchronized int size() {
+    return count;
+  }
+
+  public synchronized long getTimestamp(int index) {
+    return samples.getLong(sampleOffset(index));
+  }
+
+  public synchronized double getValue(int index) {
+    return samples.getDouble(sampleOffset(index) + 8);
+  }
+
+  /**
+   * Copies the samples taken between the two times, inclusive, into the arrays, oldest first
+   *
+   * @return the number of samples copied, limited by the length of the arrays
+   */
+  public synchronized int read(long from, long to, long[] timestamps, double[] values) {
+    int limit = Math.min(timestamps.length, values.length);
+    int copied = 0;
+    for (int x = 0; x < count && copied < limit; x++) {
+      int offset = sampleOffset(x);
+      long timestamp = samples.getLong(offset);
+      if (timestamp > to) {
+        break;
+      }
+      if (timestamp >= from) {
+        timestamps[copied] = timestamp;
+        values[copied] = samples.getDouble(offset + 8);
+        copied++;
+      }
+    }
+    return copied;
+  }
+
+  public int getTierCount() {
+    return tiers.length;
+  }
+
+  public Tier getTier(int index) {
+    return tiers[index];
+  }
+
+  public synchronized void clear() {
+    head = 0;
+    count = 0;
+    for (Tier tier : tiers) {
+      tier.clear();
+    }
+  }
+
+  private int sampleOffset(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Index " + index + " with " + count + " samples");
+    }
+    return ((head - count + index + capacity) % capacity) * SAMPLE_SIZE;
+  }
+
+  /**
+   * One downsampled level of the history. The entry still being filled is not visible until the
+   * first sample of the next period arrives.
+   */
+  public final class Tier {
+    @Getter
+    private final long resolution;
+    private final int tierCapacity;
+    private final ByteBuffer entries;
+    private int tierHead;
+    private int tierCount;
+
+    // The entry currently being filled
+    private long openStart;
+    private double openMin;
+    private double openMax;
+    private double openSum;
+    private int openCount;
+
+    private Tier(HistoryTier config) {
+      resolution = config.getResolution();
+      tierCapacity = config.getCapacity();
+      entries = ByteBuffer.allocateDirect(Math.multiplyExact(tierCapacity, AGGREGATE_SIZE));
+      openCount = 0;
+    }
+
+    private void add(long timestamp, double value) {
+      long start = timestamp - Math.floorMod(timestamp, resolution);
+      if (openCount > 0 && start != openStart) {
+        flush();
+      }
+      if (openCount == 0) {
+        openStart = start;
+        openMin = value;
+        openMax = value;
+        openSum = 0;
+      } else {
+        openMin = Math.min(openMin, value);
+        openMax = Math.max(openMax, value);
+      }
+      openSum += value;
+      openCount++;
+    }
+
+    private void flush() {
+      int offset = tierHead * AGGREGATE_SIZE;
+      entries.putLong(offset, openStart);
+      entries.putDouble(offset + 8, openMin);
+      entries.putDouble(offset + 16, openMax);
+      entries.putDouble(offset + 24, openSum);
+      entries.putInt(offset + 32, openCount);
+      tierHead = (tierHead + 1) % tierCapacity;
+      if (tierCount < tierCapacity) {
+        tierCount++;
+      }
+      openCount = 0;
+    }
+
+    private void clear() {
+      tierHead = 0;
+      tierCount = 0;
+      openCount = 0;
+    }
+
+    public int getCapacity() {
+      return tierCapacity;
+    }
+
+    public int size() {
+      synchronized (ReadingHistory.this) {
+        return tierCount;
+      }
+    }
+
+    public long getStart(int index) {
+      synchronized (ReadingHistory.this) {
+        return entries.getLong(entryOffset(index));
+      }
+    }
+
+    public double getMin(int index) {
+      synchronized (ReadingHistory.this) {
+        return entries.getDouble(entryOffset(index) + 8);
+      }
+    }
+
+    public double getMax(int index) {
+      synchronized (ReadingHistory.this) {
+        return entries.getDouble(entryOffset(index) + 16);
+      }
+    }
+
+    public double getAverage(int index) {
+      synchronized (ReadingHistory.this) {
+        int offset = entryOffset(index);
+        return entries.getDouble(offset + 24) / entries.getInt(offset + 32);
+      }
+    }
+
+    public int getCount(int index) {
+      synchronized (ReadingHistory.this) {
+        return entries.getInt(entryOffset(index) + 32);
+      }
+    }
+
+    private int entryOffset(int index) {
+      if (index < 0 || index >= tierCount) {
+        throw new IndexOutOfBoundsException("Index " + index + " with " + tierCount + " entries");
+      }
+      return ((tierHead - tierCount + index + tierCapacity) % tierCapacity) * AGGREGATE_SIZE;
+    }
+  }
+}
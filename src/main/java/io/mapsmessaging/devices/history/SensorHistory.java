@@ -0,0 +1,141 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.history;
+
+import io.mapsmessaging.devices.polling.PollSink;
+import io.mapsmessaging.devices.polling.SensorPoll;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the history of every numeric reading the poller samples. Add it to the poller as a sink and
+ * each reading gets its own {@link ReadingHistory}, named by the poll id and the reading name, the
+ * first time a value arrives. All samples of a poll share the timestamp the poll started at.
+ * <p>
+ * The samples and tiers are held in direct buffers, so a day of 1Hz data for one reading costs about
+ * 1.4MB off-heap and nothing on the heap beyond the fixed size ReadingHistory itself.
+ */
+public class SensorHistory implements PollSink {
+
+  private final int capacity;
+  private final HistoryTier[] tiers;
+  private final Map<SensorReading<?>, ReadingHistory> byReading;
+  private final Map<String, ReadingHistory> byName;
+  private final ThreadLocal<long[]> pollTime;
+  private final ThreadLocal<SensorPoll> currentPoll;
+
+  /**
+   * @param capacity the number of raw samples kept for each reading
+   * @param tiers    the downsampled levels kept for each reading
+   */
+  public SensorHistory(int capacity, HistoryTier... tiers) {
+    this.capacity = capacity;
+    this.tiers = tiers.clone();
+    byReading = new ConcurrentHashMap<>();
+    byName = new ConcurrentHashMap<>();
+    pollTime = ThreadLocal.withInitial(() -> new long[1]);
+    currentPoll = new ThreadLocal<>();
+  }
+
+  public ReadingHistory getHistory(String pollId, String reading) {
+    return byName.get(pollId + "/" + reading);
+  }
+
+  public List<ReadingHistory> getHistories() {
+    return new ArrayList<>(byName.values());
+  }
+
+  /**
+   * Drops the history of every reading of the poll, the off-heap memory is released once the
+   * histories are no longer referenced
+   */
+  public void remove(SensorPoll poll) {
+    for (SensorReading<?> reading : poll.getReadings()) {
+      ReadingHistory history = byReading.remove(reading);
+      if (history != null) {
+        byName.remove(history.getName());
+      }
+    }
+  }
+
+  @Override
+  public void pollStarted(SensorPoll poll, long timestamp) {
+    pollTime.get()[0] = timestamp;
+    currentPoll.set(poll);
+  }
+
+  @Override
+  public void pollCompleted(SensorPoll poll) {
+    currentPoll.remove();
+  }
+
+  @Override
+  public void acceptFloat(SensorReading<?> reading, float value) {
+    record(reading, value);
+  }
+
+  @Override
+  public void acceptLong(SensorReading<?> reading, long value) {
+    record(reading, value);
+  }
+
+  @Override
+  public void acceptInt(SensorReading<?> reading, int value) {
+    record(reading, value);
+  }
+
+  @Override
+  public void acceptObject(SensorReading<?> reading, Object value) {
+    if (value instanceof Number) {
+      record(reading, ((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      record(reading, Boolean.TRUE.equals(value) ? 1 : 0);
+    }
+  }
+
+  @Override
+  public void acceptError(SensorReading<?> reading, Exception error) {
+    // A failed read leaves a gap in the history
+  }
+
+  private void record(SensorReading<?> reading, double value) {
+    ReadingHistory history = byReading.get(reading);
+    if (history == null) {
+      history = create(reading);
+      if (history == null) {
+        return;
+      }
+    }
+    history.add(pollTime.get()[0], value);
+  }
+
+  // Only readings that deliver a numeric value get a history, and its off-heap buffers
+  private ReadingHistory create(SensorReading<?> reading) {
+    SensorPoll poll = currentPoll.get();
+    if (poll == null) {
+      return null;
+    }
+    return byReading.computeIfAbsent(reading, r -> {
+      ReadingHistory history = new ReadingHistory(poll.getId() + "/" + r.getName(), capacity, tiers);
+      byName.put(history.getName(), history);
+      return history;
+    });
+  }
+}
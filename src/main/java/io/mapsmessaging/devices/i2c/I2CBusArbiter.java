@@ -0,0 +1,364 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.i2c;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialises access to a single physical I2C bus. Each bus has exactly one arbiter, so devices on
+ * different buses never contend with each other. Devices locate their arbiter by bus number, which
+ * allows the bus manager, the scheduler and the device delay logic to share the same instance.
+ * <p>
+ * Transactions are queued and executed, in submission order, by a single worker thread that owns
+ * the bus lock while it runs them. If a transaction calls delay, the worker uses the time to run
+ * queued transactions belonging to other devices, so a slow conversion does not stall the bus.
+ * <p>
+ * Transactions made of {@link I2CBusStep}s do not need to block at all. When a step asks to be
+ * resumed later the bus is released, no thread is held, and the remaining steps are queued again
+ * once the wait expires. Other transactions for the same device are held back until it completes.
+ * <p>
+ * Pending transactions are served by {@link I2CBusPriority}, so latency sensitive devices are not
+ * stuck behind bulk transfers from slower devices sharing the bus.
+ */
+public class I2CBusArbiter {
+
+  private static final Map<Integer, I2CBusArbiter> ARBITERS = new ConcurrentHashMap<>();
+  private static final ScheduledExecutorService RESUME_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "I2C-Bus-Resume");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public static I2CBusArbiter getArbiter(int bus) {
+    return ARBITERS.computeIfAbsent(bus, I2CBusArbiter::new);
+  }
+
+  @Getter
+  private final int bus;
+
+  @Getter
+  private final Object lock;
+
+  private final TransactionQueue queue;
+  private volatile Thread worker;
+
+  // Only ever accessed by the worker thread
+  private Object currentOwner;
+  private boolean inDelay;
+  private final Map<Object, List<Transaction<?>>> suspended;
+
+  private I2CBusArbiter(int bus) {
+    this.bus = bus;
+    lock = new Object();
+    queue = new TransactionQueue();
+    inDelay = false;
+    suspended = new HashMap<>();
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public int getQueueDepth(I2CBusPriority priority) {
+    return queue.size(priority);
+  }
+
+  public <T> CompletableFuture<T> submit(Object owner, I2CBusTask<T> task) {
+    return submit(owner, I2CBusPriority.NORMAL, task);
+  }
+
+  public <T> CompletableFuture<T> submit(Object owner, I2CBusPriority priority, I2CBusTask<T> task) {
+    return submitSteps(owner, priority, () -> I2CBusStep.complete(task.execute()));
+  }
+
+  public <T> CompletableFuture<T> submitSteps(Object owner, I2CBusPriority priority, I2CBusTask<I2CBusStep<T>> steps) {
+    Transaction<T> transaction = new Transaction<>(owner, priority, steps);
+    startWorker();
+    queue.add(transaction);
+    return transaction.future;
+  }
+
+  /**
+   * Runs the task and waits for its result. If the caller already owns the bus, because it is the
+   * worker or holds the bus lock, the task runs inline, since queueing it would never complete.
+   */
+  public <T> T execute(Object owner, I2CBusPriority priority, I2CBusTask<T> task) throws IOException {
+    if (ownsBus()) {
+      return task.execute();
+    }
+    return await(submit(owner, priority, task));
+  }
+
+  public <T> T executeSteps(Object owner, I2CBusPriority priority, I2CBusTask<I2CBusStep<T>> steps) throws IOException {
+    if (!ownsBus()) {
+      return await(submitSteps(owner, priority, steps));
+    }
+    // Already own the bus, so simply walk the steps
+    I2CBusStep<T> step = steps.execute();
+    while (!step.isComplete()) {
+      try {
+        delay(step.getDelay());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      step = step.resume();
+    }
+    return step.getValue();
+  }
+
+  @SuppressWarnings("java:S2274") // The delay here is for a specific I2C device. We release the bus lock which allows other devices access
+  public void delay(int ms) throws InterruptedException {
+    if (Thread.currentThread() == worker && !inDelay) {
+      runOthersFor(ms);
+    } else {
+      synchronized (lock) {
+        lock.wait(ms);
+      }
+    }
+  }
+
+  private boolean ownsBus() {
+    return Thread.currentThread() == worker || Thread.holdsLock(lock);
+  }
+
+  public static <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private synchronized void startWorker() {
+    if (worker == null) {
+      worker = new Thread(this::processQueue, "I2C-Bus-" + bus);
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  private void processQueue() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        Transaction<?> transaction = queue.take();
+        synchronized (lock) {
+          run(transaction);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // Called on the worker, while it holds the bus lock, to hand the bus to other devices during a delay
+  private void runOthersFor(int ms) throws InterruptedException {
+    Object owner = currentOwner;
+    List<Transaction<?>> deferred = new ArrayList<>();
+    long end = System.currentTimeMillis() + ms;
+    inDelay = true;
+    try {
+      long remaining = ms;
+      while (remaining > 0) {
+        Transaction<?> next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+        if (next != null) {
+          if (next.owner == owner) {
+            deferred.add(next); // Never interleave a device with itself
+          } else {
+            run(next);
+          }
+        }
+        remaining = end - System.currentTimeMillis();
+      }
+    } finally {
+      inDelay = false;
+      currentOwner = owner;
+      for (int x = deferred.size() - 1; x >= 0; x--) {
+        queue.addFirst(deferred.get(x));
+      }
+    }
+  }
+
+  private void run(Transaction<?> transaction) {
+    List<Transaction<?>> parked = suspended.get(transaction.owner);
+    if (parked != null && !transaction.resumed) {
+      parked.add(transaction); // The device is part way through a stepped transaction
+      return;
+    }
+    currentOwner = transaction.owner;
+    int wait = transaction.run();
+    if (wait >= 0) {
+      suspended.computeIfAbsent(transaction.owner, k -> new ArrayList<>());
+      RESUME_TIMER.schedule(() -> queue.add(transaction), wait, TimeUnit.MILLISECONDS);
+    } else if (transaction.resumed) {
+      parked = suspended.remove(transaction.owner);
+      if (parked != null) {
+        for (int x = parked.size() - 1; x >= 0; x--) {
+          queue.addFirst(parked.get(x));
+        }
+      }
+    }
+  }
+
+  private static final class Transaction<T> {
+    private final Object owner;
+    private final I2CBusPriority priority;
+    private final CompletableFuture<T> future;
+    private I2CBusTask<I2CBusStep<T>> step;
+    private boolean resumed;
+
+    private Transaction(Object owner, I2CBusPriority priority, I2CBusTask<I2CBusStep<T>> step) {
+      this.owner = owner;
+      this.priority = priority;
+      this.step = step;
+      future = new CompletableFuture<>();
+      resumed = false;
+    }
+
+    // Returns the time to wait before the next step, or -1 once the transaction has finished
+    private int run() {
+      try {
+        I2CBusStep<T> result = step.execute();
+        if (result.isComplete()) {
+          future.complete(result.getValue());
+          return -1;
+        }
+        step = result::resume;
+        resumed = true;
+        return result.getDelay();
+      } catch (Throwable th) {
+        future.completeExceptionally(th);
+        return -1;
+      }
+    }
+  }
+
+  // A blocking deque per priority, the highest priority non-empty lane is always served first
+  private static final class TransactionQueue {
+    private final List<Deque<Transaction<?>>> lanes;
+    private final ReentrantLock queueLock;
+    private final Condition notEmpty;
+    private int count;
+
+    private TransactionQueue() {
+      lanes = new ArrayList<>();
+      for (int x = 0; x < I2CBusPriority.values().length; x++) {
+        lanes.add(new ArrayDeque<>());
+      }
+      queueLock = new ReentrantLock();
+      notEmpty = queueLock.newCondition();
+      count = 0;
+    }
+
+    private void add(Transaction<?> transaction) {
+      insert(transaction, false);
+    }
+
+    private void addFirst(Transaction<?> transaction) {
+      insert(transaction, true);
+    }
+
+    private Transaction<?> take() throws InterruptedException {
+      queueLock.lockInterruptibly();
+      try {
+        while (count == 0) {
+          notEmpty.await();
+        }
+        return remove();
+      } finally {
+        queueLock.unlock();
+      }
+    }
+
+    private Transaction<?> poll(long timeout, TimeUnit unit) throws InterruptedException {
+      long nanos = unit.toNanos(timeout);
+      queueLock.lockInterruptibly();
+      try {
+        while (count == 0) {
+          if (nanos <= 0) {
+            return null;
+          }
+          nanos = notEmpty.awaitNanos(nanos);
+        }
+        return remove();
+      } finally {
+        queueLock.unlock();
+      }
+    }
+
+    private int size() {
+      queueLock.lock();
+      try {
+        return count;
+      } finally {
+        queueLock.unlock();
+      }
+    }
+
+    private int size(I2CBusPriority priority) {
+      queueLock.lock();
+      try {
+        return lanes.get(priority.ordinal()).size();
+      } finally {
+        queueLock.unlock();
+      }
+    }
+
+    private void insert(Transaction<?> transaction, boolean first) {
+      queueLock.lock();
+      try {
+        Deque<Transaction<?>> lane = lanes.get(transaction.priority.ordinal());
+        if (first) {
+          lane.addFirst(transaction);
+        } else {
+          lane.addLast(transaction);
+        }
+        count++;
+        notEmpty.signal();
+      } finally {
+        queueLock.unlock();
+      }
+    }
+
+    private Transaction<?> remove() {
+      for (Deque<Transaction<?>> lane : lanes) {
+        Transaction<?> transaction = lane.pollFirst();
+        if (transaction != null) {
+          count--;
+          return transaction;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -21,12 +21,16 @@ import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
 import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.impl.AddressableDevice;
 import io.mapsmessaging.devices.impl.I2CDeviceImpl;
 import io.mapsmessaging.devices.logging.DeviceLogMessage;
+import io.mapsmessaging.devices.trace.CapturingDevice;
 import io.mapsmessaging.logging.Logger;
 import io.mapsmessaging.logging.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -38,8 +42,7 @@ public class I2CBusManager {
 
   private final Logger logger = LoggerFactory.getLogger(I2CBusManager.class);
 
-  private final Map<String, I2CDeviceController> knownDevices;
-  private final Map<Integer, List<I2CDeviceController>> mappedDevices;
+  private final I2CDriverRegistry registry;
   private final Map<String, DeviceController> activeDevices;
   private final Map<Integer, I2C> physicalDevices;
 
@@ -47,28 +50,28 @@ public class I2CBusManager {
   private final I2CProvider i2cProvider;
   private final int i2cBus;
   private final boolean active;
+  private final I2CBusArbiter arbiter;
+  private final boolean[] presence;
+  private final long[] presenceExpiry;
+  private final long presenceCacheTime;
+  private final long absenceCacheTime;
 
   public I2CBusManager(Context pi4j, I2CProvider i2cProvider, int bus) {
     logger.log(DeviceLogMessage.I2C_BUS_MANAGER_STARTUP);
     boolean enableBus0 = Boolean.parseBoolean(System.getProperty("i2cbus0", "false"));
     active = bus != 0 || enableBus0;
     i2cBus = bus;
+    arbiter = I2CBusArbiter.getArbiter(bus);
+    presence = new boolean[0x78];
+    presenceExpiry = new long[0x78];
+    // Both outlast the two minute device scan, so a scan only probes the addresses that are due
+    presenceCacheTime = Long.parseLong(System.getProperty("i2cPresenceCacheTime", "300000"));
+    absenceCacheTime = Long.parseLong(System.getProperty("i2cAbsenceCacheTime", "600000"));
     this.pi4j = pi4j;
     this.i2cProvider = i2cProvider;
-    mappedDevices = new LinkedHashMap<>();
     activeDevices = new ConcurrentHashMap<>();
-    knownDevices = new ConcurrentHashMap<>();
     physicalDevices = new ConcurrentHashMap<>();
-    ServiceLoader<I2CDeviceController> deviceEntries = ServiceLoader.load(I2CDeviceController.class);
-    for (I2CDeviceController device : deviceEntries) {
-      knownDevices.put(device.getName(), device);
-      logger.log(DeviceLogMessage.I2C_BUS_LOADED_DEVICE, device.getName());
-      int[] addressRange = device.getAddressRange();
-      for (int i : addressRange) {
-        logger.log(DeviceLogMessage.I2C_BUS_ALLOCATING_ADDRESS, "0x" + Integer.toHexString(i), device.getName());
-        mappedDevices.computeIfAbsent(i, k -> new ArrayList<>()).add(device);
-      }
-    }
+    registry = I2CDriverRegistry.getInstance();
   }
 
   public I2CDeviceController configureDevice(int address, String name) throws IOException {
@@ -86,10 +89,18 @@ public class I2CBusManager {
       // Retrieve the device name from the configuration
       String deviceName = (String) deviceConfig.get("deviceName");
       // Find the matching device in the known devices list
-      I2CDeviceController deviceEntry = knownDevices.get(deviceName);
+      I2CDeviceController deviceEntry = registry.get(deviceName);
       if (deviceEntry != null) {
         logger.log(DeviceLogMessage.I2C_BUS_CONFIGURING_DEVICE, deviceEntry.getName(), i2cAddress);
-        return createAndMountDevice(i2cAddress, deviceEntry);
+        I2CDeviceController controller = createAndMountDevice(i2cAddress, deviceEntry, (String) deviceConfig.get("capture"));
+        if (deviceConfig.containsKey("priority")) {
+          controller.setPriority(I2CBusPriority.parse(deviceConfig.get("priority")));
+        }
+        if (deviceConfig.containsKey("format")) {
+          controller.setStateFormat(StateFormat.parse(deviceConfig.get("format")));
+        }
+        controller.getReadingFilter().configure(deviceConfig);
+        return controller;
       } else {
         logger.log(DeviceLogMessage.I2C_BUS_DEVICE_NOT_FOUND, deviceName);
       }
@@ -99,8 +110,11 @@ public class I2CBusManager {
 
   public void close(I2CDeviceController deviceController) {
     deviceController.close();
-    String key = Integer.toHexString(deviceController.getMountedAddress());
-    activeDevices.remove(key);
+    int address = deviceController.getMountedAddress();
+    activeDevices.remove(Integer.toHexString(address));
+    if (address >= 0 && address < presenceExpiry.length) {
+      presenceExpiry[address] = 0;
+    }
   }
 
   public I2CDeviceController get(String id) {
@@ -111,12 +125,16 @@ public class I2CBusManager {
     return activeDevices;
   }
 
+  public I2CBusArbiter getArbiter() {
+    return arbiter;
+  }
+
   public void scanForDevices(long pollDelay) throws InterruptedException {
     if (!active) return;
     List<Integer> foundDevices = findDevicesOnBus(pollDelay);
     for (Integer addr : foundDevices) {
-      List<I2CDeviceController> devices = mappedDevices.get(addr);
-      if (devices != null && !devices.isEmpty()) {
+      List<I2CDeviceController> devices = registry.getDrivers(addr);
+      if (!devices.isEmpty()) {
         processDeviceList(addr, devices);
       }
     }
@@ -125,7 +143,7 @@ public class I2CBusManager {
   private void processDeviceList(int addr, List<I2CDeviceController> devices) {
     if (devices.size() == 1) {
       try {
-        createAndMountDevice(addr, devices.get(0));
+        createAndMountDevice(addr, devices.get(0), null);
       } catch (IOException e) {
         // Log here
       }
@@ -140,7 +158,7 @@ public class I2CBusManager {
       I2CDeviceImpl i2CDevice = new I2CDeviceImpl(physicalDevices.get(addr));
       if (device.canDetect() && device.detect(i2CDevice)) {
         try {
-          createAndMountDevice(addr, device);
+          createAndMountDevice(addr, device, null);
           located = true;
         } catch (IOException e) {
           // Log here
@@ -158,28 +176,47 @@ public class I2CBusManager {
 
   public List<Integer> findDevicesOnBus(long pollDelay) throws InterruptedException {
     List<Integer> found = new ArrayList<>();
+    long now = System.currentTimeMillis();
     for (int x = 0; x < 0x78; x++) {
       if (!activeDevices.containsKey(Integer.toHexString(x))) {
-        try {
-          I2C device = physicalDevices.get(x);
-          if (device == null) {
-            device = createi2cDevice(x);
-          }
-          synchronized (I2CDeviceScheduler.getI2cBusLock()) {
-            if (isOnBus(x, device)) {
-              found.add(x);
-            }
-          }
-        } catch (Exception e) {
-          // Ignore since we are simply looking for devices
+        // Only probe addresses whose cached result has expired, call invalidatePresence after
+        // attaching a device to have it found by the next scan
+        if (presenceExpiry[x] < now) {
+          presence[x] = probe(x, pollDelay);
+          presenceExpiry[x] = System.currentTimeMillis() + (presence[x] ? presenceCacheTime : absenceCacheTime);
+        }
+        if (presence[x]) {
+          found.add(x);
         }
       }
-      if(pollDelay>0) TimeUnit.MILLISECONDS.sleep(pollDelay);
     }
     listDetected(found);
     return found;
   }
 
+  public void invalidatePresence() {
+    Arrays.fill(presenceExpiry, 0);
+  }
+
+  private boolean probe(int addr, long pollDelay) throws InterruptedException {
+    try {
+      I2C device = physicalDevices.get(addr);
+      if (device == null) {
+        device = createi2cDevice(addr);
+      }
+      I2C probeDevice = device;
+      boolean found = arbiter.submitSteps(this, I2CBusPriority.BACKGROUND, () -> isOnBus(addr, probeDevice)).get();
+      // Give the bus a rest between probes
+      if (pollDelay > 0) TimeUnit.MILLISECONDS.sleep(pollDelay);
+      return found;
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Exception e) {
+      // Ignore since we are simply looking for devices
+      return false;
+    }
+  }
+
   private I2C createi2cDevice(int addr) {
     I2CConfig i2cConfig = I2C.newConfigBuilder(pi4j)
         .id("Device::" + Integer.toHexString(addr))
@@ -192,31 +229,38 @@ public class I2CBusManager {
     return device;
   }
 
-  private boolean isOnBus(int addr, I2C device) {
+  private I2CBusStep<Boolean> isOnBus(int addr, I2C device) {
+    byte[] buf = new byte[1];
+    if (addr == 0x5c) {
+      // The first read simply wakes the device, it then needs time before it will respond
+      readProbe(device, buf);
+      return I2CBusStep.resumeAfter(20, () -> I2CBusStep.complete(readProbe(device, buf)));
+    }
+    return I2CBusStep.complete(readProbe(device, buf));
+  }
+
+  private boolean readProbe(I2C device, byte[] buf) {
     try {
-      byte[] buf = new byte[1];
-      if (addr == 0x5c) {
-        device.read(buf, 0, 1);
-        TimeUnit.MILLISECONDS.sleep(20);
-      }
-      TimeUnit.MILLISECONDS.sleep(1);
       return device.read(buf, 0, 1) == 1;
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
     } catch (Exception ex) {
       // Ignore
     }
     return false;
   }
 
-  private I2CDeviceController createAndMountDevice(int i2cAddress, I2CDeviceController deviceEntry) throws IOException {
+  // A capture file name in the configuration records the device's traffic, for replay against the emulator
+  private I2CDeviceController createAndMountDevice(int i2cAddress, I2CDeviceController deviceEntry, String capture) throws IOException {
     I2C i2c = physicalDevices.get(i2cAddress);
     if (i2c == null) {
       i2c = createi2cDevice(i2cAddress);
     }
-    I2CDeviceImpl i2CDevice = new I2CDeviceImpl(i2c);
+    AddressableDevice i2CDevice = new I2CDeviceImpl(i2c);
+    if (capture != null) {
+      logger.log(DeviceLogMessage.I2C_BUS_DEVICE_CAPTURE, i2cBus, i2cAddress, capture);
+      i2CDevice = CapturingDevice.open(i2CDevice, Paths.get(capture), deviceEntry.getName());
+    }
     I2CDeviceController device = deviceEntry.mount(i2CDevice);
-    I2CDeviceController controller = new I2CDeviceScheduler(device);
+    I2CDeviceController controller = new I2CDeviceScheduler(device, arbiter);
     activeDevices.put(Integer.toHexString(i2cAddress), controller);
     return controller;
   }
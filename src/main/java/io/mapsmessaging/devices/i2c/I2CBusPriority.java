@@ -0,0 +1,40 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.i2c;
+
+/**
+ * Order in which the bus arbiter serves pending transactions. All pending real time work is run
+ * before any normal work, which in turn is run before any background work. Within a priority the
+ * transactions are run in the order they were submitted.
+ */
+public enum I2CBusPriority {
+  REAL_TIME,
+  NORMAL,
+  BACKGROUND;
+
+  public static I2CBusPriority parse(Object value) {
+    if (value != null) {
+      String name = value.toString().trim().toUpperCase().replace('-', '_').replace(' ', '_');
+      for (I2CBusPriority priority : values()) {
+        if (priority.name().equals(name) || priority.name().replace("_", "").equals(name)) {
+          return priority;
+        }
+      }
+    }
+    return NORMAL;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.i2c;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * The result of one step of a bus transaction. A step is either complete, with a value, or asks to
+ * be resumed after a number of milliseconds, typically while the device performs a conversion. The
+ * bus arbiter releases the bus, and does not hold a thread, while it waits to resume the next step.
+ *
+ * @param <T> type of the final result
+ */
+public final class I2CBusStep<T> {
+
+  private static final I2CBusStep<Void> DONE = new I2CBusStep<>(null, -1, null);
+
+  @Getter
+  private final T value;
+  @Getter
+  private final int delay;
+  private final I2CBusTask<I2CBusStep<T>> next;
+
+  private I2CBusStep(T value, int delay, I2CBusTask<I2CBusStep<T>> next) {
+    this.value = value;
+    this.delay = delay;
+    this.next = next;
+  }
+
+  public static I2CBusStep<Void> done() {
+    return DONE;
+  }
+
+  public static <T> I2CBusStep<T> complete(T value) {
+    return new I2CBusStep<>(value, -1, null);
+  }
+
+  public static <T> I2CBusStep<T> resumeAfter(int ms, I2CBusTask<I2CBusStep<T>> next) {
+    return new I2CBusStep<>(null, Math.max(0, ms), next);
+  }
+
+  public boolean isComplete() {
+    return next == null;
+  }
+
+  public I2CBusStep<T> resume() throws IOException {
+    return next.execute();
+  }
+
+  /**
+   * Runs the task once this step, and any steps it resumes, have completed
+   *
+   * @param task the work to run on the bus after this step
+   * @return a step that completes with the result of the task
+   */
+  public <R> I2CBusStep<R> andThen(I2CBusTask<R> task) throws IOException {
+    if (isComplete()) {
+      return complete(task.execute());
+    }
+    return resumeAfter(delay, () -> resume().andThen(task));
+  }
+}
@@ -22,29 +22,53 @@ import io.mapsmessaging.devices.DeviceBusManager;
 import io.mapsmessaging.devices.i2c.devices.RegisterMap;
 import io.mapsmessaging.devices.impl.AddressableDevice;
 import io.mapsmessaging.devices.logging.DeviceLogMessage;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.metrics.BusMetricsRegistry;
+import io.mapsmessaging.devices.trace.BusTrace;
+import io.mapsmessaging.devices.trace.TraceOperation;
 import io.mapsmessaging.logging.Logger;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.IOException;
 
 import static io.mapsmessaging.devices.logging.DeviceLogMessage.*;
 
+/**
+ * Every transaction is recorded in the BusTrace, and when one fails the device's recent
+ * transactions are written to the log, at most once per busTraceDumpInterval milliseconds.
+ */
 @Getter
 public abstract class I2CDevice implements Device, AutoCloseable {
 
+  private static final long TRACE_DUMP_INTERVAL = Long.getLong("busTraceDumpInterval", 60000L);
+  private static final int TRACE_DUMP_RECORDS = 32;
+
   public final RegisterMap registerMap;
   protected final Logger logger;
   protected final AddressableDevice device;
+  protected final BusMetrics metrics;
+  protected final BusTrace trace;
+
+  @Getter(AccessLevel.NONE)
+  private final String addressName;
+  @Getter(AccessLevel.NONE)
+  private volatile long lastTraceDump;
 
   protected I2CDevice(AddressableDevice device, Logger logger) {
     this.device = device;
     this.logger = logger;
     registerMap = new RegisterMap();
+    metrics = BusMetricsRegistry.getInstance().getI2CMetrics(device.getBus(), device.getDevice());
+    trace = BusTrace.getInstance();
+    addressName = String.format("%02X", device.getDevice());
+    traced(TraceOperation.OPEN, BusTrace.NO_REGISTER, null, 0, 0, 0, System.nanoTime());
     log(I2C_BUS_DEVICE_ALLOCATED);
   }
 
   public void close() {
     device.close();
+    traced(TraceOperation.CLOSE, BusTrace.NO_REGISTER, null, 0, 0, 0, System.nanoTime());
     log(I2C_BUS_DEVICE_CLOSE);
   }
 
@@ -54,16 +78,27 @@ public abstract class I2CDevice implements Device, AutoCloseable {
 
   public abstract boolean isConnected();
 
+  /**
+   * @return the register address to read a burst starting at the register from, or -1 if the device
+   * does not advance to the next register during a read and each register must be read on its own
+   */
+  public int getBurstAddress(int register) {
+    return register;
+  }
+
   public void write(int val) throws IOException {
-    if (logger.isDebugEnabled()) {
-      log(I2C_BUS_DEVICE_WRITE, 0, String.format("%02X", val));
-    }
+    long start = System.nanoTime();
+    int result;
     try {
-      if (device.write(val) < 1 && DeviceBusManager.getInstance().isSupportsLengthResponse())
-        throw new IOException("Failed to write to device");
+      result = device.write(val);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.WRITE, BusTrace.NO_REGISTER, 1, -1, start, new IOException(e));
+    }
+    if (result < 1 && DeviceBusManager.getInstance().isSupportsLengthResponse()) {
+      throw failed(TraceOperation.WRITE, BusTrace.NO_REGISTER, 1, result, start, new IOException("Failed to write to device"));
     }
+    metrics.recordWrite(1, start);
+    trace.recordByte(device.getBus(), device.getDevice(), BusTrace.NO_REGISTER, TraceOperation.WRITE, val, result, start);
   }
 
   public void write(byte[] buffer) throws IOException {
@@ -71,40 +106,38 @@ public abstract class I2CDevice implements Device, AutoCloseable {
   }
 
   protected void write(byte[] buffer, int off, int len) throws IOException {
+    long start = System.nanoTime();
+    int result;
     try {
-      if (device.write(buffer, off, len) < 0 && DeviceBusManager.getInstance().isSupportsLengthResponse()) {
-        throw new IOException("Failed to write buffer to device");
-      }
+      result = device.write(buffer, off, len);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.WRITE, BusTrace.NO_REGISTER, len, -1, start, new IOException(e));
     }
-    if (logger.isDebugEnabled()) {
-      String bufferString = dump(buffer, buffer.length);
-      log(I2C_BUS_DEVICE_WRITE, 0, bufferString);
+    if (result < 0 && DeviceBusManager.getInstance().isSupportsLengthResponse()) {
+      throw failed(TraceOperation.WRITE, BusTrace.NO_REGISTER, len, result, start, new IOException("Failed to write buffer to device"));
     }
+    metrics.recordWrite(len, start);
+    traced(TraceOperation.WRITE, BusTrace.NO_REGISTER, buffer, off, len, result, start);
   }
 
   public void write(int register, byte data) throws IOException {
     byte[] buf = new byte[]{data};
     write(register, buf);
-    if (logger.isDebugEnabled()) {
-      log(I2C_BUS_DEVICE_WRITE, register, String.format("%02X", data));
-    }
   }
 
   public void write(int register, byte[] data) throws IOException {
+    long start = System.nanoTime();
+    int result;
     try {
-      int val = device.writeRegister(register, data);
-      if (val < 0 && DeviceBusManager.getInstance().isSupportsLengthResponse()) {
-        throw new IOException("Failed to write buffer to device");
-      }
+      result = device.writeRegister(register, data);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.WRITE, register, data.length, -1, start, new IOException(e));
     }
-    if (logger.isDebugEnabled()) {
-      String bufferString = dump(data, data.length);
-      log(I2C_BUS_DEVICE_WRITE, register, bufferString);
+    if (result < 0 && DeviceBusManager.getInstance().isSupportsLengthResponse()) {
+      throw failed(TraceOperation.WRITE, register, data.length, result, start, new IOException("Failed to write buffer to device"));
     }
+    metrics.recordWrite(data.length + 1, start);
+    traced(TraceOperation.WRITE, register, data, 0, data.length, result, start);
   }
 
   protected int read(byte[] buffer) throws IOException {
@@ -112,35 +145,34 @@ public abstract class I2CDevice implements Device, AutoCloseable {
   }
 
   protected int read(byte[] buffer, int offset, int length) throws IOException {
-    int read = 0;
+    long start = System.nanoTime();
+    int read;
     try {
       read = device.read(buffer, offset, length);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.READ, BusTrace.NO_REGISTER, length, -1, start, new IOException(e));
     }
     if (read < 0) {
-      throw new IOException("Failed to read from device");
-    }
-    if (logger.isDebugEnabled()) {
-      String bufferString = dump(buffer, read);
-      log(I2C_BUS_DEVICE_READ, 0, bufferString);
+      throw failed(TraceOperation.READ, BusTrace.NO_REGISTER, length, read, start, new IOException("Failed to read from device"));
     }
+    metrics.recordRead(0, read, start);
+    traced(TraceOperation.READ, BusTrace.NO_REGISTER, buffer, offset, length, read, start);
     return read;
   }
 
   public int readRegister(int register) throws IOException {
-    int val = 0;
+    long start = System.nanoTime();
+    int val;
     try {
       val = device.readRegister(register);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.READ, register, 1, -1, start, new IOException(e));
     }
     if (val < 0) {
-      throw new IOException("Failed to read from device");
-    }
-    if (logger.isDebugEnabled()) {
-      log(I2C_BUS_DEVICE_READ, register, String.format("%02X", val));
+      throw failed(TraceOperation.READ, register, 1, val, start, new IOException("Failed to read from device"));
     }
+    metrics.recordRead(1, 1, start);
+    trace.recordByte(device.getBus(), device.getDevice(), register, TraceOperation.READ, val, 1, start);
     return val;
   }
 
@@ -149,44 +181,90 @@ public abstract class I2CDevice implements Device, AutoCloseable {
   }
 
   public int readRegister(int register, byte[] output, int offset, int length) throws IOException {
-    int read = 0;
+    long start = System.nanoTime();
+    int read;
     try {
       read = device.readRegister(register, output, offset, length);
     } catch (Pi4JException e) {
-      throw new IOException(e);
+      throw failed(TraceOperation.READ, register, length, -1, start, new IOException(e));
     }
     if (read < 0) {
-      throw new IOException("Failed to read from the required registers");
+      throw failed(TraceOperation.READ, register, length, read, start, new IOException("Failed to read from the required registers"));
+    }
+    metrics.recordRead(1, read, start);
+    traced(TraceOperation.READ, register, output, offset, length, read, start);
+    return read;
+  }
+
+  public int writeRead(byte[] write, byte[] output, int offset, int length) throws IOException {
+    long start = System.nanoTime();
+    int address = 0;
+    for (byte b : write) {
+      address = (address << 8) | (b & 0xff);
     }
-    if (logger.isDebugEnabled()) {
-      String bufferString = dump(output, read);
-      log(I2C_BUS_DEVICE_READ, register, bufferString);
+    int read;
+    try {
+      read = device.writeRead(write, output, offset, length);
+    } catch (Pi4JException e) {
+      throw failed(TraceOperation.WRITE_READ, address, length, -1, start, new IOException(e));
     }
+    if (read < 0) {
+      throw failed(TraceOperation.WRITE_READ, address, length, read, start, new IOException("Failed to read from the required address"));
+    }
+    metrics.recordRead(write.length, read, start);
+    traced(TraceOperation.WRITE_READ, address, output, offset, length, read, start);
     return read;
   }
 
-  @SuppressWarnings("java:S2274") // The delay here is for a specific I2C device. We release the bus lock which allows other devices access
+  /**
+   * Devices that need time to convert a reading override this to start the conversion and return
+   * the step that completes it, instead of parking the thread in delay(). Once the step completes
+   * the readings are available without any further waits.
+   *
+   * @return the steps required to refresh the readings
+   */
+  public I2CBusStep<Void> startConversion() throws IOException {
+    return I2CBusStep.done();
+  }
+
   @Override
   public void delay(int ms) {
+    long start = System.nanoTime();
     try {
-      log(I2C_BUS_DEVICE_DELAY, ms);
       //this will allow other devices access to the I2C bus while the device waits
-      synchronized (I2CDeviceScheduler.getI2cBusLock()) {
-        I2CDeviceScheduler.getI2cBusLock().wait(ms);
-      }
+      I2CBusArbiter.getArbiter(device.getBus()).delay(ms);
+      metrics.recordDelay(System.nanoTime() - start);
+      traced(TraceOperation.DELAY, BusTrace.NO_REGISTER, null, 0, ms, 0, start);
     } catch (InterruptedException e) {
       // Ignore the interrupt
       Thread.currentThread().interrupt(); // Pass it up
     }
   }
 
-  private void log(DeviceLogMessage message, Object... args) {
-    if (args.length == 2) {
-      logger.log(message, device.getBus(), String.format("%02X", device.getDevice()), args[0], args[1]);
-    } else if (args.length == 1) {
-      logger.log(message, device.getBus(), String.format("%02X", device.getDevice()), args[0]);
-    } else {
-      logger.log(message, device.getBus(), String.format("%02X", device.getDevice()));
+  /**
+   * @return this device's transactions still held in the bus trace, oldest first, one per line
+   */
+  public String dumpTrace() {
+    return trace.dump(device.getBus(), device.getDevice(), trace.getCapacity());
+  }
+
+  private void traced(TraceOperation operation, int register, byte[] data, int offset, int length, int result, long start) {
+    trace.record(device.getBus(), device.getDevice(), register, operation, data, offset, length, result, start);
+  }
+
+  private IOException failed(TraceOperation operation, int register, int length, int result, long start, IOException error) {
+    metrics.recordFailure(start);
+    traced(operation, register, null, 0, length, Math.min(-1, result), start);
+    long now = System.currentTimeMillis();
+    if (now - lastTraceDump >= TRACE_DUMP_INTERVAL) {
+      lastTraceDump = now;
+      logger.log(I2C_BUS_DEVICE_TRACE, device.getBus(), addressName, error.getMessage(),
+          trace.dump(device.getBus(), device.getDevice(), TRACE_DUMP_RECORDS));
     }
+    return error;
+  }
+
+  private void log(DeviceLogMessage message) {
+    logger.log(message, device.getBus(), addressName);
   }
-}
\ No newline at end of file
+}
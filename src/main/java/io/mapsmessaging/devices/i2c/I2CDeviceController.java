@@ -19,10 +19,15 @@ package io.mapsmessaging.devices.i2c;
 import io.mapsmessaging.devices.DeviceController;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.FilteredStateEncoder;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.encoding.StateFormat;
 import io.mapsmessaging.devices.impl.AddressableDevice;
 import io.mapsmessaging.devices.io.SerialisationHelper;
-import io.mapsmessaging.devices.sensorreadings.ComputationResult;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
 import io.mapsmessaging.devices.sensorreadings.SensorReading;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.json.JSONObject;
@@ -39,6 +44,18 @@ public abstract class I2CDeviceController implements DeviceController {
   private final SerialisationHelper serialisationHelper = new SerialisationHelper();
 
   private boolean raiseExceptionOnError = false;
+  private I2CBusPriority priority = I2CBusPriority.NORMAL;
+  private StateFormat stateFormat = StateFormat.JSON;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private StateEncoder stateEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private FilteredStateEncoder filteredEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean filtering;
+  private final ReadingFilter readingFilter = new ReadingFilter();
 
   protected I2CDeviceController() {
     this(null);
@@ -72,25 +89,106 @@ public abstract class I2CDeviceController implements DeviceController {
     return jsonObject.toString(2).getBytes();
   }
 
+  /**
+   * Returns the register configuration in the compact binary format, for backups. The result can be
+   * passed back to updateDeviceConfiguration to restore it.
+   */
+  public byte[] getBinaryConfiguration() throws IOException {
+    I2CDevice device = getDevice();
+    if (device != null) {
+      return serialisationHelper.serialiseBinary(device.getRegisterMap().getData());
+    }
+    return serialisationHelper.serialiseBinary(Map.of());
+  }
+
   @Override
   public byte[] getDeviceState() throws IOException {
     I2CDevice device = getDevice();
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (device instanceof Sensor) {
-      List<SensorReading<?>> readings = ((Sensor) device).getReadings();
-      for (SensorReading<?> reading : readings) {
-        ComputationResult<?> computationResult = reading.getValue();
-        if (!computationResult.hasError()) {
-          jsonObject.put(reading.getName(), computationResult.getResult());
-        } else {
-          if(raiseExceptionOnError){
-            throw new IOException(computationResult.getError());
-          }
-          jsonObject.put(reading.getName(), computationResult.getError().getMessage());
+      readState((Sensor) device, encoder);
+    }
+    return encoder.toByteArray();
+  }
+
+  /**
+   * Builds the state with getDeviceState, passing on only the values the reading filter lets through
+   */
+  @Override
+  public byte[] getDeviceStateChanges() throws IOException {
+    Sensor sensor = getSensor();
+    if (sensor != null && filteredEncoder == null) {
+      readingFilter.setReadings(sensor.getReadings());
+    }
+    filtering = true;
+    try {
+      return getDeviceState();
+    } finally {
+      filtering = false;
+    }
+  }
+
+  @Override
+  public Sensor getSensor() {
+    I2CDevice device = getDevice();
+    return device instanceof Sensor ? (Sensor) device : null;
+  }
+
+  @Override
+  public BusMetrics getBusMetrics() {
+    I2CDevice device = getDevice();
+    return device != null ? device.getMetrics() : null;
+  }
+
+  /**
+   * @return the encoder for this controller's state format, started and ready for the values
+   */
+  protected StateEncoder startState() {
+    if (stateEncoder == null || stateEncoder.getFormat() != stateFormat) {
+      stateEncoder = stateFormat.createEncoder();
+      filteredEncoder = null;
+    }
+    StateEncoder encoder = stateEncoder.start();
+    if (!filtering) {
+      return encoder;
+    }
+    if (filteredEncoder == null) {
+      filteredEncoder = new FilteredStateEncoder(stateFormat);
+    }
+    return filteredEncoder.begin(encoder, readingFilter);
+  }
+
+  private void readState(Sensor sensor, StateEncoder encoder) throws IOException {
+    List<SensorReading<?>> readings = sensor.getReadings();
+    long timestamp = takeSnapshot(sensor);
+    try {
+      for (int x = 0; x < readings.size(); x++) {
+        readings.get(x).read(encoder);
+        if (raiseExceptionOnError && encoder.getError() != null) {
+          throw new IOException(encoder.getError());
         }
       }
+    } finally {
+      if (timestamp != 0) {
+        sensor.releaseSnapshot();
+      }
+    }
+    // The time the readings were taken, which is only worth sending with changes if there are any
+    if (timestamp != 0 && (!filtering || readingFilter.getPassed() > 0)) {
+      stateEncoder.put("timestamp", timestamp);
+    }
+  }
+
+  // If the snapshot fails the readings fall back to reading the device themselves, and report the error
+  private long takeSnapshot(Sensor sensor) throws IOException {
+    try {
+      return sensor.snapshot();
+    } catch (IOException e) {
+      if (raiseExceptionOnError) {
+        throw e;
+      }
+      return 0;
     }
-    return jsonObject.toString(2).getBytes();
   }
 
 
@@ -1,30 +1,48 @@
 package io.mapsmessaging.devices.i2c;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateFormat;
 import io.mapsmessaging.devices.impl.AddressableDevice;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import io.mapsmessaging.devices.util.SchemaCache;
 import io.mapsmessaging.schemas.config.SchemaConfig;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
- * The locking here basically disables multiple access to the same device and will limit the
- * access to the I2C bus. If a device calls delay, then another device can take ownership of the bus
- * and perform any operation required. The device that has called delay will need to wait for the
- * new operation on the I2C bus to complete.
+ * The scheduler queues every request for the device on the bus arbiter, which runs them one at a
+ * time, in submission order, on the bus worker thread. This disables multiple access to the same
+ * device and limits the access to the I2C bus. If a device calls delay, then another device can
+ * take ownership of the bus and perform any operation required. The device that has called delay
+ * will need to wait for the new operation on the I2C bus to complete. Each physical bus has its own
+ * arbiter, so devices on different buses run in parallel.
+ * <p>
+ * Each request, and each step of a stepped request, records in the device's bus metrics how long
+ * it waited for the bus and how long it then held it.
  */
 public class I2CDeviceScheduler extends I2CDeviceController {
 
-  private static final Object I2C_BUS_LOCK = new Object();
   @Getter
   private final I2CDeviceController deviceController;
+  @Getter
+  private final I2CBusArbiter arbiter;
+  private final Object owner;
+  private final BusMetrics metrics;
 
-  public I2CDeviceScheduler(I2CDeviceController deviceController) {
+  public I2CDeviceScheduler(I2CDeviceController deviceController, I2CBusArbiter arbiter) {
     this.deviceController = deviceController;
+    this.arbiter = arbiter;
+    // Drivers may also submit work directly for their device, so both share the same owner
+    owner = deviceController.getDevice() != null ? deviceController.getDevice() : deviceController;
+    metrics = deviceController.getBusMetrics();
   }
 
-  public static Object getI2cBusLock() {
-    return I2C_BUS_LOCK;
+  public static Object getI2cBusLock(int bus) {
+    return I2CBusArbiter.getArbiter(bus).getLock();
   }
 
   @Override
@@ -37,6 +55,26 @@ public class I2CDeviceScheduler extends I2CDeviceController {
     return deviceController.getRaiseExceptionOnError();
   }
 
+  @Override
+  public StateFormat getStateFormat() {
+    return deviceController.getStateFormat();
+  }
+
+  @Override
+  public void setStateFormat(StateFormat format) {
+    deviceController.setStateFormat(format);
+  }
+
+  @Override
+  public I2CBusPriority getPriority() {
+    return deviceController.getPriority();
+  }
+
+  @Override
+  public void setPriority(I2CBusPriority priority) {
+    deviceController.setPriority(priority);
+  }
+
   @Override
   public int getMountedAddress() {
     return deviceController.getMountedAddress();
@@ -54,6 +92,11 @@ public class I2CDeviceScheduler extends I2CDeviceController {
     return getDevice().getType();
   }
 
+  @Override
+  public BusMetrics getBusMetrics() {
+    return metrics;
+  }
+
   @Override
   public String getDescription() {
     return deviceController.getDescription();
@@ -61,34 +104,114 @@ public class I2CDeviceScheduler extends I2CDeviceController {
 
   @Override
   public SchemaConfig getSchema() {
-    return deviceController.getSchema();
+    return SchemaCache.getSchema(deviceController);
+  }
+
+  @Override
+  public String getSchemaFingerprint() {
+    return SchemaCache.getFingerprint(deviceController);
   }
 
   @Override
   public byte[] getDeviceConfiguration() throws IOException {
-    synchronized (deviceController) {
-      synchronized (I2C_BUS_LOCK) {
-        return deviceController.getDeviceConfiguration();
-      }
-    }
+    return arbiter.execute(owner, getPriority(), timed(deviceController::getDeviceConfiguration));
+  }
+
+  @Override
+  public byte[] getBinaryConfiguration() throws IOException {
+    return arbiter.execute(owner, getPriority(), timed(deviceController::getBinaryConfiguration));
   }
 
   @Override
   public byte[] getDeviceState() throws IOException {
-    synchronized (deviceController) {
-      synchronized (I2C_BUS_LOCK) {
-        return deviceController.getDeviceState();
-      }
-    }
+    return arbiter.executeSteps(owner, getPriority(), timedSteps(this::readDeviceState));
+  }
+
+  @Override
+  public byte[] getDeviceStateChanges() throws IOException {
+    return arbiter.executeSteps(owner, getPriority(), timedSteps(() -> afterConversion(deviceController::getDeviceStateChanges)));
+  }
+
+  @Override
+  public ReadingFilter getReadingFilter() {
+    return deviceController.getReadingFilter();
   }
 
   @Override
   public byte[] updateDeviceConfiguration(byte[] val) throws IOException {
-    synchronized (deviceController) {
-      synchronized (I2C_BUS_LOCK) {
-        return deviceController.updateDeviceConfiguration(val);
+    return arbiter.execute(owner, getPriority(), timed(() -> deviceController.updateDeviceConfiguration(val)));
+  }
+
+  public CompletableFuture<byte[]> getDeviceConfigurationAsync() {
+    return arbiter.submit(owner, getPriority(), timed(deviceController::getDeviceConfiguration));
+  }
+
+  public CompletableFuture<byte[]> getDeviceStateAsync() {
+    return arbiter.submitSteps(owner, getPriority(), timedSteps(this::readDeviceState));
+  }
+
+  public CompletableFuture<byte[]> updateDeviceConfigurationAsync(byte[] val) {
+    return arbiter.submit(owner, getPriority(), timed(() -> deviceController.updateDeviceConfiguration(val)));
+  }
+
+  /**
+   * Runs the task on the bus once the device has completed a conversion, the same way the device
+   * state is read, so it can read the device's sensor readings directly
+   */
+  public <T> CompletableFuture<T> submitRead(I2CBusTask<T> task) {
+    return arbiter.submitSteps(owner, getPriority(), timedSteps(() -> afterConversion(task)));
+  }
+
+  private <T> I2CBusTask<T> timed(I2CBusTask<T> task) {
+    if (metrics == null) {
+      return task;
+    }
+    long queued = System.nanoTime();
+    return () -> {
+      long start = System.nanoTime();
+      try {
+        return task.execute();
+      } finally {
+        metrics.recordLock(start - queued, System.nanoTime() - start);
       }
+    };
+  }
+
+  private <T> I2CBusTask<I2CBusStep<T>> timedSteps(I2CBusTask<I2CBusStep<T>> steps) {
+    if (metrics == null) {
+      return steps;
+    }
+    return timedSteps(steps, metrics, System.nanoTime());
+  }
+
+  // A resumed step is counted as waiting from the time it was due to resume, not from its delay
+  private static <T> I2CBusTask<I2CBusStep<T>> timedSteps(I2CBusTask<I2CBusStep<T>> steps, BusMetrics metrics, long due) {
+    return () -> {
+      long start = System.nanoTime();
+      I2CBusStep<T> step;
+      try {
+        step = steps.execute();
+      } finally {
+        metrics.recordLock(start - due, System.nanoTime() - start);
+      }
+      if (step.isComplete()) {
+        return step;
+      }
+      long resume = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(step.getDelay());
+      return I2CBusStep.resumeAfter(step.getDelay(), timedSteps(step::resume, metrics, resume));
+    };
+  }
+
+  private I2CBusStep<byte[]> readDeviceState() throws IOException {
+    return afterConversion(deviceController::getDeviceState);
+  }
+
+  private <T> I2CBusStep<T> afterConversion(I2CBusTask<T> task) throws IOException {
+    I2CDevice device = getDevice();
+    if (device == null) {
+      return I2CBusStep.complete(task.execute());
     }
+    return device.startConversion().andThen(task);
   }
 
   @Override
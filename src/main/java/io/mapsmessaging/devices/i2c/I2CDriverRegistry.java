@@ -0,0 +1,89 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.i2c;
+
+import io.mapsmessaging.devices.logging.DeviceLogMessage;
+import io.mapsmessaging.logging.Logger;
+import io.mapsmessaging.logging.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * The I2C drivers found by the ServiceLoader, loaded once and shared by every bus. Each driver is
+ * held as the controller created by its no argument constructor, which mounts nothing and only
+ * answers for the driver's name, address range and whether it can detect its device.
+ * <p>
+ * The registry is loaded the first time it is used, so the bus manager can start loading it in the
+ * background while the rest of the system starts.
+ */
+public class I2CDriverRegistry {
+
+  private static class Holder {
+    private static final I2CDriverRegistry INSTANCE = new I2CDriverRegistry();
+  }
+
+  public static I2CDriverRegistry getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private final Logger logger = LoggerFactory.getLogger(I2CDriverRegistry.class);
+
+  private final Map<String, I2CDeviceController> drivers;
+  private final Map<Integer, List<I2CDeviceController>> addresses;
+
+  private I2CDriverRegistry() {
+    Map<String, I2CDeviceController> loaded = new LinkedHashMap<>();
+    Map<Integer, List<I2CDeviceController>> mapped = new TreeMap<>();
+    ServiceLoader<I2CDeviceController> deviceEntries = ServiceLoader.load(I2CDeviceController.class);
+    for (I2CDeviceController device : deviceEntries) {
+      loaded.put(device.getName(), device);
+      logger.log(DeviceLogMessage.I2C_BUS_LOADED_DEVICE, device.getName());
+      for (int i : device.getAddressRange()) {
+        logger.log(DeviceLogMessage.I2C_BUS_ALLOCATING_ADDRESS, "0x" + Integer.toHexString(i), device.getName());
+        mapped.computeIfAbsent(i, k -> new ArrayList<>()).add(device);
+      }
+    }
+    for (Map.Entry<Integer, List<I2CDeviceController>> entry : mapped.entrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+    drivers = Collections.unmodifiableMap(loaded);
+    addresses = Collections.unmodifiableMap(mapped);
+  }
+
+  /**
+   * @return the driver with the given name, or null if there is none
+   */
+  public I2CDeviceController get(String name) {
+    return drivers.get(name);
+  }
+
+  /**
+   * @return the drivers for devices that can be at the address, empty if there are none
+   */
+  public List<I2CDeviceController> getDrivers(int address) {
+    return addresses.getOrDefault(address, Collections.emptyList());
+  }
+
+  public Collection<I2CDeviceController> getDrivers() {
+    return drivers.values();
+  }
+
+  public Set<String> getNames() {
+    return drivers.keySet();
+  }
+}
@@ -29,19 +29,41 @@ public class BitsetRegister extends Register {
   private static final int ADDRESS_BITS_PER_WORD = 3; // byte array
   protected byte[] buffer;
 
+  // Contents of the buffer when the current batch was started, null if no batch is in progress
+  private byte[] batch;
+
   public BitsetRegister(I2CDevice sensor, int address, int size, String name) throws IOException {
-    super(sensor, address, name);
+    this(sensor, address, size, name, RegisterType.VOLATILE);
+  }
+
+  public BitsetRegister(I2CDevice sensor, int address, int size, String name, RegisterType type) throws IOException {
+    super(sensor, address, name, type);
     buffer = new byte[size];
     reload();
   }
 
   @Override
   protected void reload() throws IOException {
+    if (held) {
+      return;
+    }
     sensor.readRegister(address, buffer);
+    loaded = true;
+  }
+
+  @Override
+  public int getLength() {
+    return buffer.length;
+  }
+
+  @Override
+  protected void load(byte[] data, int offset) {
+    System.arraycopy(data, offset, buffer, 0, buffer.length);
+    loaded = true;
   }
 
   public int[] getAllSet() throws IOException {
-    reload();
+    refresh();
     boolean hasSet = false;
     for(byte b:buffer){
       if(b != 0){
@@ -56,25 +78,62 @@ public class BitsetRegister extends Register {
   }
 
   public int[] getAllClear() throws IOException {
-    reload();
+    refresh();
     return getAllBits(buffer, false);
   }
 
+  public boolean isBatching() {
+    return batch != null;
+  }
+
+  /**
+   * Starts a batch, subsequent bit changes are only applied locally until {@link #commitBatch()}
+   */
+  public void beginBatch() {
+    if (batch == null) {
+      batch = buffer.clone();
+    }
+  }
+
+  /**
+   * Ends the batch and writes the bytes that changed since it began, as a single write
+   */
+  public void commitBatch() throws IOException {
+    if (batch == null) {
+      return;
+    }
+    int first = -1;
+    int last = -1;
+    for (int x = 0; x < buffer.length; x++) {
+      if (buffer[x] != batch[x]) {
+        if (first < 0) {
+          first = x;
+        }
+        last = x;
+      }
+    }
+    if (first >= 0) {
+      sensor.write(address + first, Arrays.copyOfRange(buffer, first, last + 1));
+    }
+    batch = null;
+    loaded = true;
+  }
+
   public void setAll() throws IOException {
     Arrays.fill(buffer, (byte) 0xff);
-    sensor.write(address, buffer);
+    writeBuffer();
   }
 
   public void clearAll() throws IOException {
     Arrays.fill(buffer, (byte) 0x0);
-    sensor.write(address, buffer);
+    writeBuffer();
   }
 
   public void flipAll() throws IOException {
     for (int i = 0; i < buffer.length; i++) {
       buffer[i] = (byte) ~buffer[i];
     }
-    sensor.write(address, buffer);
+    writeBuffer();
   }
 
   public void set(int bitIndex) throws IOException {
@@ -84,7 +143,7 @@ public class BitsetRegister extends Register {
     int wordIndex = wordIndex(bitIndex);
     int bit = bitIndex % 8;
     buffer[wordIndex] |= (byte) ((1 << bit) & 0xff); // Restores invariants
-    sensor.write(address, buffer);
+    writeBuffer();
   }
 
   public void clear(int bitIndex) throws IOException {
@@ -93,8 +152,8 @@ public class BitsetRegister extends Register {
 
     int wordIndex = wordIndex(bitIndex);
     int bit = bitIndex % 8;
-    buffer[wordIndex] &=(byte) ((1 << bit) & 0xff);
-    sensor.write(address, buffer);
+    buffer[wordIndex] &= (byte) ~(1 << bit);
+    writeBuffer();
   }
 
   public void flip(int bitIndex) throws IOException {
@@ -104,13 +163,13 @@ public class BitsetRegister extends Register {
     int wordIndex = wordIndex(bitIndex);
     int bit = bitIndex % 8;
     buffer[wordIndex] ^= (byte) (1 << bit);
-    sensor.write(address, buffer);
+    writeBuffer();
   }
 
   public boolean get(int bitIndex) throws IOException {
     if (bitIndex < 0)
       throw new IndexOutOfBoundsException(EXCEPTION_NAME + bitIndex);
-    reload();
+    refresh();
     int wordIndex = wordIndex(bitIndex);
     int bit = bitIndex % 8;
     return (wordIndex < buffer.length) && ((buffer[wordIndex] & (byte) (1 << bit)) != 0);
@@ -121,17 +180,26 @@ public class BitsetRegister extends Register {
     throw new IOException("Function not applicable");
   }
 
+  // During a batch the buffer holds changes not yet written, so reloading it would lose them
+  private void refresh() throws IOException {
+    if (batch == null) {
+      reloadIfStale();
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    if (batch == null) {
+      sensor.write(address, buffer);
+      loaded = true;
+    }
+  }
+
   private static int wordIndex(int bitIndex) {
     return bitIndex >> ADDRESS_BITS_PER_WORD;
   }
 
   @Override
   public String toString(int length) {
-    try {
-      reload();
-    } catch (IOException e) {
-      // ignore
-    }
     StringBuilder stringBuilder = new StringBuilder();
     int c = 0;
     for (byte b : buffer) {
@@ -27,13 +27,32 @@ public class MultiByteRegister extends Register {
   protected final byte[] buffer;
 
   public MultiByteRegister(I2CDevice sensor, int address, int size, String name) {
-    super(sensor, address, name);
+    this(sensor, address, size, name, RegisterType.VOLATILE);
+  }
+
+  public MultiByteRegister(I2CDevice sensor, int address, int size, String name, RegisterType type) {
+    super(sensor, address, name, type);
     buffer = new byte[size];
   }
 
   @Override
   public void reload() throws IOException {
+    if (held) {
+      return;
+    }
     sensor.readRegister(address, buffer);
+    loaded = true;
+  }
+
+  @Override
+  public int getLength() {
+    return buffer.length;
+  }
+
+  @Override
+  protected void load(byte[] data, int offset) {
+    System.arraycopy(data, offset, buffer, 0, buffer.length);
+    loaded = true;
   }
 
   @Override
@@ -47,6 +66,7 @@ public class MultiByteRegister extends Register {
       val = val >> 8;
     }
     sensor.write(address, buffer);
+    loaded = true;
   }
 
   protected void write(long val) throws IOException {
@@ -55,6 +75,7 @@ public class MultiByteRegister extends Register {
       val = val >> 8;
     }
     sensor.write(address, buffer);
+    loaded = true;
   }
 
 
@@ -99,11 +120,6 @@ public class MultiByteRegister extends Register {
 
   @Override
   public String toString(int length) {
-    try {
-      reload();
-    } catch (IOException e) {
-
-    }
     StringBuilder stringBuilder = new StringBuilder();
     int c = 0;
     for (byte b : buffer) {
@@ -32,16 +32,64 @@ public abstract class Register {
   @Getter
   protected final String name;
 
+  @Getter
+  protected final RegisterType type;
+
+  // Set once the local copy holds the value from the device
+  protected boolean loaded;
+
+  // Set while RegisterMap.getData() decodes the values it has just read, so they are not read again
+  protected boolean held;
 
   protected Register(I2CDevice sensor, int address, String name) {
+    this(sensor, address, name, RegisterType.VOLATILE);
+  }
+
+  protected Register(I2CDevice sensor, int address, String name, RegisterType type) {
     this.address = address;
     this.sensor = sensor;
     this.name = name;
+    this.type = type;
+    loaded = false;
     sensor.getRegisterMap().addRegister(this);
   }
 
   protected abstract void reload() throws IOException;
 
+  /**
+   * @return true if the register must be read from the device before its value can be used
+   */
+  public boolean isStale() {
+    return type == RegisterType.VOLATILE || !loaded;
+  }
+
+  /**
+   * Forces the next access to read the register from the device, typically after a reset
+   */
+  public void invalidate() {
+    loaded = false;
+  }
+
+  protected void reloadIfStale() throws IOException {
+    if (isStale()) {
+      reload();
+    }
+  }
+
+  /**
+   * Registers that return a non-zero length can be loaded as part of a burst read that spans
+   * neighbouring registers, see {@link #load(byte[], int)}
+   *
+   * @return the number of consecutive bytes the register occupies, or 0 if it must be reloaded on its own
+   */
+  public int getLength() {
+    return 0;
+  }
+
+  protected void load(byte[] data, int offset) {
+    // Only called for registers that report a length
+  }
+
   protected abstract void setControlRegister(int mask, int value) throws IOException;
 
   protected void waitForDevice() {
@@ -20,16 +20,22 @@ import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class RegisterMap {
 
+  // Keep bursts within the SMBus block size so every adapter can handle them
+  private static final int MAX_BURST_LENGTH = 32;
+
   private final Map<Integer, Register> map;
+  private List<Register> sorted;
 
   public RegisterMap() {
     map = new LinkedHashMap<>();
+    sorted = null;
   }
 
   public void addRegister(Register register) {
@@ -38,19 +44,116 @@ public class RegisterMap {
       throw new RuntimeException("Register address collision for address " + register.getAddress() + " Existing:" + existing.name + " New:" + register.name);
     }
     map.put(register.getAddress(), register);
+    sorted = null;
+  }
+
+  /**
+   * Forces every register to be read from the device on next use, typically after the device has
+   * been reset
+   */
+  public void invalidate() {
+    for (Register register : map.values()) {
+      register.invalidate();
+    }
+  }
+
+  /**
+   * Reloads every volatile, or not yet loaded, register from the device. Registers at consecutive
+   * addresses are read with a single burst, if the device supports it, and each register then
+   * decodes its part of the shared buffer.
+   */
+  public void refresh() throws IOException {
+    refresh(0, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Reloads the stale registers whose address is within the range
+   *
+   * @param start the first register address, inclusive
+   * @param end   the last register address, exclusive
+   */
+  public void refresh(int start, int end) throws IOException {
+    List<Register> burst = new ArrayList<>();
+    int burstEnd = -1;
+    for (Register register : getSortedRegisters()) {
+      int address = register.getAddress();
+      if (address < start || address >= end) {
+        continue;
+      }
+      if (!register.isStale()) {
+        continue; // Stable register already holds the device value
+      }
+      int length = register.getLength();
+      if (length <= 0 || register.sensor.getBurstAddress(address) < 0) {
+        load(burst);
+        register.reload();
+        continue;
+      }
+      if (!burst.isEmpty() &&
+          (address != burstEnd || address + length - burst.get(0).getAddress() > MAX_BURST_LENGTH)) {
+        load(burst);
+      }
+      burst.add(register);
+      burstEnd = address + length;
+    }
+    load(burst);
   }
 
+  private void load(List<Register> burst) throws IOException {
+    if (burst.isEmpty()) {
+      return;
+    }
+    Register first = burst.get(0);
+    if (burst.size() == 1) {
+      first.reload();
+    } else {
+      Register last = burst.get(burst.size() - 1);
+      int start = first.getAddress();
+      byte[] buffer = new byte[last.getAddress() + last.getLength() - start];
+      first.sensor.readRegister(first.sensor.getBurstAddress(start), buffer, 0, buffer.length);
+      for (Register register : burst) {
+        register.load(buffer, register.getAddress() - start);
+      }
+    }
+    burst.clear();
+  }
+
+  private List<Register> getSortedRegisters() {
+    if (sorted == null) {
+      List<Register> list = new ArrayList<>(map.values());
+      list.sort(Comparator.comparingInt(Register::getAddress));
+      sorted = list;
+    }
+    return sorted;
+  }
+
+  /**
+   * Reads every register in bursts, then has each register decode the values read rather than
+   * reading itself again
+   */
   public Map<Integer, RegisterData> getData() throws IOException {
     Map<Integer, RegisterData> data = new LinkedHashMap<>();
-    for (Map.Entry<Integer, Register> entry : map.entrySet()) {
-      RegisterData res = entry.getValue().toData();
-      if (res != null) {
-        data.put(entry.getKey(), entry.getValue().toData());
+    refresh();
+    hold(true);
+    try {
+      for (Map.Entry<Integer, Register> entry : map.entrySet()) {
+        RegisterData res = entry.getValue().toData();
+        if (res != null) {
+          data.put(entry.getKey(), res);
+        }
       }
+    } finally {
+      hold(false);
     }
     return data;
   }
 
+  private void hold(boolean flag) {
+    for (Register register : map.values()) {
+      register.held = flag && register.getLength() > 0 && register.loaded;
+    }
+  }
+
   public void setData(Map<Integer, RegisterData> update) throws IOException {
     for (Map.Entry<Integer, RegisterData> entry : update.entrySet()) {
       Register register = map.get(entry.getKey());
@@ -61,17 +164,19 @@ public class RegisterMap {
   }
 
   public String toString() {
+    try {
+      refresh();
+    } catch (IOException e) {
+      // ignore, its a toString() function
+    }
     StringBuilder stringBuilder = new StringBuilder();
-    List<Integer> addressList = new ArrayList<>(map.keySet());
-    addressList.sort(Integer::compareTo);
     int maxLength = map.values().stream()
         .mapToInt(register -> register.getName().length())
         .max()
         .orElse(0);
 
 
-    for (Integer address : addressList) {
-      Register register = map.get(address);
+    for (Register register : getSortedRegisters()) {
       stringBuilder.append("\t").append(register.toString(maxLength)).append("\n");
     }
     return stringBuilder.toString();
@@ -0,0 +1,28 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.i2c.devices;
+
+/**
+ * Describes how a register value may change. Volatile registers hold data or status that the
+ * device updates itself, so they are always read from the device. Stable registers hold
+ * configuration that only changes when written, so they are served from a shadow copy that is
+ * updated on every write and only reloaded after a reset or an explicit invalidation.
+ */
+public enum RegisterType {
+  VOLATILE,
+  STABLE
+}
@@ -25,13 +25,32 @@ public class SingleByteRegister extends Register {
   protected byte registerValue;
 
   public SingleByteRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, name);
+    this(sensor, address, name, RegisterType.VOLATILE);
+  }
+
+  public SingleByteRegister(I2CDevice sensor, int address, String name, RegisterType type) throws IOException {
+    super(sensor, address, name, type);
     reload();
   }
 
   @Override
   protected void reload() throws IOException {
+    if (held) {
+      return;
+    }
     registerValue = (byte) (sensor.readRegister(address) & 0Xff);
+    loaded = true;
+  }
+
+  @Override
+  public int getLength() {
+    return 1;
+  }
+
+  @Override
+  protected void load(byte[] data, int offset) {
+    registerValue = data[offset];
+    loaded = true;
   }
 
   @Override
@@ -42,11 +61,6 @@ public class SingleByteRegister extends Register {
 
 
   public String toString(int length) {
-    try {
-      reload();
-    } catch (IOException e) {
-      // ignore, its a toString() function
-    }
     return displayRegister(length, getAddress(), registerValue);
   }
 }
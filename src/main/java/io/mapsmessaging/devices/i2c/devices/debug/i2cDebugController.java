@@ -30,7 +30,7 @@ public class i2cDebugController extends I2CDeviceController {
 
   public i2cDebugController(AddressableDevice device) {
     super(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       this.device = new i2cDebugDevice(device);
     }
     throwErrror = false;
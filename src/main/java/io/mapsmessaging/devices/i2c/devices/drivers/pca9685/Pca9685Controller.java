@@ -40,7 +40,7 @@ public class Pca9685Controller extends I2CDeviceController {
 
   public Pca9685Controller(AddressableDevice device) throws IOException {
     super(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       this.device = new Pca9685Device(device);
     }
   }
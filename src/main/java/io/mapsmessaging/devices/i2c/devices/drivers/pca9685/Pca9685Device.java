@@ -85,6 +85,9 @@ public class Pca9685Device extends I2CDevice implements Resetable, Output {
 
   public void setAllPWM(int on, int off) throws IOException {
     allLedControlRegisters.setRate(on, off);
+    for (LedControlRegister ledControlRegister : ledControlRegisters) {
+      ledControlRegister.invalidate(); // Updated by the device from ALL_LED
+    }
     mode1Register.restart();
   }
 
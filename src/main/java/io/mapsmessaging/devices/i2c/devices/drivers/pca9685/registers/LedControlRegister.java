@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.drivers.pca9685.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.drivers.pca9685.data.LedControlData;
 
 import java.io.IOException;
@@ -30,8 +31,8 @@ public class LedControlRegister extends MultiByteRegister {
   private static final int FULL_OFF = 0b00010000;
 
   public LedControlRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, 4, name);
-    reload();
+    super(sensor, address, 4, name, RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isFullOn() {
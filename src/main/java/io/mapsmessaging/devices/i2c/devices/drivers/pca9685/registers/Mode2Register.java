@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.drivers.pca9685.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.drivers.pca9685.data.Mode2Data;
 
 import java.io.IOException;
@@ -31,7 +32,7 @@ public class Mode2Register extends SingleByteRegister {
   private static final int OUTNE = 0b00000011;
 
   public Mode2Register(I2CDevice sensor) throws IOException {
-    super(sensor, 1, "MODE2");
+    super(sensor, 1, "MODE2", RegisterType.STABLE);
   }
 
   public boolean isInvertLogic() {
@@ -19,13 +19,14 @@ package io.mapsmessaging.devices.i2c.devices.drivers.pca9685.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.drivers.pca9685.data.PreScaleData;
 
 import java.io.IOException;
 
 public class PreScaleRegister extends SingleByteRegister {
   public PreScaleRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0xFE, "PRE_SCALE");
+    super(sensor, 0xFE, "PRE_SCALE", RegisterType.STABLE);
   }
 
   public void setPWMFrequency(float frequency) throws IOException {
@@ -39,7 +40,7 @@ public class PreScaleRegister extends SingleByteRegister {
   }
 
   public int getPrescale() throws IOException {
-    reload();
+    reloadIfStale();
     return registerValue;
   }
 
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.drivers.pca9685.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.drivers.pca9685.data.SubAddressData;
 
 import java.io.IOException;
@@ -28,11 +29,11 @@ public class SubAddressRegister extends SingleByteRegister {
   private static final int ADDRESS_MASK = 0b11111110;
 
   public SubAddressRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, name);
+    super(sensor, address, name, RegisterType.STABLE);
   }
 
   public int getI2CAddress() throws IOException {
-    reload();
+    reloadIfStale();
     return registerValue >> 1;
   }
 
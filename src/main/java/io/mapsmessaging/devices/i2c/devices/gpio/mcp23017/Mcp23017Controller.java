@@ -17,6 +17,8 @@
 package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.i2c.I2CBusPriority;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -43,6 +45,7 @@ public class Mcp23017Controller extends I2CDeviceController {
 
   protected Mcp23017Controller(AddressableDevice device) throws IOException {
     super(device);
+    setPriority(I2CBusPriority.REAL_TIME);
     sensor = new Mcp23017Device(device);
   }
 
@@ -71,10 +74,7 @@ public class Mcp23017Controller extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
-    if (sensor != null) {
-    }
-    return jsonObject.toString(2).getBytes();
+    return startState().toByteArray();
   }
 
   public SchemaConfig getSchema() {
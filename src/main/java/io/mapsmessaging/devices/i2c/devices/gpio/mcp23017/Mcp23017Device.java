@@ -20,6 +20,8 @@ import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.Gpio;
 import io.mapsmessaging.devices.deviceinterfaces.Resetable;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.i2c.I2CBusArbiter;
+import io.mapsmessaging.devices.i2c.I2CBusPriority;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register.*;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -150,7 +152,8 @@ public class Mcp23017Device extends I2CDevice implements Sensor, Resetable, Gpio
 
   @Override
   public int[] getInterrupted() throws IOException {
-    return intf.getAllSet();
+    // Interrupt flags are latency sensitive so jump ahead of any queued bulk transfers
+    return I2CBusArbiter.getArbiter(getBus()).execute(this, I2CBusPriority.REAL_TIME, intf::getAllSet);
   }
 
   @Override
@@ -163,6 +166,25 @@ public class Mcp23017Device extends I2CDevice implements Sensor, Resetable, Gpio
     gppu.clear(pin);
   }
 
+  @Override
+  public void beginBatch() {
+    for (GenericPinConfigRegister register : getPinRegisters()) {
+      register.beginBatch();
+    }
+  }
+
+  @Override
+  public void commitBatch() throws IOException {
+    for (GenericPinConfigRegister register : getPinRegisters()) {
+      register.commitBatch();
+    }
+  }
+
+  private GenericPinConfigRegister[] getPinRegisters() {
+    // Output levels are written before the direction so pins switched to output do not glitch
+    return new GenericPinConfigRegister[]{ipol, defVal, intCon, gpIntEn, gppu, gpio, ioDir};
+  }
+
   @Override
   public DeviceType getType() {
     return DeviceType.GPIO;
@@ -17,13 +17,14 @@
 package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
 public class DefaultValueRegister extends GenericPinConfigRegister {
 
   public DefaultValueRegister(I2CDevice sensor) throws IOException {
-    super(sensor, (byte) 0x6, "DEFVAL");
+    super(sensor, (byte) 0x6, "DEFVAL", RegisterType.STABLE);
   }
 
 }
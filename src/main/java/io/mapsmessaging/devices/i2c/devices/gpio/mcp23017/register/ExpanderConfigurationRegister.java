@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
@@ -32,8 +33,8 @@ public class ExpanderConfigurationRegister extends SingleByteRegister {
 
 
   public ExpanderConfigurationRegister(I2CDevice sensor, byte address) throws IOException {
-    super(sensor, address, "IOCON");
-    reload();
+    super(sensor, address, "IOCON", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public void clear() throws IOException {
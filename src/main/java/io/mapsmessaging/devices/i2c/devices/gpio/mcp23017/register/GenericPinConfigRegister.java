@@ -18,13 +18,18 @@ package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.BitsetRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
 public abstract class GenericPinConfigRegister extends BitsetRegister {
 
   protected GenericPinConfigRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, 2, name);
+    this(sensor, address, name, RegisterType.VOLATILE);
+  }
+
+  protected GenericPinConfigRegister(I2CDevice sensor, int address, String name, RegisterType type) throws IOException {
+    super(sensor, address, 2, name, type);
   }
 
 }
\ No newline at end of file
@@ -17,12 +17,13 @@
 package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
 public class InterruptControlRegister extends GenericPinConfigRegister {
 
   public InterruptControlRegister(I2CDevice sensor) throws IOException {
-    super(sensor, (byte) 4, "GPINTEN");
+    super(sensor, (byte) 4, "GPINTEN", RegisterType.STABLE);
   }
 }
@@ -17,13 +17,14 @@
 package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
 public class InterruptOnChangeRegister extends GenericPinConfigRegister {
 
   public InterruptOnChangeRegister(I2CDevice sensor) throws IOException {
-    super(sensor, (byte) 0x8, "INTCON");
+    super(sensor, (byte) 0x8, "INTCON", RegisterType.STABLE);
   }
 
 }
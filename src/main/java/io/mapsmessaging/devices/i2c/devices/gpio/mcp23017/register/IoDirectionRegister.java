@@ -17,13 +17,14 @@
 package io.mapsmessaging.devices.i2c.devices.gpio.mcp23017.register;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 
 import java.io.IOException;
 
 public class IoDirectionRegister extends GenericPinConfigRegister {
 
   public IoDirectionRegister(I2CDevice sensor) throws IOException {
-    super(sensor, (byte) 0, "IODIR");
+    super(sensor, (byte) 0, "IODIR", RegisterType.STABLE);
   }
 
 }
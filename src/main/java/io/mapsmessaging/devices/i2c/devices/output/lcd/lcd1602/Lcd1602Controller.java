@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
@@ -49,7 +50,7 @@ public class Lcd1602Controller extends I2CDeviceController {
 
   protected Lcd1602Controller(AddressableDevice device) {
     super(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       display = new Lcd1602Device(device);
       display.clearDisplay();
       display.setRows(2);
@@ -124,11 +125,7 @@ public class Lcd1602Controller extends I2CDeviceController {
 
   @Override
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
-    if (display != null) {
-      //
-    }
-    return jsonObject.toString(2).getBytes();
+    return startState().toByteArray();
   }
 
   @Override
@@ -17,6 +17,7 @@
 package io.mapsmessaging.devices.i2c.devices.output.lcd.lcd1602.backlight;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -67,10 +68,7 @@ public abstract class BacklightPwmController extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
-    if (pwmController != null) {
-    }
-    return jsonObject.toString(2).getBytes();
+    return startState().toByteArray();
   }
 
   public SchemaConfig getSchema() {
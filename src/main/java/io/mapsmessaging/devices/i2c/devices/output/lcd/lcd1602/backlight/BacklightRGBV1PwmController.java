@@ -31,7 +31,7 @@ public class BacklightRGBV1PwmController extends BacklightPwmController {
   }
 
   public I2CDeviceController mount(AddressableDevice device) throws IOException {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       return new BacklightRGBV1PwmController(device);
     }
   }
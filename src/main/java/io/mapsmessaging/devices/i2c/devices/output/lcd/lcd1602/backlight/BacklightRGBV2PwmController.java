@@ -32,7 +32,7 @@ public class BacklightRGBV2PwmController extends BacklightPwmController {
   }
 
   public I2CDeviceController mount(AddressableDevice device) throws IOException {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       return new BacklightRGBV2PwmController(device);
     }
   }
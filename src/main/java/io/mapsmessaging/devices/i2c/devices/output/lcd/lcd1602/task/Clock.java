@@ -27,7 +27,7 @@ public class Clock implements Task {
 
   @Override
   public void run() {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(display.getBus())) {
       display.clearDisplay();
       LocalDate date = LocalDate.now();
       while (runFlag.get()) {
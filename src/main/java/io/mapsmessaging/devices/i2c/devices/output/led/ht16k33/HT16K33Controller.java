@@ -17,6 +17,7 @@
 package io.mapsmessaging.devices.i2c.devices.output.led.ht16k33;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.devices.output.Task;
@@ -82,14 +83,14 @@ public abstract class HT16K33Controller extends I2CDeviceController {
 
   @Override
   public byte[] getDeviceState() {
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (driver != null) {
-      jsonObject.put(DISPLAY, driver.getCurrent());
-      jsonObject.put(BLINK, driver.getRate().name());
-      jsonObject.put(ENABLED, driver.isOn());
-      jsonObject.put(BRIGHTNESS, driver.getBrightness());
+      encoder.put(DISPLAY, driver.getCurrent());
+      encoder.put(BLINK, driver.getRate().name());
+      encoder.put(ENABLED, driver.isOn());
+      encoder.put(BRIGHTNESS, driver.getBrightness());
     }
-    return jsonObject.toString(2).getBytes();
+    return encoder.toByteArray();
   }
 
   public void rawWrite(String value) throws IOException {
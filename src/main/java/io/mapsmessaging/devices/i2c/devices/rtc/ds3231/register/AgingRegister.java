@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.rtc.ds3231.register;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.rtc.ds3231.data.AgingData;
 
 import java.io.IOException;
@@ -10,16 +11,17 @@ import java.io.IOException;
 public class AgingRegister extends SingleByteRegister {
 
   public AgingRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x10, "AGING");
+    super(sensor, 0x10, "AGING", RegisterType.STABLE);
   }
 
   public int getAging() throws IOException {
-    reload();
+    reloadIfStale();
     return registerValue;
   }
 
   public void setAging(int aging) throws IOException {
-    sensor.write(address, (byte) aging);
+    registerValue = (byte) aging;
+    sensor.write(address, registerValue);
   }
 
   @Override
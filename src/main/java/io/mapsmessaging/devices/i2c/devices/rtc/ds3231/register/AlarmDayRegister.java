@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.rtc.ds3231.register;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.rtc.ds3231.data.AlarmDaySettingsData;
 
 import java.io.IOException;
@@ -16,8 +17,8 @@ public class AlarmDayRegister extends SingleByteRegister {
   private static final int TOP       = 0b10000000;
 
   public AlarmDayRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, name);
-    reload();
+    super(sensor, address, name, RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isTopSet() {
@@ -37,7 +38,7 @@ public class AlarmDayRegister extends SingleByteRegister {
   }
 
   public int getDay() throws IOException {
-    reload();
+    reloadIfStale();
     if ((registerValue & DAY_DATE) != 0) {
       return ((registerValue & TEN_DATE) >> 4) * 10 + registerValue & DATE;
     }
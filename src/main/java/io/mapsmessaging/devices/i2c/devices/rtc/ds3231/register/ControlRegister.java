@@ -81,7 +81,7 @@ public class ControlRegister extends SingleByteRegister {
   }
 
   public boolean isAlarm1InterruptEnabled() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & ALARM1_INT) != 0;
   }
 
@@ -90,7 +90,7 @@ public class ControlRegister extends SingleByteRegister {
   }
 
   public boolean isAlarm2InterruptEnabled() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & ALARM2_INT) != 0;
   }
 
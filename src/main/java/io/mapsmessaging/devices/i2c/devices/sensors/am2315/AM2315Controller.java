@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.am2315;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -80,12 +81,12 @@ public class AM2315Controller extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (sensor != null) {
-      jsonObject.put("temperature", sensor.getTemperature());
-      jsonObject.put("humidity", sensor.getHumidity());
+      encoder.put("temperature", sensor.getTemperature());
+      encoder.put("humidity", sensor.getHumidity());
     }
-    return jsonObject.toString(2).getBytes();
+    return encoder.toByteArray();
   }
 
   public SchemaConfig getSchema() {
@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.am2320;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -26,7 +27,6 @@ import io.mapsmessaging.schemas.config.impl.JsonSchemaConfig;
 import lombok.Getter;
 import org.everit.json.schema.NumberSchema;
 import org.everit.json.schema.ObjectSchema;
-import org.json.JSONObject;
 
 import java.io.IOException;
 
@@ -66,10 +66,10 @@ public class AM2320Controller extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
-    jsonObject.put("humidity", sensor.getHumidity());
-    jsonObject.put("temperature", sensor.getTemperature());
-    return jsonObject.toString(2).getBytes();
+    StateEncoder encoder = startState();
+    encoder.put("humidity", sensor.getHumidity());
+    encoder.put("temperature", sensor.getTemperature());
+    return encoder.toByteArray();
   }
 
   @Override
@@ -76,7 +76,7 @@ public class AS3935Sensor extends I2CDevice implements PowerManagement, Sensor,
     calibrateRcoRegister = new CalibrateRcoRegister(this);
     presetDefaultRegister = new PresetDefaultRegister(this);
     this.tuning = tuning;
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(getBus())) {
       powerOn();
       reset();
     }
@@ -109,6 +109,7 @@ public class AS3935Sensor extends I2CDevice implements PowerManagement, Sensor,
     presetDefaultRegister.reset();
     calibrateRcoRegister.reset();
     delay(200);
+    registerMap.invalidate();
     softReset();
   }
 
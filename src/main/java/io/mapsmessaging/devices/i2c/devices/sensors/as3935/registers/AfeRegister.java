@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.as3935.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.as3935.data.AfeData;
 
 import java.io.IOException;
@@ -29,8 +30,8 @@ public class AfeRegister extends SingleByteRegister {
   private static final byte AFE_GAIN_BOOST_BITS = 1;
 
   public AfeRegister(I2CDevice sensor) throws IOException {
-    super(sensor, AFE_GAIN_ADDR, "AFE Gain");
-    reload();
+    super(sensor, AFE_GAIN_ADDR, "AFE Gain", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isPowerDown() {
@@ -44,7 +45,8 @@ public class AfeRegister extends SingleByteRegister {
     } else {
       value &= ~(1 << AFE_GAIN_PD_BIT);
     }
-    sensor.write(AFE_GAIN_ADDR, value);
+    registerValue = value;
+    sensor.write(AFE_GAIN_ADDR, registerValue);
   }
 
   public int getGainBoost() {
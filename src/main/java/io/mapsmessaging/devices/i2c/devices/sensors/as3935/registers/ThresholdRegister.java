@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.as3935.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.as3935.data.ThresholdData;
 
 import java.io.IOException;
@@ -28,8 +29,8 @@ public class ThresholdRegister extends SingleByteRegister {
   private static final int THRESHOLD_NF_LEV_BITS = 4;
 
   public ThresholdRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x1, "Threshold");
-    reload();
+    super(sensor, 0x1, "Threshold", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   // THRESHOLD Register : 1
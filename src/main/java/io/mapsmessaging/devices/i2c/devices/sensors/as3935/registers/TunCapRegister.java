@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.as3935.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.as3935.data.TunCapData;
 
 import java.io.IOException;
@@ -30,7 +31,7 @@ public class TunCapRegister extends SingleByteRegister {
   private static final int TUN_CAP_DISP_SRCO = 0b10000000;
 
   public TunCapRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x08, "Tune Capacitor");
+    super(sensor, 0x08, "Tune Capacitor", RegisterType.STABLE);
   }
 
   public int getTuningCap() {
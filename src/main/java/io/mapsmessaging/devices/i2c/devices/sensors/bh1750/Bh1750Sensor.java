@@ -54,7 +54,7 @@ public class Bh1750Sensor extends I2CDevice implements PowerManagement, Sensor,
     super(device, LoggerFactory.getLogger(Bh1750Sensor.class));
     lastRead = 0;
     readingModeRegister = new ReadingModeRegister(this, 0, "Mode");
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(getBus())) {
       initialise();
     }
     FloatSensorReading luxReading = new FloatSensorReading("lux", "lx", 0, 0xffff, 1, this::getLux);
@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.bmp280;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
@@ -27,7 +28,6 @@ import io.mapsmessaging.schemas.config.impl.JsonSchemaConfig;
 import lombok.Getter;
 import org.everit.json.schema.NumberSchema;
 import org.everit.json.schema.ObjectSchema;
-import org.json.JSONObject;
 
 import java.io.IOException;
 
@@ -60,7 +60,7 @@ public class BMP280Controller extends I2CDeviceController {
   }
 
   public I2CDeviceController mount(AddressableDevice device) throws IOException {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       return new BMP280Controller(device);
     }
   }
@@ -74,10 +74,10 @@ public class BMP280Controller extends I2CDeviceController {
 
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
-    jsonObject.put("pressure", sensor.getPressure());
-    jsonObject.put("temperature", sensor.getTemperature());
-    return jsonObject.toString(2).getBytes();
+    StateEncoder encoder = startState();
+    encoder.put("pressure", sensor.getPressure());
+    encoder.put("temperature", sensor.getTemperature());
+    return encoder.toByteArray();
   }
 
 
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.bmp280;
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.PowerManagement;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.i2c.I2CBusStep;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.sensors.bmp280.values.OversamplingRate;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -35,6 +36,7 @@ public class BMP280Sensor extends I2CDevice implements PowerManagement, Sensor {
 
   public static final byte ADC_READ = (byte) 0x00;
   private static final short sReset = 0x1E;
+  private static final int CONVERSION_TIME = 10;
   private final int[] prom;
   private long C1; // C1
   private long C2; // C2
@@ -108,18 +110,37 @@ public class BMP280Sensor extends I2CDevice implements PowerManagement, Sensor {
     readRegister(command, values, 0, length);
   }
 
-  private void conversion() throws IOException {
-    byte[] readBuffer = new byte[3];
+  @Override
+  public I2CBusStep<Void> startConversion() throws IOException {
+    if (lastRead >= System.currentTimeMillis()) {
+      return I2CBusStep.done();
+    }
     write(OversamplingRate.D2_OSR_4096.getValue());
-    delay(10);
-    read(ADC_READ, 3, readBuffer);
-    D2 = ((readBuffer[0] & 0xFF) << 16) | ((readBuffer[1] & 0xFF) << 8) | ((readBuffer[2] & 0xFF));
+    return I2CBusStep.resumeAfter(CONVERSION_TIME, () -> {
+      D2 = readAdc();
+      write(OversamplingRate.D1_OSR_4096.getValue());
+      return I2CBusStep.resumeAfter(CONVERSION_TIME, () -> {
+        D1 = readAdc();
+        computeValues();
+        return I2CBusStep.done();
+      });
+    });
+  }
 
+  private void conversion() throws IOException {
+    write(OversamplingRate.D2_OSR_4096.getValue());
+    delay(CONVERSION_TIME);
+    D2 = readAdc();
 
     write(OversamplingRate.D1_OSR_4096.getValue());
-    delay(10);
+    delay(CONVERSION_TIME);
+    D1 = readAdc();
+  }
+
+  private int readAdc() throws IOException {
+    byte[] readBuffer = new byte[3];
     read(ADC_READ, 3, readBuffer);
-    D1 = ((readBuffer[0] & 0xFF) << 16) | ((readBuffer[1] & 0xFF) << 8) | ((readBuffer[2] & 0xFF));
+    return ((readBuffer[0] & 0xFF) << 16) | ((readBuffer[1] & 0xFF) << 8) | ((readBuffer[2] & 0xFF));
   }
 
   private void initialise() throws IOException {
@@ -151,19 +172,23 @@ public class BMP280Sensor extends I2CDevice implements PowerManagement, Sensor {
   private void loadValues() throws IOException {
     if (lastRead < System.currentTimeMillis()) {
       conversion();
-      long dT = D2 - (C5 << 8);
-      long t = dT * C6;
-      float temp = (t >> 23);
-      temp += 2000;
-      temperature = temp / 100.0f;
-
-      long off = OFF_T1 + dT * TCO;
-      long sens = SENS_T1 + dT * TCS;
-      pressure = (((float) (D1 * sens / 2097152.0 /* 2^21 */ - off) / 0x8000 /* 2^15 */) / 100.0f);
-      lastRead = System.currentTimeMillis() + 100;
+      computeValues();
     }
   }
 
+  private void computeValues() {
+    long dT = D2 - (C5 << 8);
+    long t = dT * C6;
+    float temp = (t >> 23);
+    temp += 2000;
+    temperature = temp / 100.0f;
+
+    long off = OFF_T1 + dT * TCO;
+    long sens = SENS_T1 + dT * TCS;
+    pressure = (((float) (D1 * sens / 2097152.0 /* 2^21 */ - off) / 0x8000 /* 2^15 */) / 100.0f);
+    lastRead = System.currentTimeMillis() + 100;
+  }
+
   private byte crc4(int[] prom) {
     int cnt; // simple counter
     int nRem; // crc reminder
@@ -17,6 +17,7 @@
 package io.mapsmessaging.devices.i2c.devices.sensors.bno055;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
@@ -47,7 +48,7 @@ public class BNO055Controller extends I2CDeviceController {
 
   protected BNO055Controller(AddressableDevice device) throws IOException {
     super(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       sensor = new BNO055Sensor(device);
     }
   }
@@ -74,14 +75,14 @@ public class BNO055Controller extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (sensor != null) {
       Orientation orientation = sensor.getOrientation();
-      jsonObject.put("heading", orientation.getX());
-      jsonObject.put("roll", orientation.getY());
-      jsonObject.put("pitch", orientation.getZ());
+      encoder.put("heading", orientation.getX());
+      encoder.put("roll", orientation.getY());
+      encoder.put("pitch", orientation.getZ());
     }
-    return jsonObject.toString(2).getBytes();
+    return encoder.toByteArray();
   }
 
   public byte[] getDeviceConfiguration() throws IOException {
@@ -18,8 +18,10 @@ package io.mapsmessaging.devices.i2c.devices.sensors.bno055;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.deviceinterfaces.SensorFrame;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
 import io.mapsmessaging.devices.i2c.devices.sensors.bno055.data.Version;
 import io.mapsmessaging.devices.i2c.devices.sensors.bno055.registers.*;
@@ -30,6 +32,7 @@ import io.mapsmessaging.devices.sensorreadings.Orientation;
 import io.mapsmessaging.devices.sensorreadings.OrientationSensorReading;
 import io.mapsmessaging.devices.sensorreadings.SensorReading;
 import io.mapsmessaging.logging.LoggerFactory;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.IOException;
@@ -75,6 +78,19 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
   private final SingleByteRegister sysClkStatus;
   private final List<SensorReading<?>> readings;
 
+  // All the vector data, from ACCEL_DATA_X through GRAVITY_DATA_Z, read in one transaction by snapshot()
+  private static final int FRAME_START = BNO055Constants.BNO055_ACCEL_DATA_X_LSB_ADDR;
+  private static final int FRAME_LENGTH = BNO055Constants.BNO055_GRAVITY_DATA_Z_MSB_ADDR - FRAME_START + 1;
+
+  @Getter(AccessLevel.NONE)
+  private final SensorFrame frame = new SensorFrame(FRAME_LENGTH, 0);
+
+  // Scratch space reused by every vector read, access to the device is serialised by the bus
+  @Getter(AccessLevel.NONE)
+  private final byte[] vectorBuffer = new byte[8];
+  @Getter(AccessLevel.NONE)
+  private final int[] vectorValues = new int[4];
+
   public BNO055Sensor(AddressableDevice device) throws IOException {
     super(device, LoggerFactory.getLogger(BNO055Sensor.class));
     calibrationStatusRegister = new CalibrationStatusRegister(this);
@@ -82,12 +98,12 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
     errorStatusRegister = new ErrorStatusRegister(this);
 
     chipId = new ChipIdRegister(this);
-    accelRevId = new SingleByteRegister(this, 0x01, "ACCEL_REV_ID");
-    magRevId = new SingleByteRegister(this, 0x02, "MAG_REV_ID");
-    gyroRevId = new SingleByteRegister(this, 0x03, "GYRO_REV_ID");
-    swRevId = new MultiByteRegister(this, 0x04, 2, "SW_REV_ID");
-    blRevId = new SingleByteRegister(this, 0x06, "BL_REV_ID");
-    pageId = new SingleByteRegister(this, 0x07, "PAGE_ID");
+    accelRevId = new SingleByteRegister(this, 0x01, "ACCEL_REV_ID", RegisterType.STABLE);
+    magRevId = new SingleByteRegister(this, 0x02, "MAG_REV_ID", RegisterType.STABLE);
+    gyroRevId = new SingleByteRegister(this, 0x03, "GYRO_REV_ID", RegisterType.STABLE);
+    swRevId = new MultiByteRegister(this, 0x04, 2, "SW_REV_ID", RegisterType.STABLE);
+    blRevId = new SingleByteRegister(this, 0x06, "BL_REV_ID", RegisterType.STABLE);
+    pageId = new SingleByteRegister(this, 0x07, "PAGE_ID", RegisterType.STABLE);
     accelDataX = new AxisRegister(this, 0x08, "ACCEL_DATA_X");
     accelDataY = new AxisRegister(this, 0x0A, "ACCEL_DATA_Y");
     accelDataZ = new AxisRegister(this, 0x0C, "ACCEL_DATA_Z");
@@ -105,15 +121,15 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
     quaternionY = new AxisRegister(this, 0x24, "QUATERNION_Y");
     quaternionZ = new AxisRegister(this, 0x26, "QUATERNION_Z");
 
-    tempSource = new SingleByteRegister(this, 0x34, "TEMP_SOURCE");
+    tempSource = new SingleByteRegister(this, 0x34, "TEMP_SOURCE", RegisterType.STABLE);
     sysClkStatus = new SingleByteRegister(this, 0x38, "SYS_CLK_STATUS");
-    unitSel = new SingleByteRegister(this, 0x3B, "UNIT_SEL");
-    opMode = new SingleByteRegister(this, 0x3D, "OPERATION_MODE");
-    pwrMode = new SingleByteRegister(this, 0x3E, "PWR_MODE");
+    unitSel = new SingleByteRegister(this, 0x3B, "UNIT_SEL", RegisterType.STABLE);
+    opMode = new SingleByteRegister(this, 0x3D, "OPERATION_MODE", RegisterType.STABLE);
+    pwrMode = new SingleByteRegister(this, 0x3E, "PWR_MODE", RegisterType.STABLE);
     sysTrigger = new SingleByteRegister(this, 0x3F, "SYS_TRIGGER");
 
-    axisMapConfig = new MultiByteRegister(this, 0x41, 2, "AXIS_MAP_CONFIG");
-    axisMapSign = new SingleByteRegister(this, 0x42, "AXIS_MAP_SIGN");
+    axisMapConfig = new MultiByteRegister(this, 0x41, 2, "AXIS_MAP_CONFIG", RegisterType.STABLE);
+    axisMapSign = new SingleByteRegister(this, 0x42, "AXIS_MAP_SIGN", RegisterType.STABLE);
 
     initialise();
     readings = new ArrayList<>();
@@ -144,6 +160,7 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
     write(BNO055Constants.BNO055_PWR_MODE_ADDR, BNO055Constants.POWER_MODE_NORMAL);
     write(BNO055Constants.BNO055_SYS_TRIGGER_ADDR, (byte) 0x0);
     setOperationalMode();
+    registerMap.invalidate();
   }
 
   @Override
@@ -161,6 +178,7 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
 
   private void setMode(byte mode) throws IOException {
     write(BNO055Constants.BNO055_OPR_MODE_ADDR, mode);
+    opMode.invalidate();
     delay(30);
   }
 
@@ -216,23 +234,44 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
 
   public float[] getQuaternion() throws IOException {
     int[] res = readVector(BNO055Constants.BNO055_QUATERNION_DATA_W_LSB_ADDR, 4);
-    float[] ret = new float[res.length];
+    float[] ret = new float[4];
     float scale = 1.0f / (1 << 14);
-    for (int x = 0; x < res.length; x++) {
+    for (int x = 0; x < ret.length; x++) {
       ret[x] = res[x] * scale;
     }
     return ret;
   }
 
+  // Returns the shared scratch array, only the first size entries are valid
   private int[] readVector(byte address, int size) throws IOException {
-    byte[] buffer = new byte[size * 2];
-    readRegister(address, buffer, 0, buffer.length);
-    int[] ret = new int[size];
+    loadVector(address, size * 2);
     for (int x = 0; x < size; x++) {
-      int low = (buffer[x * 2] & 0xff);
-      ret[x] = low | buffer[x * 2 + 1] << 8;
+      int low = (vectorBuffer[x * 2] & 0xff);
+      vectorValues[x] = low | vectorBuffer[x * 2 + 1] << 8;
     }
-    return ret;
+    return vectorValues;
+  }
+
+  // Fills the scratch buffer from the held snapshot, or from the device if there is no snapshot
+  private void loadVector(byte address, int length) throws IOException {
+    if (frame.isStale()) {
+      readRegister(address, vectorBuffer, 0, length);
+    } else {
+      System.arraycopy(frame.getData(), address - FRAME_START, vectorBuffer, 0, length);
+    }
+  }
+
+  @Override
+  public long snapshot() throws IOException {
+    readRegister(FRAME_START, frame.getData(), 0, FRAME_LENGTH);
+    frame.loaded();
+    frame.hold();
+    return frame.getTimestamp();
+  }
+
+  @Override
+  public void releaseSnapshot() {
+    frame.release();
   }
 
   public SystemErrorStatus getErrorStatus() throws IOException {
@@ -250,11 +289,10 @@ public class BNO055Sensor extends I2CDevice implements Sensor {
   }
 
   public Orientation getOrientation() throws IOException {
-    byte[] buffer = new byte[6];
-    readRegister(BNO055Constants.BNO055_EULER_H_LSB_ADDR, buffer, 0, 6);
-    double heading = convert(buffer[0], buffer[1]) / 16.0;
-    double roll = convert(buffer[2], buffer[3]) / 16.0;
-    double pitch = convert(buffer[4], buffer[5]) / 16.0;
+    loadVector(BNO055Constants.BNO055_EULER_H_LSB_ADDR, 6);
+    double heading = convert(vectorBuffer[0], vectorBuffer[1]) / 16.0;
+    double roll = convert(vectorBuffer[2], vectorBuffer[3]) / 16.0;
+    double pitch = convert(vectorBuffer[4], vectorBuffer[5]) / 16.0;
     return new Orientation(heading, roll, pitch);
   }
 
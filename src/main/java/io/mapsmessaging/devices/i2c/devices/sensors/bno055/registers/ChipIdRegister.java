@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.bno055.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.bno055.data.ChipIdData;
 
 import java.io.IOException;
@@ -26,8 +27,8 @@ import java.io.IOException;
 public class ChipIdRegister extends SingleByteRegister {
 
   public ChipIdRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x0, "CHIP_ID");
-    reload();
+    super(sensor, 0x0, "CHIP_ID", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public int getChipId() {
@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.gravity;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.i2c.I2CBusStep;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.sensors.gravity.module.SensorType;
 import io.mapsmessaging.devices.i2c.devices.sensors.gravity.registers.*;
@@ -75,6 +76,11 @@ public class GasSensor extends I2CDevice implements Sensor {
     readings = List.of(temperature, concentration, concentrationTempAdj);
   }
 
+  @Override
+  public I2CBusStep<Void> startConversion() throws IOException {
+    return sensorReadingRegister.refresh();
+  }
+
   protected float getTemperatureAdjustedConcentration() throws IOException {
     float concentration = concentrationRegister.getConcentration();
     if (sensorType != null && concentration > 0) {
@@ -17,6 +17,7 @@
 package io.mapsmessaging.devices.i2c.devices.sensors.gravity;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.i2c.I2CBusPriority;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
@@ -37,6 +38,7 @@ public class GasSensorController extends I2CDeviceController {
 
   public GasSensorController(AddressableDevice device) throws IOException {
     super(device);
+    setPriority(I2CBusPriority.BACKGROUND);
     sensor = new GasSensor(device);
   }
 
@@ -46,7 +48,7 @@ public class GasSensorController extends I2CDeviceController {
   }
 
   public I2CDeviceController mount(AddressableDevice device) throws IOException {
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       return new GasSensorController(device);
     }
   }
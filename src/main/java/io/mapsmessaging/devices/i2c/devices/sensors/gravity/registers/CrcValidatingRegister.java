@@ -26,6 +26,8 @@ import static java.lang.Math.log;
 
 public class CrcValidatingRegister extends Register {
 
+  protected static final int RESPONSE_DELAY = 100;
+
   private final Command command;
 
   public CrcValidatingRegister(I2CDevice sensor, Command command) {
@@ -61,9 +63,17 @@ public class CrcValidatingRegister extends Register {
   }
 
   protected boolean request(byte[] buf, byte[] result) throws IOException {
+    sendRequest(buf);
+    sensor.delay(RESPONSE_DELAY);
+    return readResponse(result);
+  }
+
+  protected void sendRequest(byte[] buf) throws IOException {
     buf[0] = command.getCommandValue();
     sensor.write(pack(buf));
-    sensor.delay(100);
+  }
+
+  protected boolean readResponse(byte[] result) throws IOException {
     sensor.readRegister(0, result, 0, result.length);
     byte checksum = calculateChecksum(result);
     return (result[8] == checksum);
@@ -1,5 +1,6 @@
 package io.mapsmessaging.devices.i2c.devices.sensors.gravity.registers;
 
+import io.mapsmessaging.devices.i2c.I2CBusStep;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.sensors.gravity.config.Command;
 
@@ -27,17 +28,35 @@ public class SensorReadingRegister extends CrcValidatingRegister {
   }
 
 
+  public I2CBusStep<Void> refresh() throws IOException {
+    if (lastRead >= System.currentTimeMillis()) {
+      return I2CBusStep.done();
+    }
+    byte[] data = new byte[9];
+    sendRequest(new byte[6]);
+    return I2CBusStep.resumeAfter(RESPONSE_DELAY, () -> {
+      if (readResponse(data)) {
+        parse(data);
+      }
+      lastRead = System.currentTimeMillis() + 100;
+      return I2CBusStep.done();
+    });
+  }
+
   private void updateAllFields() throws IOException {
     if (lastRead < System.currentTimeMillis()) {
       byte[] data = new byte[9];
       if (request(new byte[6], data)) {
-        concentration = (data[2] << 8 | (data[3] & 0xff));
-        concentration = adjustPowers(data[5], concentration);
-        int raw = data[6] << 8 | (data[7] & 0xff);
-        temperature = computeTemperature(raw);
+        parse(data);
       }
       lastRead = System.currentTimeMillis() + 100;
     }
   }
 
+  private void parse(byte[] data) {
+    concentration = (data[2] << 8 | (data[3] & 0xff));
+    concentration = adjustPowers(data[5], concentration);
+    int raw = data[6] << 8 | (data[7] & 0xff);
+    temperature = computeTemperature(raw);
+  }
 }
@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.ina219;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.devices.sensors.ina219.registers.*;
@@ -127,14 +128,14 @@ public class Ina219Controller extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (sensor != null) {
-      jsonObject.put("current", sensor.getCurrent());
-      jsonObject.put("shuntVoltage", sensor.getShuntVoltage());
-      jsonObject.put("busVoltage", sensor.getBusVoltage());
-      jsonObject.put("power", sensor.getPower());
+      encoder.put("current", sensor.getCurrent());
+      encoder.put("shuntVoltage", sensor.getShuntVoltage());
+      encoder.put("busVoltage", sensor.getBusVoltage());
+      encoder.put("power", sensor.getPower());
     }
-    return jsonObject.toString(2).getBytes();
+    return encoder.toByteArray();
   }
 
   public SchemaConfig getSchema() {
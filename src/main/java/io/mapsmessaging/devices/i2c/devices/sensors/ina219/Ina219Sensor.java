@@ -21,11 +21,15 @@ import io.mapsmessaging.devices.deviceinterfaces.Sensor;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.sensors.ina219.registers.*;
 import io.mapsmessaging.devices.impl.AddressableDevice;
+import io.mapsmessaging.devices.sensorreadings.FloatSensorReading;
+import io.mapsmessaging.devices.sensorreadings.IntegerSensorReading;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
 import io.mapsmessaging.logging.LoggerFactory;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Getter
 public class Ina219Sensor extends I2CDevice implements Sensor {
@@ -49,6 +53,8 @@ public class Ina219Sensor extends I2CDevice implements Sensor {
   @Setter
   private ShuntADCResolution shuntADCResolution;
 
+  private final List<SensorReading<?>> readings;
+
   public Ina219Sensor(AddressableDevice device) throws IOException {
     super(device, LoggerFactory.getLogger(Ina219Sensor.class));
     adcResolution = ADCResolution.RES_12BIT;
@@ -57,6 +63,12 @@ public class Ina219Sensor extends I2CDevice implements Sensor {
     operatingMode = OperatingMode.BVOLT_CONTINUOUS;
     shuntADCResolution = ShuntADCResolution.RES_12BIT_1S_532US;
     setCalibration();
+    // The same values, and names, as the controller's state, in register units
+    IntegerSensorReading current = new IntegerSensorReading("current", "mA", -32768, 32767, this::getCurrent);
+    FloatSensorReading shuntVoltage = new FloatSensorReading("shuntVoltage", "mV", -320, 320, 2, () -> (float) getShuntVoltage());
+    IntegerSensorReading busVoltage = new IntegerSensorReading("busVoltage", "4mV", 0, 8191, this::getBusVoltage);
+    IntegerSensorReading power = new IntegerSensorReading("power", "raw", 0, 65535, this::getPower);
+    readings = List.of(current, shuntVoltage, busVoltage, power);
   }
 
   @Override
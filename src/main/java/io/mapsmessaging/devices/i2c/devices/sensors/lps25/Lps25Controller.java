@@ -29,7 +29,7 @@ public class Lps25Controller extends I2CDeviceController {
   public Lps25Controller(AddressableDevice device) throws IOException {
     super(device);
     sensor = new Lps25Sensor(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    synchronized (I2CDeviceScheduler.getI2cBusLock(sensor.getBus())) {
       sensor.softReset();
       sensor.setPowerDownMode(true);
       sensor.getControl1().setDataRate(DataRate.RATE_7_HZ);
@@ -84,6 +84,12 @@ public class Lps25Sensor extends I2CDevice implements Sensor, Resetable {
     return getName() + " - " + getDescription() + "\n" + registerMap.toString();
   }
 
+  // The register pointer only advances when bit 7 of the sub address is set
+  @Override
+  public int getBurstAddress(int register) {
+    return register | 0x80;
+  }
+
   @Override
   public boolean isConnected() {
     return true;
@@ -110,11 +116,13 @@ public class Lps25Sensor extends I2CDevice implements Sensor, Resetable {
 
   public void reset() throws IOException {
     control2.reset();
+    registerMap.invalidate();
   }
 
   @Override
   public void softReset() throws IOException {
     control2.boot();
+    registerMap.invalidate();
   }
 
   //region Pressure Out Registers
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.Control3Data;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.values.DataReadyInterrupt;
 
@@ -33,8 +34,8 @@ public class Control3 extends SingleByteRegister {
   private static final byte INTERRUPT_SIGNAL = 0b00000011;
 
   public Control3(I2CDevice sensor) throws IOException {
-    super(sensor, CONTROL_REGISTER3, "CTRL_REG3");
-    reload();
+    super(sensor, CONTROL_REGISTER3, "CTRL_REG3", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isInterruptActive() {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.Control4Data;
 
 import java.io.IOException;
@@ -33,8 +34,8 @@ public class Control4 extends SingleByteRegister {
   private static final byte DATA_READY = 0b00000001;
 
   public Control4(I2CDevice sensor) throws IOException {
-    super(sensor, CONTROL_REGISTER4, "CTRL_REG4");
-    reload();
+    super(sensor, CONTROL_REGISTER4, "CTRL_REG4", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public void enabledFiFoEmptyInterrupt(boolean flag) throws IOException {
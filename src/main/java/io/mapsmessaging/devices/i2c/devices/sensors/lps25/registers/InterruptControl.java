@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.InterruptControlData;
 
 import java.io.IOException;
@@ -16,8 +17,8 @@ public class InterruptControl extends SingleByteRegister {
 
 
   public InterruptControl(I2CDevice sensor) throws IOException {
-    super(sensor, INTERRUPT_CONTROL, "INTERRUPT_CFG");
-    reload();
+    super(sensor, INTERRUPT_CONTROL, "INTERRUPT_CFG", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public void setLatchInterruptEnable(boolean flag) throws IOException {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.PressureOffsetData;
 
 import java.io.IOException;
@@ -26,7 +27,7 @@ import java.io.IOException;
 public class PressureOffset extends MultiByteRegister {
 
   public PressureOffset(I2CDevice sensor) {
-    super(sensor, 0x39 | 0x80, 2, "RPDS");
+    super(sensor, 0x39 | 0x80, 2, "RPDS", RegisterType.STABLE);
   }
 
   @Override
@@ -35,7 +36,7 @@ public class PressureOffset extends MultiByteRegister {
   }
 
   public int getPressureOffset() throws IOException {
-    reload();
+    reloadIfStale();
     return asInt();
   }
 
@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.ResolutionData;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.values.PressureAverage;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.values.TemperatureAverage;
@@ -16,7 +17,7 @@ public class ResolutionRegister extends SingleByteRegister {
   private static final byte AVE_TEMPERATURE_MASK = 0b00001100;
 
   public ResolutionRegister(I2CDevice sensor) throws IOException {
-    super(sensor, RESOLUTION_ADDRESS, "RES_CONF");
+    super(sensor, RESOLUTION_ADDRESS, "RES_CONF", RegisterType.STABLE);
   }
 
   public PressureAverage getPressureAverage() {
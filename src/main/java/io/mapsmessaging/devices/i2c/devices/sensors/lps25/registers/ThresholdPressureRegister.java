@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.ThresholdPressureData;
 
 import java.io.IOException;
@@ -26,7 +27,7 @@ import java.io.IOException;
 public class ThresholdPressureRegister extends MultiByteRegister {
 
   public ThresholdPressureRegister(I2CDevice sensor) {
-    super(sensor, 0x30 | 0x80, 2, "THS_P");
+    super(sensor, 0x30 | 0x80, 2, "THS_P", RegisterType.STABLE);
   }
 
   @Override
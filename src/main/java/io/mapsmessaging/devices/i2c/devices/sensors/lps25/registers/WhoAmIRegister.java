@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps25.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps25.data.WhoAmIData;
 
 import java.io.IOException;
@@ -26,7 +27,7 @@ import java.io.IOException;
 public class WhoAmIRegister extends SingleByteRegister {
 
   public WhoAmIRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x0F, "WHO_AM_I");
+    super(sensor, 0x0F, "WHO_AM_I", RegisterType.STABLE);
   }
 
   public int getWhoAmI() {
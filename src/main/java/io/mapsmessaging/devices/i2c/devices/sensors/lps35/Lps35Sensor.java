@@ -106,12 +106,14 @@ public class Lps35Sensor extends I2CDevice implements Sensor, Resetable {
   @Override
   public void reset() throws IOException {
     control2Register.boot();
+    registerMap.invalidate();
     initialise();
   }
 
   @Override
   public void softReset() throws IOException {
     control2Register.softReset();
+    registerMap.invalidate();
   }
 
   protected float getPressure() throws IOException {
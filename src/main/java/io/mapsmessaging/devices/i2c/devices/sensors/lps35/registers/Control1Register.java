@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps35.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.data.Control1Data;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.values.DataRate;
 
@@ -32,8 +33,8 @@ public class Control1Register extends SingleByteRegister {
   private static final int BLOCK_UPDATE = 0b00000010;
 
   public Control1Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x10, "CTRL_REG1");
-    reload();
+    super(sensor, 0x10, "CTRL_REG1", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public DataRate getDataRate() {
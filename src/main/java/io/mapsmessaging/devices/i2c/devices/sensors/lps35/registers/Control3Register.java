@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps35.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.data.Control3Data;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.values.DataReadyInterrupt;
 
@@ -34,8 +35,8 @@ public class Control3Register extends SingleByteRegister {
   private static final int SIGNAL_ON_INTERRUPT = 0b00000011;
 
   public Control3Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x12, "CTRL_REG3");
-    reload();
+    super(sensor, 0x12, "CTRL_REG3", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isInterruptActive() {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps35.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.data.FiFoControlData;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.values.FiFoMode;
 
@@ -32,8 +33,8 @@ public class FiFoControlRegister extends SingleByteRegister {
   private static final byte FIFO_THRESHOLD = 0b00011111;
 
   public FiFoControlRegister(I2CDevice sensor) throws IOException {
-    super(sensor, FIFO_CONTROL, "FIFO_CTRL");
-    reload();
+    super(sensor, FIFO_CONTROL, "FIFO_CTRL", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public FiFoMode getFifoMode() {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps35.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.data.LowPowerMode;
 
 import java.io.IOException;
@@ -28,8 +29,8 @@ public class LowPowerModeRegister extends SingleByteRegister {
   private static final byte LC_EN = (byte) 0b00000001;
 
   public LowPowerModeRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x1A, "RES_CONF");
-    reload();
+    super(sensor, 0x1A, "RES_CONF", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean isLowCurrentMode() {
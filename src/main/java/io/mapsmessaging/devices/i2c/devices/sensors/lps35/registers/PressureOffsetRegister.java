@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.lps35.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.lps35.data.PressureOffsetData;
 
 import java.io.IOException;
@@ -26,12 +27,12 @@ import java.io.IOException;
 public class PressureOffsetRegister extends MultiByteRegister {
 
   public PressureOffsetRegister(I2CDevice sensor) {
-    super(sensor, 0x18, 2, "RPDS");
+    super(sensor, 0x18, 2, "RPDS", RegisterType.STABLE);
   }
 
 
   public int getPressureOffset() throws IOException {
-    reload();
+    reloadIfStale();
     return asInt();
   }
 
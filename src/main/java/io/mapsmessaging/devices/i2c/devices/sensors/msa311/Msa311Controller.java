@@ -17,6 +17,7 @@
 package io.mapsmessaging.devices.i2c.devices.sensors.msa311;
 
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.i2c.I2CBusPriority;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
@@ -44,7 +45,8 @@ public class Msa311Controller extends I2CDeviceController {
 
   public Msa311Controller(AddressableDevice device) throws IOException {
     super(device);
-    synchronized (I2CDeviceScheduler.getI2cBusLock()) {
+    setPriority(I2CBusPriority.REAL_TIME);
+    synchronized (I2CDeviceScheduler.getI2cBusLock(device.getBus())) {
       sensor = new Msa311Sensor(device);
     }
   }
@@ -192,6 +192,7 @@ public class Msa311Sensor extends I2CDevice implements Sensor, PowerManagement,
   @Override
   public void reset() throws IOException {
     resetRegister.reset();
+    registerMap.invalidate();
   }
 
   @Override
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.ActiveDurData;
 
 import java.io.IOException;
@@ -28,17 +29,18 @@ public class ActiveDurRegister extends SingleByteRegister {
   private static final byte DURATION_MASK = 0b00000011;
 
   public ActiveDurRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x27, "Active_Dur");
+    super(sensor, 0x27, "Active_Dur", RegisterType.STABLE);
   }
 
   public int getDuration() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & DURATION_MASK) + 1;
   }
 
   public void setDuration(int duration) throws IOException {
     int value = (registerValue & ~DURATION_MASK) | ((duration - 1) & DURATION_MASK);
-    sensor.write(address, (byte) value);
+    registerValue = (byte) value;
+    sensor.write(address, registerValue);
   }
 
   @Override
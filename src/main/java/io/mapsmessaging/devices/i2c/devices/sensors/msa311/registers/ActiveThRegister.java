@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.ActiveThData;
 
 import java.io.IOException;
@@ -28,12 +29,12 @@ public class ActiveThRegister extends SingleByteRegister {
   private final RangeRegister rangeRegister;
 
   public ActiveThRegister(I2CDevice sensor, RangeRegister rangeRegister) throws IOException {
-    super(sensor, 0x28, "Active_Th");
+    super(sensor, 0x28, "Active_Th", RegisterType.STABLE);
     this.rangeRegister = rangeRegister;
   }
 
   public double getThreshold() throws IOException {
-    reload();
+    reloadIfStale();
     int value = registerValue & 0xFF;
     return value * rangeRegister.getRange().getThresholdMultiplier();
   }
@@ -41,7 +42,8 @@ public class ActiveThRegister extends SingleByteRegister {
   public void setThreshold(double threshold) throws IOException {
     double sensitivityFactor = rangeRegister.getRange().getThresholdMultiplier();
     int value = (int) Math.round(threshold / sensitivityFactor);
-    sensor.write(address, (byte) value);
+    registerValue = (byte) value;
+    sensor.write(address, registerValue);
   }
 
   @Override
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.FreefallHyData;
 
 import java.io.IOException;
@@ -29,11 +30,11 @@ public class FreefallHyRegister extends SingleByteRegister {
   private static final byte HYSTERESIS_MASK = 0b00000011;
 
   public FreefallHyRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x24, "Freefall_Hy");
+    super(sensor, 0x24, "Freefall_Hy", RegisterType.STABLE);
   }
 
   public boolean isFreefallModeEnabled() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & FREEFALL_MODE) != 0;
   }
 
@@ -47,14 +48,15 @@ public class FreefallHyRegister extends SingleByteRegister {
   }
 
   public int getHysteresis() throws IOException {
-    reload();
+    reloadIfStale();
     return registerValue & HYSTERESIS_MASK;
   }
 
   public void setHysteresis(int hysteresis) throws IOException {
     int value = registerValue & ~HYSTERESIS_MASK;
     value |= hysteresis & HYSTERESIS_MASK;
-    sensor.write(address, (byte) value);
+    registerValue = (byte) value;
+    sensor.write(address, registerValue);
   }
 
   @Override
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.FreefallThData;
 
 import java.io.IOException;
@@ -26,11 +27,11 @@ import java.io.IOException;
 public class FreefallThRegister extends SingleByteRegister {
 
   public FreefallThRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x23, "Freefall_Th");
+    super(sensor, 0x23, "Freefall_Th", RegisterType.STABLE);
   }
 
   public float getFreefallThreshold() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & 0xFF) * 7.81F;
   }
 
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.IntConfigData;
 
 import java.io.IOException;
@@ -29,7 +30,7 @@ public class IntConfigRegister extends SingleByteRegister {
   private static final byte INT1_LVL = (byte) 0b00000010;
 
   public IntConfigRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x20, "Int_Config");
+    super(sensor, 0x20, "Int_Config", RegisterType.STABLE);
   }
 
   public void setInt1OutputType(boolean openDrain) throws IOException {
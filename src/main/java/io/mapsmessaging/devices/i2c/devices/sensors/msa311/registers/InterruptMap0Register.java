@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.InterruptMap0Data;
 
 import java.io.IOException;
@@ -32,7 +33,7 @@ public class InterruptMap0Register extends SingleByteRegister {
   private static final byte INT1_FREEFALL = (byte) 0b00000001;
 
   public InterruptMap0Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x19, "Int_Map_0");
+    super(sensor, 0x19, "Int_Map_0", RegisterType.STABLE);
   }
 
   public void mapOrientationInterruptToInt1(boolean enable) throws IOException {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.InterruptMap1Data;
 
 import java.io.IOException;
@@ -28,7 +29,7 @@ public class InterruptMap1Register extends SingleByteRegister {
   private static final byte INT1_NEW_DATA = (byte) 0b00000001;
 
   public InterruptMap1Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x1A, "Int_Map_1");
+    super(sensor, 0x1A, "Int_Map_1", RegisterType.STABLE);
   }
 
   public void mapNewDataInterruptToInt1(boolean enable) throws IOException {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.InterruptSet0Data;
 
 import java.io.IOException;
@@ -33,7 +34,7 @@ public class InterruptSet0Register extends SingleByteRegister {
   private static final byte ACTIVE_INT_EN_X = (byte) 0b00000001;
 
   public InterruptSet0Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x16, "Int_Set_0");
+    super(sensor, 0x16, "Int_Set_0", RegisterType.STABLE);
   }
 
   public boolean isOrientInterruptEnabled() {
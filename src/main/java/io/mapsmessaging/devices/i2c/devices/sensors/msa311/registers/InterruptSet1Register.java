@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.InterruptSet1Data;
 
 import java.io.IOException;
@@ -29,7 +30,7 @@ public class InterruptSet1Register extends SingleByteRegister {
   private static final byte FREEFALL_INT_EN = (byte) 0b01000;
 
   public InterruptSet1Register(I2CDevice sensor) throws IOException {
-    super(sensor, 0x17, "Int_Set_1");
+    super(sensor, 0x17, "Int_Set_1", RegisterType.STABLE);
   }
 
   public boolean isNewDataInterruptEnabled() {
@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.OdrData;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.Odr;
 
@@ -15,11 +16,11 @@ public class OdrRegister extends SingleByteRegister {
   private static final byte DISABLE_Z_AXIS = 0b00100000;
 
   public OdrRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x10, "ODR");
+    super(sensor, 0x10, "ODR", RegisterType.STABLE);
   }
 
   public Odr getOdr() throws IOException {
-    reload();
+    reloadIfStale();
     int val = registerValue & 0b1111;
     for (Odr odr : Odr.values()) {
       if (odr.getMask() == val) {
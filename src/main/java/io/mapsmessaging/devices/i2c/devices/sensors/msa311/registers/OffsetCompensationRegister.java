@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.OffsetCompensationData;
 
 import java.io.IOException;
@@ -26,11 +27,11 @@ import java.io.IOException;
 public class OffsetCompensationRegister extends SingleByteRegister {
 
   public OffsetCompensationRegister(I2CDevice sensor, int address, String name) throws IOException {
-    super(sensor, address, name);
+    super(sensor, address, name, RegisterType.STABLE);
   }
 
   public int getOffset() throws IOException {
-    reload();
+    reloadIfStale();
     return registerValue & 0xFF;
   }
 
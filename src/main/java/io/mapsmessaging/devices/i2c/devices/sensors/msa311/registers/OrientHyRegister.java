@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.OrientHyData;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.OrientBlocking;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.OrientMode;
@@ -32,11 +33,11 @@ public class OrientHyRegister extends SingleByteRegister {
 
 
   public OrientHyRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x2C, "Orient_Hy");
+    super(sensor, 0x2C, "Orient_Hy", RegisterType.STABLE);
   }
 
   public int getOrientHysteresis() throws IOException {
-    reload();
+    reloadIfStale();
     return ((registerValue & 0xff) & ORIENT_HYST_MASK) >> 4;
   }
 
@@ -46,7 +47,7 @@ public class OrientHyRegister extends SingleByteRegister {
 
 
   public OrientBlocking getOrientBlocking() throws IOException {
-    reload();
+    reloadIfStale();
     int maskedValue = (registerValue & ORIENT_BLOCKING_MASK) >> 2;
     return OrientBlocking.fromValue(maskedValue);
   }
@@ -57,7 +58,7 @@ public class OrientHyRegister extends SingleByteRegister {
   }
 
   public OrientMode getOrientMode() throws IOException {
-    reload();
+    reloadIfStale();
     int maskedValue = (registerValue & ORIENT_MODE_MASK);
     return OrientMode.fromValue(maskedValue);
   }
@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.PowerModeData;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.LowPowerBandwidth;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.PowerMode;
@@ -12,11 +13,11 @@ import java.io.IOException;
 public class PowerModeRegister extends SingleByteRegister {
 
   public PowerModeRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x11, "Power_Mode");
+    super(sensor, 0x11, "Power_Mode", RegisterType.STABLE);
   }
 
   public LowPowerBandwidth getLowPowerBandwidth() throws IOException {
-    reload();
+    reloadIfStale();
     int val = (registerValue & 0b11110) >> 1;
     for (LowPowerBandwidth odr : LowPowerBandwidth.values()) {
       if (val <= odr.getEnd() && val >= odr.getStart()) {
@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.RangeData;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.Range;
 
@@ -11,7 +12,7 @@ import java.io.IOException;
 public class RangeRegister extends SingleByteRegister {
 
   public RangeRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0xF, "Range");
+    super(sensor, 0xF, "Range", RegisterType.STABLE);
   }
 
   public Range getRange() {
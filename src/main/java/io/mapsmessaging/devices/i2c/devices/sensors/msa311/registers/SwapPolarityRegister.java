@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.SwapPolarityData;
 
 import java.io.IOException;
@@ -15,7 +16,7 @@ public class SwapPolarityRegister extends SingleByteRegister {
   private static final byte X_Y_SWAP = (byte) 0b0001;
 
   public SwapPolarityRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x12, "Swap_Polarity");
+    super(sensor, 0x12, "Swap_Polarity", RegisterType.STABLE);
   }
 
 
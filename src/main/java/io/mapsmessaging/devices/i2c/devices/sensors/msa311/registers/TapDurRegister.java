@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.TapDurData;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.values.TapDuration;
 
@@ -29,21 +30,21 @@ public class TapDurRegister extends SingleByteRegister {
   private static final byte TAP_DUR_MASK = (byte) 0b00000111;
 
   public TapDurRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x2A, "Tap_Dur");
+    super(sensor, 0x2A, "Tap_Dur", RegisterType.STABLE);
   }
 
   public boolean getTapQuiet() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & TAP_QUIET_MASK) != 0;
   }
 
   public TapDuration getTapShockDuration() throws IOException {
-    reload();
+    reloadIfStale();
     return TapDuration.values()[(registerValue & TAP_DUR_MASK)];
   }
 
   public boolean getTapShock() throws IOException {
-    reload();
+    reloadIfStale();
     return (registerValue & TAP_SHOCK_MASK) != 0;
   }
 
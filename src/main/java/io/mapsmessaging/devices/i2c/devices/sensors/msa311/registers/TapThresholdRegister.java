@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.TapThresholdData;
 
 import java.io.IOException;
@@ -30,12 +31,12 @@ public class TapThresholdRegister extends SingleByteRegister {
   private final RangeRegister rangeRegister;
 
   public TapThresholdRegister(I2CDevice sensor, RangeRegister rangeRegister) throws IOException {
-    super(sensor, 0x2B, "Tap_Th");
+    super(sensor, 0x2B, "Tap_Th", RegisterType.STABLE);
     this.rangeRegister = rangeRegister;
   }
 
   public float getTapThreshold() throws IOException {
-    reload();
+    reloadIfStale();
     return (float) ((registerValue & TAP_TH_MASK) * rangeRegister.getRange().getLsbMultiplier());
   }
 
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.msa311.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.msa311.data.ZBlockData;
 
 import java.io.IOException;
@@ -28,11 +29,11 @@ public class ZBlockRegister extends SingleByteRegister {
   private static final byte Z_BLOCKING_MASK = (byte) 0b00001111;
 
   public ZBlockRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x2D, "Z_Block");
+    super(sensor, 0x2D, "Z_Block", RegisterType.STABLE);
   }
 
   public float getZBlockingThreshold() throws IOException {
-    reload();
+    reloadIfStale();
     int val = registerValue & Z_BLOCKING_MASK;
     return val * 0.0625f;
   }
@@ -18,6 +18,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.pmsa003i;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.deviceinterfaces.SensorFrame;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.BufferedRegister;
 import io.mapsmessaging.devices.impl.AddressableDevice;
@@ -32,6 +33,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Pmsa003iSensor extends I2CDevice implements Sensor {
+  // The sensor only updates its results once a second
+  private static final long UPDATE_INTERVAL = 1000;
+
+  private final SensorFrame frame;
   private final byte[] data;
   private final BufferedRegister pm1_0StandardRegister;
   private final BufferedRegister pm2_5StandardRegister;
@@ -49,11 +54,11 @@ public class Pmsa003iSensor extends I2CDevice implements Sensor {
   private final BufferedRegister errorCodeRegister;
   @Getter
   private final List<SensorReading<?>> readings;
-  private long lastRead;
 
   public Pmsa003iSensor(AddressableDevice device) {
     super(device, LoggerFactory.getLogger(Pmsa003iSensor.class));
-    data = new byte[0x20];
+    frame = new SensorFrame(0x20, UPDATE_INTERVAL);
+    data = frame.getData();
 
     this.pm1_0StandardRegister = new BufferedRegister(this, 4, 2, "Pm1_0Standard", data);
     this.pm2_5StandardRegister = new BufferedRegister(this, 6, 2, "Pm2_5Standard", data);
@@ -71,7 +76,6 @@ public class Pmsa003iSensor extends I2CDevice implements Sensor {
     this.particlesLargerThan100Register = new BufferedRegister(this, 0x1a, 2, "ParticlesLargerThan100", data);
     this.versionRegister = new BufferedRegister(this, 0x1c, 1, "Version", data);
     this.errorCodeRegister = new BufferedRegister(this, 0x1d, 1, "ErrorCode", data);
-    lastRead = 0;
     readings = new ArrayList<>();
     readings.add(new IntegerSensorReading("PM 1.0", "pm", 0, 0x7ffff, this::getPm1_0Standard));
     readings.add(new IntegerSensorReading("PM 2.5", "pm", 0, 0x7ffff, this::getPm2_5Standard));
@@ -165,13 +169,29 @@ public class Pmsa003iSensor extends I2CDevice implements Sensor {
     return errorCodeRegister.getValueReverse();
   }
 
+  @Override
+  public long snapshot() throws IOException {
+    readFrame();
+    frame.hold();
+    return frame.getTimestamp();
+  }
+
+  @Override
+  public void releaseSnapshot() {
+    frame.release();
+  }
+
   protected void update() throws IOException {
-    if (lastRead < System.currentTimeMillis()) {
-      readRegister(0, data, 0, data.length);
-      lastRead = System.currentTimeMillis() + 1000;
+    if (frame.isStale()) {
+      readFrame();
     }
   }
 
+  private void readFrame() throws IOException {
+    readRegister(0, data, 0, data.length);
+    frame.loaded();
+  }
+
 
     public String evaluateAirQuality() throws IOException {
   // Air quality thresholds for PM1.0, PM2.5, and PM10
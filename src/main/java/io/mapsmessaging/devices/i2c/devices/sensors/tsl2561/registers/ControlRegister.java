@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.data.ControlData;
 
 import java.io.IOException;
@@ -12,7 +13,7 @@ public class ControlRegister extends SingleByteRegister {
   private static final byte POWER_MASK = 0b00000011;
 
   public ControlRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x80, "Control");
+    super(sensor, 0x80, "Control", RegisterType.STABLE);
   }
 
   public void powerOn() throws IOException {
@@ -19,6 +19,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.MultiByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.data.HighThresholdData;
 
 import java.io.IOException;
@@ -26,7 +27,7 @@ import java.io.IOException;
 public class HighThresholdRegister extends MultiByteRegister {
 
   public HighThresholdRegister(I2CDevice sensor) {
-    super(sensor, 0x84, 2, "HighThresholdRegister");
+    super(sensor, 0x84, 2, "HighThresholdRegister", RegisterType.STABLE);
   }
 
   public RegisterData toData() throws IOException {
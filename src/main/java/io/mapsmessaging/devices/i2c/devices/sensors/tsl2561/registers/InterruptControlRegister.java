@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.data.InterruptControlData;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.values.InterruptControl;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.values.InterruptPersistence;
@@ -15,8 +16,8 @@ public class InterruptControlRegister extends SingleByteRegister {
   private static final byte PERSIST_MASK = 0b00001111;
 
   public InterruptControlRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x86, "Interrupt Control");
-    reload();
+    super(sensor, 0x86, "Interrupt Control", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public InterruptControl getControl() {
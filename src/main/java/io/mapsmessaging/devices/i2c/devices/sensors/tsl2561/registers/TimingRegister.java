@@ -3,6 +3,7 @@ package io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.registers;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.SingleByteRegister;
+import io.mapsmessaging.devices.i2c.devices.RegisterType;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.data.TimingData;
 import io.mapsmessaging.devices.i2c.devices.sensors.tsl2561.values.IntegrationTime;
 
@@ -16,8 +17,8 @@ public class TimingRegister extends SingleByteRegister {
 
 
   public TimingRegister(I2CDevice sensor) throws IOException {
-    super(sensor, 0x81, "Timing");
-    reload();
+    super(sensor, 0x81, "Timing", RegisterType.STABLE);
+    reloadIfStale();
   }
 
   public boolean getManual() {
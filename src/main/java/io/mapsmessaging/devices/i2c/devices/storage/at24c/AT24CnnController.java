@@ -4,11 +4,12 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.i2c.I2CBusPriority;
 import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.I2CDeviceController;
 import io.mapsmessaging.devices.i2c.devices.storage.at24c.data.AT24CnnCommand;
 import io.mapsmessaging.devices.i2c.devices.storage.at24c.data.AT24CnnResponse;
-import io.mapsmessaging.devices.i2c.devices.storage.at24c.data.Details;
 import io.mapsmessaging.devices.i2c.devices.storage.at24c.values.ActionType;
 import io.mapsmessaging.devices.impl.AddressableDevice;
 import io.mapsmessaging.schemas.config.SchemaConfig;
@@ -33,6 +34,7 @@ public class AT24CnnController extends I2CDeviceController {
 
   protected AT24CnnController(AddressableDevice device) throws IOException {
     super(device);
+    setPriority(I2CBusPriority.BACKGROUND);
     sensor = new AT24CnnDevice(device);
   }
 
@@ -57,12 +59,12 @@ public class AT24CnnController extends I2CDeviceController {
   }
 
   public byte[] getDeviceState() throws IOException {
+    StateEncoder encoder = startState();
     if (sensor != null) {
-      Details details = new Details(sensor.getName(), sensor.getMemorySize());
-      ObjectMapper objectMapper = new ObjectMapper();
-      return objectMapper.writeValueAsString(details).getBytes();
+      encoder.put("name", sensor.getName());
+      encoder.put("size", sensor.getMemorySize());
     }
-    return "{}".getBytes();
+    return encoder.toByteArray();
   }
 
   @Override
@@ -96,8 +96,7 @@ public class AT24CnnDevice extends I2CDevice implements Storage {
   private byte readByte(int address) throws IOException {
     byte[] writeBuffer = new byte[]{(byte) (address >> 8), (byte) (address & 0xFF)};
     byte[] readBuffer = new byte[1];
-    write(writeBuffer, 0, writeBuffer.length);
-    int val = read(readBuffer, 0, readBuffer.length);
+    int val = writeRead(writeBuffer, readBuffer, 0, readBuffer.length);
     if (val < 0) return (byte) -1;
     return readBuffer[0];
   }
@@ -106,8 +105,7 @@ public class AT24CnnDevice extends I2CDevice implements Storage {
   // Read a byte array at the given address
   private int readBlock(int address, byte[] buffer, int offset, int len) throws IOException {
     byte[] writeBuffer = new byte[]{(byte) (address >> 8), (byte) (address & 0xFF)};
-    write(writeBuffer, 0, writeBuffer.length);
-    return read(buffer, offset, len);
+    return writeRead(writeBuffer, buffer, offset, len);
   }
 
   // Write a byte array at the given address
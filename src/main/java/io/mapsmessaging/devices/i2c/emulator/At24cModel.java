@@ -0,0 +1,91 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import java.util.Arrays;
+
+/**
+ * AT24C32 / AT24C64 serial EEPROM. Addresses are 16 bits and wrap at the size of the memory, a
+ * write wraps within its 32 byte page, and while the write cycle completes the chip does not
+ * acknowledge reads, so drivers polling for it to become ready see the same behaviour as hardware.
+ */
+public class At24cModel extends ChipModel {
+
+  private static final int PAGE_SIZE = 32;
+
+  private final long writeCycleNanos;
+  private long busyUntil;
+
+  public At24cModel(int size) {
+    this(size, 5);
+  }
+
+  /**
+   * @param size       memory size in bytes, 4096 for an AT24C32 and 8192 for an AT24C64
+   * @param writeCycle milliseconds taken to commit a write
+   */
+  public At24cModel(int size, int writeCycle) {
+    super(size);
+    writeCycleNanos = writeCycle * 1_000_000L;
+    busyUntil = System.nanoTime();
+    Arrays.fill(registers, (byte) 0xFF);
+  }
+
+  @Override
+  public String getName() {
+    return registers.length > 4096 ? "AT24C64" : "AT24C32";
+  }
+
+  @Override
+  public void reset() {
+    pointer = 0; // The memory is not volatile
+  }
+
+  @Override
+  public int write(byte[] data, int offset, int length) {
+    if (length < 2) {
+      return length;
+    }
+    pointer = (((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff)) % registers.length;
+    if (length > 2) {
+      int page = pointer - (pointer % PAGE_SIZE);
+      int address = pointer;
+      for (int x = 2; x < length; x++) {
+        registers[address] = data[offset + x];
+        address = page + ((address + 1) % PAGE_SIZE);
+      }
+      busyUntil = System.nanoTime() + writeCycleNanos;
+    }
+    return length;
+  }
+
+  @Override
+  public int writeRegisters(int register, byte[] data, int offset, int length) {
+    byte[] buffer = new byte[length + 2];
+    buffer[0] = (byte) (register >> 8);
+    buffer[1] = (byte) register;
+    System.arraycopy(data, offset, buffer, 2, length);
+    return write(buffer, 0, buffer.length) - 2;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    if (System.nanoTime() - busyUntil < 0) {
+      return -1;
+    }
+    return super.read(buffer, offset, length);
+  }
+}
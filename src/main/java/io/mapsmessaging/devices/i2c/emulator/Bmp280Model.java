@@ -0,0 +1,140 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * The BMP280 driver talks the command protocol of the MS5611 family: reset, PROM reads of the
+ * calibration words, D1 and D2 conversion commands and an ADC read of the last conversion. This
+ * model answers those commands, with the conversions derived from the temperature and pressure set.
+ * Reading the ADC before a conversion has had time to complete returns 0, as the chip does.
+ */
+public class Bmp280Model extends ChipModel {
+
+  private static final int RESET = 0x1E;
+  private static final int ADC_READ = 0x00;
+  private static final int PROM_READ = 0xA0;
+  private static final long CONVERSION_NANOS = 9_040_000L;
+
+  // The calibration words of the example in the data sheet
+  private static final int[] CALIBRATION = {0, 40127, 36924, 23317, 23282, 33464, 28312, 0};
+
+  private final int[] prom;
+  private int command;
+  private long adcValue;
+  private long conversionReady;
+
+  private volatile double temperature;
+  private volatile double pressure;
+
+  public Bmp280Model() {
+    super(1);
+    prom = CALIBRATION.clone();
+    prom[7] = crc4(prom);
+    temperature = 20.0;
+    pressure = 1000.0;
+    command = ADC_READ;
+  }
+
+  @Override
+  public String getName() {
+    return "BMP280";
+  }
+
+  public void setTemperature(double celsius) {
+    temperature = celsius;
+  }
+
+  public void setPressure(double hPa) {
+    pressure = hPa;
+  }
+
+  @Override
+  public int write(byte[] data, int offset, int length) {
+    for (int x = 0; x < length; x++) {
+      select(data[offset + x] & 0xff);
+    }
+    return length;
+  }
+
+  @Override
+  public void select(int value) {
+    command = value;
+    if (value == RESET) {
+      adcValue = 0;
+    } else if ((value & 0xF0) == 0x40) {
+      startConversion(computeD1());
+    } else if ((value & 0xF0) == 0x50) {
+      startConversion(computeD2());
+    }
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    long value;
+    int size;
+    if (command >= PROM_READ && command <= PROM_READ + 14) {
+      value = prom[(command - PROM_READ) / 2];
+      size = 2;
+    } else {
+      value = System.nanoTime() - conversionReady >= 0 ? adcValue : 0;
+      size = 3;
+    }
+    for (int x = 0; x < length; x++) {
+      int shift = (size - 1 - x) * 8;
+      buffer[offset + x] = shift >= 0 ? (byte) (value >> shift) : 0;
+    }
+    return length;
+  }
+
+  private void startConversion(long value) {
+    adcValue = Math.max(0, Math.min(0xFFFFFF, value));
+    conversionReady = System.nanoTime() + CONVERSION_NANOS;
+  }
+
+  // The inverse of the driver's first order compensation
+  private long computeD2() {
+    double dT = (temperature * 100.0 - 2000.0) * (1 << 23) / prom[6];
+    return Math.round(dT) + ((long) prom[5] << 8);
+  }
+
+  private long computeD1() {
+    long dT = computeD2() - ((long) prom[5] << 8);
+    long off = (long) prom[2] * (1 << 16) + dT * (prom[4] / (1 << 7));
+    long sens = (long) prom[1] * (1 << 15) + dT * (prom[3] / (1 << 8));
+    return Math.round((pressure * 100.0 * 0x8000 + off) * 2097152.0 / sens);
+  }
+
+  private static int crc4(int[] words) {
+    int remainder = 0;
+    int[] copy = words.clone();
+    copy[7] &= 0xFF00;
+    for (int cnt = 0; cnt < 16; cnt++) {
+      if (cnt % 2 == 1) {
+        remainder ^= copy[cnt >> 1] & 0x00FF;
+      } else {
+        remainder ^= copy[cnt >> 1] >> 8;
+      }
+      for (int bit = 8; bit > 0; bit--) {
+        if ((remainder & 0x8000) != 0) {
+          remainder = (remainder << 1) ^ 0x3000;
+        } else {
+          remainder <<= 1;
+        }
+      }
+    }
+    return (words[7] & 0xFFF0) | ((remainder >> 12) & 0x000F);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * BNO055 absolute orientation sensor, page 0. The data registers, from the accelerometer at 0x08
+ * up to the temperature at 0x34, are filled from the values set whenever the block is read from its
+ * start, and the calibration status always reports a fully calibrated sensor. A reset through
+ * SYS_TRIGGER restores the register defaults.
+ */
+public class Bno055Model extends ChipModel {
+
+  private static final int CHIP_ID = 0x00;
+  private static final int PAGE_ID = 0x07;
+  private static final int ACCEL_DATA = 0x08;
+  private static final int MAG_DATA = 0x0E;
+  private static final int GYRO_DATA = 0x14;
+  private static final int EULER_DATA = 0x1A;
+  private static final int QUATERNION_DATA = 0x20;
+  private static final int LINEAR_ACCEL_DATA = 0x28;
+  private static final int GRAVITY_DATA = 0x2E;
+  private static final int TEMPERATURE = 0x34;
+  private static final int CALIBRATION_STATUS = 0x35;
+  private static final int SYS_STATUS = 0x39;
+  private static final int OPR_MODE = 0x3D;
+  private static final int SYS_TRIGGER = 0x3F;
+  private static final double GRAVITY = 9.80665;
+
+  private volatile double heading;
+  private volatile double roll;
+  private volatile double pitch;
+  private volatile double[] acceleration;
+  private volatile double[] magnetometer;
+  private volatile double[] gyroscope;
+  private volatile int temperature;
+
+  public Bno055Model() {
+    super(0x80);
+    acceleration = new double[]{0, 0, GRAVITY};
+    magnetometer = new double[]{20, 0, -40};
+    gyroscope = new double[]{0, 0, 0};
+    temperature = 25;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "BNO055";
+  }
+
+  /**
+   * @param heading degrees, 0 to 360
+   * @param roll    degrees
+   * @param pitch   degrees
+   */
+  public void setOrientation(double heading, double roll, double pitch) {
+    this.heading = heading;
+    this.roll = roll;
+    this.pitch = pitch;
+  }
+
+  /**
+   * @param x in m/s²
+   * @param y in m/s²
+   * @param z in m/s²
+   */
+  public void setAcceleration(double x, double y, double z) {
+    acceleration = new double[]{x, y, z};
+  }
+
+  /**
+   * @param x in microtesla
+   * @param y in microtesla
+   * @param z in microtesla
+   */
+  public void setMagnetometer(double x, double y, double z) {
+    magnetometer = new double[]{x, y, z};
+  }
+
+  /**
+   * @param x in degrees per second
+   * @param y in degrees per second
+   * @param z in degrees per second
+   */
+  public void setGyroscope(double x, double y, double z) {
+    gyroscope = new double[]{x, y, z};
+  }
+
+  public void setTemperature(int celsius) {
+    temperature = celsius;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[CHIP_ID] = (byte) 0xA0;
+    registers[0x01] = (byte) 0xFB;
+    registers[0x02] = 0x32;
+    registers[0x03] = 0x0F;
+    registers[0x04] = 0x11;
+    registers[0x05] = 0x03;
+    registers[CALIBRATION_STATUS] = (byte) 0xFF;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register == ACCEL_DATA) {
+      updateData();
+    }
+    if (register == SYS_STATUS) {
+      return (registers[OPR_MODE] & 0x0F) >= 0x08 ? 5 : 0;
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register == SYS_TRIGGER && (value & 0x20) != 0) {
+      reset();
+      return;
+    }
+    if (register < PAGE_ID || (register >= ACCEL_DATA && register <= CALIBRATION_STATUS)) {
+      return; // Ids and data are read only
+    }
+    super.writeRegister(register, value);
+  }
+
+  private void updateData() {
+    putVector(ACCEL_DATA, acceleration, 100);
+    putVector(MAG_DATA, magnetometer, 16);
+    putVector(GYRO_DATA, gyroscope, 16);
+    putVector(EULER_DATA, new double[]{heading, roll, pitch}, 16);
+    putQuaternion();
+    double[] gravity = gravityVector();
+    putVector(GRAVITY_DATA, gravity, 100);
+    double[] accel = acceleration;
+    putVector(LINEAR_ACCEL_DATA, new double[]{accel[0] - gravity[0], accel[1] - gravity[1], accel[2] - gravity[2]}, 100);
+    registers[TEMPERATURE] = (byte) temperature;
+  }
+
+  private void putVector(int register, double[] values, double scale) {
+    for (int x = 0; x < values.length; x++) {
+      putShortLE(register + x * 2, (int) Math.round(values[x] * scale));
+    }
+  }
+
+  private void putQuaternion() {
+    double h = Math.toRadians(heading) / 2;
+    double r = Math.toRadians(roll) / 2;
+    double p = Math.toRadians(pitch) / 2;
+    double w = Math.cos(r) * Math.cos(p) * Math.cos(h) + Math.sin(r) * Math.sin(p) * Math.sin(h);
+    double x = Math.sin(r) * Math.cos(p) * Math.cos(h) - Math.cos(r) * Math.sin(p) * Math.sin(h);
+    double y = Math.cos(r) * Math.sin(p) * Math.cos(h) + Math.sin(r) * Math.cos(p) * Math.sin(h);
+    double z = Math.cos(r) * Math.cos(p) * Math.sin(h) - Math.sin(r) * Math.sin(p) * Math.cos(h);
+    putVector(QUATERNION_DATA, new double[]{w, x, y, z}, 1 << 14);
+  }
+
+  private double[] gravityVector() {
+    double r = Math.toRadians(roll);
+    double p = Math.toRadians(pitch);
+    return new double[]{-GRAVITY * Math.sin(p), GRAVITY * Math.sin(r) * Math.cos(p), GRAVITY * Math.cos(r) * Math.cos(p)};
+  }
+}
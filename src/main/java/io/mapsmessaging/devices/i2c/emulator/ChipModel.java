@@ -0,0 +1,137 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import java.util.Arrays;
+
+/**
+ * The behaviour of an emulated chip. The base model is a plain register file: the first byte of a
+ * write selects the register, the following bytes are written to consecutive registers, and reads
+ * return consecutive registers from the one selected. Chips that behave differently, such as those
+ * driven by commands or with 16 bit addresses, override the relevant hooks.
+ * <p>
+ * Models are only called while the emulated bus is held, so they need no locking of their own.
+ */
+public abstract class ChipModel {
+
+  protected final byte[] registers;
+  protected int pointer;
+
+  protected ChipModel(int size) {
+    registers = new byte[size];
+    pointer = 0;
+  }
+
+  public abstract String getName();
+
+  /**
+   * A write transaction
+   *
+   * @return the number of bytes accepted, or -1 if the chip did not acknowledge
+   */
+  public int write(byte[] data, int offset, int length) {
+    if (length <= 0) {
+      return 0;
+    }
+    select(data[offset] & 0xff);
+    for (int x = 1; x < length; x++) {
+      writeRegister(pointer, data[offset + x] & 0xff);
+      pointer = next(pointer);
+    }
+    return length;
+  }
+
+  /**
+   * Writes consecutive registers, starting at the register given
+   */
+  public int writeRegisters(int register, byte[] data, int offset, int length) {
+    select(register);
+    for (int x = 0; x < length; x++) {
+      writeRegister(pointer, data[offset + x] & 0xff);
+      pointer = next(pointer);
+    }
+    return length;
+  }
+
+  /**
+   * A read transaction, from the currently selected register
+   *
+   * @return the number of bytes read, or -1 if the chip did not acknowledge
+   */
+  public int read(byte[] buffer, int offset, int length) {
+    for (int x = 0; x < length; x++) {
+      buffer[offset + x] = (byte) readRegister(pointer);
+      pointer = next(pointer);
+    }
+    return length;
+  }
+
+  /**
+   * Handles a write of just the register, or command, byte
+   */
+  public void select(int register) {
+    pointer = register % registers.length;
+  }
+
+  /**
+   * @return the raw register value, without any of the side effects of a bus read
+   */
+  public int peek(int register) {
+    return registers[register] & 0xff;
+  }
+
+  /**
+   * Sets the raw register value, without any of the side effects of a bus write
+   */
+  public void poke(int register, int value) {
+    registers[register] = (byte) value;
+  }
+
+  public void reset() {
+    Arrays.fill(registers, (byte) 0);
+    pointer = 0;
+  }
+
+  protected int readRegister(int register) {
+    return registers[register] & 0xff;
+  }
+
+  protected void writeRegister(int register, int value) {
+    registers[register] = (byte) value;
+  }
+
+  protected int next(int register) {
+    return (register + 1) % registers.length;
+  }
+
+  protected void putShortLE(int register, int value) {
+    registers[register] = (byte) value;
+    registers[register + 1] = (byte) (value >> 8);
+  }
+
+  protected void putShortBE(int register, int value) {
+    registers[register] = (byte) (value >> 8);
+    registers[register + 1] = (byte) value;
+  }
+
+  protected static int toBcd(int value) {
+    return ((value / 10) << 4) | (value % 10);
+  }
+
+  protected static int fromBcd(int value) {
+    return ((value >> 4) & 0xf) * 10 + (value & 0xf);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DS3231 real time clock. The time registers are generated from the system clock plus an offset,
+ * so the clock runs in real time, and writing any of them moves the offset. The hour register
+ * follows the 12/24 hour mode last written to it. The temperature registers report the temperature
+ * set, in quarter degrees.
+ */
+public class Ds3231Model extends ChipModel {
+
+  private static final int SECONDS = 0x00;
+  private static final int YEAR = 0x06;
+  private static final int CONTROL = 0x0E;
+  private static final int STATUS = 0x0F;
+  private static final int TEMPERATURE = 0x11;
+  private static final int TWELVE_HOUR = 0x40;
+  private static final int PM = 0x20;
+  private static final int CENTURY = 0x80;
+
+  private Duration offset;
+  private boolean twelveHour;
+  private volatile double temperature;
+
+  public Ds3231Model() {
+    super(0x13);
+    offset = Duration.ZERO;
+    temperature = 25.0;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "DS3231";
+  }
+
+  public void setTemperature(double celsius) {
+    temperature = celsius;
+  }
+
+  public LocalDateTime getDateTime() {
+    return LocalDateTime.now().plus(offset);
+  }
+
+  public void setDateTime(LocalDateTime dateTime) {
+    offset = Duration.between(LocalDateTime.now(), dateTime);
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[CONTROL] = 0x1C;
+    registers[STATUS] = (byte) 0x88;
+    twelveHour = false;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register <= YEAR) {
+      return timeRegister(getDateTime(), register);
+    }
+    if (register == TEMPERATURE || register == TEMPERATURE + 1) {
+      int quarters = (int) Math.round(temperature * 4);
+      return register == TEMPERATURE ? (quarters >> 2) & 0xff : (quarters & 0x3) << 6;
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register <= YEAR) {
+      setDateTime(updateTime(getDateTime(), register, value));
+      return;
+    }
+    if (register == TEMPERATURE || register == TEMPERATURE + 1) {
+      return; // Read only
+    }
+    super.writeRegister(register, value);
+  }
+
+  private int timeRegister(LocalDateTime now, int register) {
+    switch (register) {
+      case SECONDS:
+        return toBcd(now.getSecond());
+      case 1:
+        return toBcd(now.getMinute());
+      case 2:
+        return hourRegister(now.getHour());
+      case 3:
+        return now.getDayOfWeek().getValue();
+      case 4:
+        return toBcd(now.getDayOfMonth());
+      case 5:
+        return toBcd(now.getMonthValue()) | (now.getYear() >= 2100 ? CENTURY : 0);
+      default:
+        return toBcd(now.getYear() % 100);
+    }
+  }
+
+  private int hourRegister(int hour) {
+    if (!twelveHour) {
+      return toBcd(hour);
+    }
+    int display = hour % 12 == 0 ? 12 : hour % 12;
+    return TWELVE_HOUR | (hour >= 12 ? PM : 0) | toBcd(display);
+  }
+
+  private LocalDateTime updateTime(LocalDateTime now, int register, int value) {
+    switch (register) {
+      case SECONDS:
+        return now.withSecond(Math.min(59, fromBcd(value & 0x7F)));
+      case 1:
+        return now.withMinute(Math.min(59, fromBcd(value & 0x7F)));
+      case 2:
+        twelveHour = (value & TWELVE_HOUR) != 0;
+        int hour;
+        if (twelveHour) {
+          hour = fromBcd(value & 0x1F) % 12 + ((value & PM) != 0 ? 12 : 0);
+        } else {
+          hour = fromBcd(value & 0x3F);
+        }
+        return now.withHour(Math.min(23, hour));
+      case 3:
+        return now; // The day of the week follows the date
+      case 4:
+        return now.withDayOfMonth(Math.max(1, Math.min(now.toLocalDate().lengthOfMonth(), fromBcd(value & 0x3F))));
+      case 5:
+        int year = (value & CENTURY) != 0 ? 2100 + now.getYear() % 100 : 2000 + now.getYear() % 100;
+        return now.withYear(year).withMonth(Math.max(1, Math.min(12, fromBcd(value & 0x1F))));
+      default:
+        int century = now.getYear() >= 2100 ? 2100 : 2000;
+        return now.withYear(century + fromBcd(value));
+    }
+  }
+}
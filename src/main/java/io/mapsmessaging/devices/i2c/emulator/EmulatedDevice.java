@@ -0,0 +1,208 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import io.mapsmessaging.devices.impl.AddressableDevice;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An address on an {@link EmulatedI2CBus}, backed by a {@link ChipModel}. Drivers mount it exactly
+ * as they would a physical device. Every call is one bus transaction: it holds the emulated bus for
+ * the configured latency and is counted, so driver throughput and scheduling can be measured.
+ */
+public class EmulatedDevice implements AddressableDevice {
+
+  @Getter
+  private final EmulatedI2CBus emulatedBus;
+  private final int address;
+  @Getter
+  private final ChipModel model;
+  private final byte[] single;
+
+  private final AtomicLong transactions;
+  private final AtomicLong bytesRead;
+  private final AtomicLong bytesWritten;
+  private final AtomicLong failures;
+  private volatile boolean failReads;
+
+  EmulatedDevice(EmulatedI2CBus emulatedBus, int address, ChipModel model) {
+    this.emulatedBus = emulatedBus;
+    this.address = address;
+    this.model = model;
+    single = new byte[1];
+    transactions = new AtomicLong();
+    bytesRead = new AtomicLong();
+    bytesWritten = new AtomicLong();
+    failures = new AtomicLong();
+    failReads = false;
+  }
+
+  /**
+   * When set every read fails, as though the device had stopped responding
+   */
+  public void setFailReads(boolean flag) {
+    failReads = flag;
+  }
+
+  public long getTransactionCount() {
+    return transactions.get();
+  }
+
+  public long getBytesRead() {
+    return bytesRead.get();
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten.get();
+  }
+
+  public long getFailureCount() {
+    return failures.get();
+  }
+
+  public void resetCounters() {
+    transactions.set(0);
+    bytesRead.set(0);
+    bytesWritten.set(0);
+    failures.set(0);
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+
+  @Override
+  public int getBus() {
+    return emulatedBus.getBus();
+  }
+
+  @Override
+  public int getDevice() {
+    return address;
+  }
+
+  @Override
+  public int write(int val) {
+    synchronized (emulatedBus.lock) {
+      single[0] = (byte) val;
+      return written(model.write(single, 0, 1));
+    }
+  }
+
+  @Override
+  public int write(byte[] buffer, int offset, int length) {
+    synchronized (emulatedBus.lock) {
+      return written(model.write(buffer, offset, length));
+    }
+  }
+
+  @Override
+  public int writeRegister(int register, byte[] data) {
+    synchronized (emulatedBus.lock) {
+      int result = model.writeRegisters(register & 0xff, data, 0, data.length);
+      return written(result < 0 ? result : result + 1);
+    }
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    synchronized (emulatedBus.lock) {
+      return read(() -> model.read(buffer, offset, length));
+    }
+  }
+
+  @Override
+  public int read() {
+    synchronized (emulatedBus.lock) {
+      int result = read(() -> model.read(single, 0, 1));
+      return result < 1 ? -1 : single[0] & 0xff;
+    }
+  }
+
+  @Override
+  public int readRegister(int register) {
+    synchronized (emulatedBus.lock) {
+      model.select(register & 0xff);
+      int result = read(() -> model.read(single, 0, 1));
+      return result < 1 ? -1 : single[0] & 0xff;
+    }
+  }
+
+  @Override
+  public int readRegister(int register, byte[] buffer, int offset, int length) {
+    synchronized (emulatedBus.lock) {
+      model.select(register & 0xff);
+      return read(() -> model.read(buffer, offset, length));
+    }
+  }
+
+  // A repeated start, so the write and the read are a single transaction
+  @Override
+  public int writeRead(byte[] write, byte[] buffer, int offset, int length) {
+    synchronized (emulatedBus.lock) {
+      int result = model.write(write, 0, write.length);
+      if (result < 0) {
+        return written(result);
+      }
+      bytesWritten.addAndGet(result);
+      return read(() -> model.read(buffer, offset, length));
+    }
+  }
+
+  private int read(Transfer transfer) {
+    int result = failReads ? -1 : transfer.run();
+    transactions.incrementAndGet();
+    if (result < 0) {
+      failures.incrementAndGet();
+    } else {
+      bytesRead.addAndGet(result);
+    }
+    hold(result);
+    return result;
+  }
+
+  private int written(int result) {
+    transactions.incrementAndGet();
+    if (result < 0) {
+      failures.incrementAndGet();
+    } else {
+      bytesWritten.addAndGet(result);
+    }
+    hold(result);
+    return result;
+  }
+
+  // Occupies the bus for as long as the transfer would take on the wire
+  private void hold(int bytes) {
+    long nanos = emulatedBus.getTransactionLatency() + Math.max(0, bytes) * emulatedBus.getByteLatency();
+    if (nanos > 0) {
+      long end = System.nanoTime() + nanos;
+      long remaining = nanos;
+      while (remaining > 0) {
+        LockSupport.parkNanos(remaining);
+        remaining = end - System.nanoTime();
+      }
+    }
+  }
+
+  private interface Transfer {
+    int run();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import io.mapsmessaging.devices.i2c.I2CBusArbiter;
+import io.mapsmessaging.devices.i2c.I2CDeviceController;
+import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in memory I2C bus, so drivers and the bus scheduling can be exercised without hardware. Each
+ * address is backed by a {@link ChipModel} and only one transaction is on the bus at a time. The
+ * time a transaction occupies the bus is configurable, either directly or from a clock speed.
+ * <p>
+ * Use a bus number that is not used by a physical bus, since the bus arbiter is shared by number.
+ */
+public class EmulatedI2CBus {
+
+  // Start, address, acknowledge and stop bits around each transfer
+  private static final int TRANSACTION_BITS = 20;
+  private static final int BYTE_BITS = 9;
+
+  @Getter
+  private final int bus;
+  private final Map<Integer, EmulatedDevice> devices;
+  final Object lock;
+
+  @Getter
+  private volatile long transactionLatency;
+  @Getter
+  private volatile long byteLatency;
+
+  public EmulatedI2CBus(int bus) {
+    this.bus = bus;
+    devices = new ConcurrentHashMap<>();
+    lock = new Object();
+    transactionLatency = 0;
+    byteLatency = 0;
+  }
+
+  /**
+   * @param transactionNanos the time each transaction holds the bus
+   * @param byteNanos        the additional time for each byte transferred
+   */
+  public void setLatency(long transactionNanos, long byteNanos) {
+    transactionLatency = Math.max(0, transactionNanos);
+    byteLatency = Math.max(0, byteNanos);
+  }
+
+  /**
+   * Sets the latency to that of a bus running at the clock speed, 100000 and 400000 being typical
+   *
+   * @param hertz the bus clock, or 0 to remove the latency
+   */
+  public void setClockSpeed(int hertz) {
+    if (hertz <= 0) {
+      setLatency(0, 0);
+    } else {
+      long bitNanos = 1_000_000_000L / hertz;
+      setLatency(TRANSACTION_BITS * bitNanos, BYTE_BITS * bitNanos);
+    }
+  }
+
+  public EmulatedDevice attach(int address, ChipModel model) {
+    EmulatedDevice device = new EmulatedDevice(this, address, model);
+    devices.put(address, device);
+    return device;
+  }
+
+  public void detach(int address) {
+    devices.remove(address);
+  }
+
+  public EmulatedDevice get(int address) {
+    return devices.get(address);
+  }
+
+  public Set<Integer> getAddresses() {
+    return new TreeSet<>(devices.keySet());
+  }
+
+  public long getTransactionCount() {
+    long count = 0;
+    for (EmulatedDevice device : devices.values()) {
+      count += device.getTransactionCount();
+    }
+    return count;
+  }
+
+  /**
+   * Mounts the driver on the emulated device at the address and wraps it in a scheduler on this
+   * bus's arbiter, as the bus manager does for physical devices
+   */
+  public I2CDeviceController mount(int address, I2CDeviceController driver) throws IOException {
+    EmulatedDevice device = devices.get(address);
+    if (device == null) {
+      throw new IOException("No emulated device at 0x" + Integer.toHexString(address) + " on bus " + bus);
+    }
+    I2CDeviceController mounted = driver.mount(device);
+    return new I2CDeviceScheduler(mounted, I2CBusArbiter.getArbiter(bus));
+  }
+}
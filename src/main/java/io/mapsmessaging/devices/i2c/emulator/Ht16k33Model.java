@@ -0,0 +1,102 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import java.util.Arrays;
+
+/**
+ * HT16K33 LED driver. A byte below 0x10 addresses the 16 byte display RAM, with any following
+ * bytes written to it, every other byte is a command: system setup (0x2x), display setup (0x8x)
+ * and dimming (0xEx). Reads return the display RAM.
+ */
+public class Ht16k33Model extends ChipModel {
+
+  private boolean oscillator;
+  private boolean displayOn;
+  private int blink;
+  private int brightness;
+
+  public Ht16k33Model() {
+    super(0x10);
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "HT16K33";
+  }
+
+  public byte[] getDisplay() {
+    return Arrays.copyOf(registers, registers.length);
+  }
+
+  public boolean isOscillatorOn() {
+    return oscillator;
+  }
+
+  public boolean isDisplayOn() {
+    return displayOn;
+  }
+
+  public int getBlink() {
+    return blink;
+  }
+
+  public int getBrightness() {
+    return brightness;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    oscillator = false;
+    displayOn = false;
+    blink = 0;
+    brightness = 15;
+  }
+
+  @Override
+  public int write(byte[] data, int offset, int length) {
+    if (length > 0 && (data[offset] & 0xF0) != 0) {
+      for (int x = 0; x < length; x++) {
+        select(data[offset + x] & 0xff);
+      }
+      return length;
+    }
+    return super.write(data, offset, length);
+  }
+
+  @Override
+  public void select(int value) {
+    switch (value & 0xF0) {
+      case 0x00:
+        pointer = value;
+        break;
+      case 0x20:
+        oscillator = (value & 0x01) != 0;
+        break;
+      case 0x80:
+        displayOn = (value & 0x01) != 0;
+        blink = (value >> 1) & 0x3;
+        break;
+      case 0xE0:
+        brightness = value & 0x0F;
+        break;
+      default:
+        break; // Row/int setup and key RAM are not modelled
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+import java.util.Arrays;
+
+/**
+ * INA219 current and power monitor. Its registers are 16 bit, sent most significant byte first,
+ * and a read returns the register selected rather than moving on to the next. The measurement
+ * registers are derived from the bus voltage, shunt voltage and calibration value.
+ */
+public class Ina219Model extends ChipModel {
+
+  private static final int CONFIGURATION = 0;
+  private static final int SHUNT_VOLTAGE = 1;
+  private static final int BUS_VOLTAGE = 2;
+  private static final int POWER = 3;
+  private static final int CURRENT = 4;
+  private static final int CALIBRATION = 5;
+  private static final int CONVERSION_READY = 0x02;
+
+  private final int[] words;
+  private int byteIndex;
+
+  private volatile double busVoltage;
+  private volatile double shuntVoltage;
+
+  public Ina219Model() {
+    super(6);
+    words = new int[6];
+    busVoltage = 5.0;
+    shuntVoltage = 10.0;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "INA219";
+  }
+
+  /**
+   * @param volts the voltage on the bus side of the shunt
+   */
+  public void setBusVoltage(double volts) {
+    busVoltage = volts;
+  }
+
+  /**
+   * @param millivolts the voltage across the shunt
+   */
+  public void setShuntVoltage(double millivolts) {
+    shuntVoltage = millivolts;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    Arrays.fill(words, 0);
+    words[CONFIGURATION] = 0x399F;
+  }
+
+  @Override
+  public int writeRegisters(int register, byte[] data, int offset, int length) {
+    select(register);
+    if (length >= 2) {
+      writeWord(pointer, ((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff));
+    }
+    return length;
+  }
+
+  @Override
+  public int write(byte[] data, int offset, int length) {
+    if (length <= 0) {
+      return 0;
+    }
+    return writeRegisters(data[offset] & 0xff, data, offset + 1, length - 1) + 1;
+  }
+
+  @Override
+  public void select(int register) {
+    pointer = register % words.length;
+    byteIndex = 0;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    int word = readWord(pointer);
+    for (int x = 0; x < length; x++) {
+      buffer[offset + x] = (byte) (((byteIndex + x) & 1) == 0 ? word >> 8 : word);
+    }
+    byteIndex += length;
+    return length;
+  }
+
+  @Override
+  public int peek(int register) {
+    return readWord(register);
+  }
+
+  @Override
+  public void poke(int register, int value) {
+    words[register] = value & 0xFFFF;
+  }
+
+  private void writeWord(int register, int value) {
+    if (register == CONFIGURATION) {
+      if ((value & 0x8000) != 0) {
+        reset();
+        return;
+      }
+      words[CONFIGURATION] = value;
+    } else if (register == CALIBRATION) {
+      words[CALIBRATION] = value & 0xFFFE;
+    }
+  }
+
+  private int readWord(int register) {
+    switch (register) {
+      case SHUNT_VOLTAGE:
+        return (int) Math.round(shuntVoltage * 100) & 0xFFFF;
+      case BUS_VOLTAGE:
+        int millivolts = (int) Math.round(busVoltage * 1000);
+        return ((millivolts / 4) << 3 | CONVERSION_READY) & 0xFFFF;
+      case CURRENT:
+        return current() & 0xFFFF;
+      case POWER:
+        return (int) Math.min(0xFFFF, Math.abs((long) current() * (Math.round(busVoltage * 1000) / 4)) / 5000);
+      default:
+        return words[register];
+    }
+  }
+
+  // Current register = shunt voltage register * calibration / 4096
+  private int current() {
+    long shunt = Math.round(shuntVoltage * 100);
+    return (int) (shunt * words[CALIBRATION] / 4096);
+  }
+}
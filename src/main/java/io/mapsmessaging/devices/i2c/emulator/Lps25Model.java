@@ -0,0 +1,101 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * LPS25 pressure sensor. The output registers are filled from the pressure and temperature set
+ * whenever they are read, and the status register always reports new data. As on the real part the
+ * register pointer only advances when bit 7 of the register address is set, and the boot, reset
+ * and one shot bits clear themselves.
+ */
+public class Lps25Model extends ChipModel {
+
+  private static final int WHO_AM_I = 0x0F;
+  private static final int CTRL_REG2 = 0x21;
+  private static final int STATUS = 0x27;
+  private static final int PRESS_OUT = 0x28;
+  private static final int TEMP_OUT = 0x2B;
+
+  private volatile double pressure;
+  private volatile double temperature;
+  private boolean increment;
+
+  public Lps25Model() {
+    super(0x40);
+    pressure = 1013.25;
+    temperature = 20.0;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "LPS25";
+  }
+
+  public void setPressure(double hPa) {
+    pressure = hPa;
+  }
+
+  public void setTemperature(double celsius) {
+    temperature = celsius;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[WHO_AM_I] = (byte) 0xBD;
+    registers[0x10] = 0x0F;
+  }
+
+  @Override
+  public void select(int register) {
+    pointer = (register & 0x7F) % registers.length;
+    increment = (register & 0x80) != 0;
+  }
+
+  @Override
+  protected int next(int register) {
+    return increment ? super.next(register) : register;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register == STATUS) {
+      return 0x03;
+    }
+    if (register == PRESS_OUT) {
+      int raw = (int) Math.round(pressure * 4096.0);
+      registers[PRESS_OUT] = (byte) raw;
+      registers[PRESS_OUT + 1] = (byte) (raw >> 8);
+      registers[PRESS_OUT + 2] = (byte) (raw >> 16);
+    } else if (register == TEMP_OUT) {
+      putShortLE(TEMP_OUT, (int) Math.round((temperature - 42.5) * 480.0));
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register == WHO_AM_I || (register >= STATUS && register <= TEMP_OUT + 1)) {
+      return; // Read only
+    }
+    if (register == CTRL_REG2 && (value & 0x84) != 0) {
+      reset();
+      return;
+    }
+    super.writeRegister(register, register == CTRL_REG2 ? value & ~0x01 : value);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * MCP23017 16 bit port expander in its default, IOCON.BANK = 0, register layout. Reading GPIO
+ * returns the input pins, as set on the model and inverted by IPOL, for pins configured as inputs
+ * and the output latch for pins configured as outputs. Writing GPIO writes the output latch.
+ * The address increments through the registers, or when IOCON.SEQOP is set toggles between the A
+ * and B register of the pair.
+ */
+public class Mcp23017Model extends ChipModel {
+
+  private static final int IODIR = 0x00;
+  private static final int IPOL = 0x02;
+  private static final int IOCON = 0x0A;
+  private static final int IOCON_B = 0x0B;
+  private static final int GPIO = 0x12;
+  private static final int OLAT = 0x14;
+
+  private final int[] inputs;
+
+  public Mcp23017Model() {
+    super(0x16);
+    inputs = new int[2];
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "MCP23017";
+  }
+
+  /**
+   * Sets the level of the pins of a port, as driven by whatever is connected to them
+   *
+   * @param port  0 for port A, 1 for port B
+   * @param value one bit per pin
+   */
+  public void setInputs(int port, int value) {
+    inputs[port] = value & 0xff;
+  }
+
+  /**
+   * @param port 0 for port A, 1 for port B
+   * @return the level the expander drives on the port's output pins, input pins read as 0
+   */
+  public int getOutputs(int port) {
+    return registers[OLAT + port] & ~registers[IODIR + port] & 0xff;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[IODIR] = (byte) 0xFF;
+    registers[IODIR + 1] = (byte) 0xFF;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register == GPIO || register == GPIO + 1) {
+      int port = register - GPIO;
+      int direction = registers[IODIR + port] & 0xff;
+      int pins = (inputs[port] ^ registers[IPOL + port]) & direction;
+      return (pins | (registers[OLAT + port] & ~direction)) & 0xff;
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register == GPIO || register == GPIO + 1) {
+      register += OLAT - GPIO;
+    } else if (register == IOCON || register == IOCON_B) {
+      registers[IOCON] = (byte) value;
+      registers[IOCON_B] = (byte) value;
+      return;
+    }
+    super.writeRegister(register, value);
+  }
+
+  @Override
+  protected int next(int register) {
+    if ((registers[IOCON] & 0x20) != 0) {
+      return register ^ 1;
+    }
+    return super.next(register);
+  }
+}
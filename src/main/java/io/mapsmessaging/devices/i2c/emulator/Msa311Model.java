@@ -0,0 +1,94 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * MSA311 accelerometer. The axis registers are filled, at the selected range, from the
+ * acceleration set whenever the X axis is read, so a burst read of all three is consistent.
+ */
+public class Msa311Model extends ChipModel {
+
+  private static final int SOFT_RESET = 0x00;
+  private static final int PART_ID = 0x01;
+  private static final int ACC_X = 0x02;
+  private static final int RANGE = 0x0F;
+
+  private volatile double x;
+  private volatile double y;
+  private volatile double z;
+
+  public Msa311Model() {
+    super(0x40);
+    x = 0;
+    y = 0;
+    z = 1.0;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "MSA311";
+  }
+
+  /**
+   * @param gx acceleration on the X axis, in g
+   * @param gy acceleration on the Y axis, in g
+   * @param gz acceleration on the Z axis, in g
+   */
+  public void setAcceleration(double gx, double gy, double gz) {
+    x = gx;
+    y = gy;
+    z = gz;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[PART_ID] = 0x13;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register == ACC_X) {
+      double countsPerG = 4096.0 / (1 << (registers[RANGE] & 0x3));
+      putShortLE(ACC_X, toRaw(x, countsPerG));
+      putShortLE(ACC_X + 2, toRaw(y, countsPerG));
+      putShortLE(ACC_X + 4, toRaw(z, countsPerG));
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register == SOFT_RESET) {
+      if ((value & 0x24) != 0) {
+        reset();
+      }
+      return;
+    }
+    if (register == PART_ID || (register >= ACC_X && register < ACC_X + 6)) {
+      return; // Read only
+    }
+    super.writeRegister(register, value);
+  }
+
+  // 14 bit two's complement, left aligned in the 16 bit register
+  private static int toRaw(double g, double countsPerG) {
+    long counts = Math.round(g * countsPerG);
+    counts = Math.max(-8192, Math.min(8191, counts));
+    return (int) (counts << 2);
+  }
+}
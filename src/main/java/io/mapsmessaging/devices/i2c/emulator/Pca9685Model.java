@@ -0,0 +1,102 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * PCA9685 16 channel PWM controller. Writes to the ALL_LED registers are copied to every channel,
+ * the prescaler can only be changed while the oscillator sleeps, the restart bit clears itself, and
+ * the register address only increments when MODE1.AI is set.
+ */
+public class Pca9685Model extends ChipModel {
+
+  private static final int MODE1 = 0x00;
+  private static final int MODE2 = 0x01;
+  private static final int LED0 = 0x06;
+  private static final int ALL_LED = 0xFA;
+  private static final int PRE_SCALE = 0xFE;
+  private static final int SLEEP = 0x10;
+  private static final int AUTO_INCREMENT = 0x20;
+  private static final int RESTART = 0x80;
+
+  public Pca9685Model() {
+    super(0x100);
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "PCA9685";
+  }
+
+  public int getOn(int channel) {
+    int register = LED0 + channel * 4;
+    return ((registers[register + 1] & 0x1F) << 8) | (registers[register] & 0xff);
+  }
+
+  public int getOff(int channel) {
+    int register = LED0 + channel * 4 + 2;
+    return ((registers[register + 1] & 0x1F) << 8) | (registers[register] & 0xff);
+  }
+
+  public boolean isSleeping() {
+    return (registers[MODE1] & SLEEP) != 0;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    registers[MODE1] = 0x11;
+    registers[MODE2] = 0x04;
+    registers[0x02] = (byte) 0xE2;
+    registers[0x03] = (byte) 0xE4;
+    registers[0x04] = (byte) 0xE8;
+    registers[0x05] = (byte) 0xE0;
+    registers[PRE_SCALE] = 0x1E;
+  }
+
+  @Override
+  protected int readRegister(int register) {
+    if (register >= ALL_LED && register < PRE_SCALE) {
+      return 0; // Write only
+    }
+    return super.readRegister(register);
+  }
+
+  @Override
+  protected void writeRegister(int register, int value) {
+    if (register == MODE1) {
+      value &= ~RESTART;
+    } else if (register == PRE_SCALE) {
+      if (!isSleeping()) {
+        return;
+      }
+      value = Math.max(3, value);
+    } else if (register >= ALL_LED && register < PRE_SCALE) {
+      for (int channel = 0; channel < 16; channel++) {
+        registers[LED0 + channel * 4 + (register - ALL_LED)] = (byte) value;
+      }
+    }
+    super.writeRegister(register, value);
+  }
+
+  @Override
+  protected int next(int register) {
+    if ((registers[MODE1] & AUTO_INCREMENT) == 0) {
+      return register;
+    }
+    return super.next(register);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.i2c.emulator;
+
+/**
+ * A chip that is nothing more than a register file, for devices without a dedicated model
+ */
+public class RegisterFileModel extends ChipModel {
+
+  private final String name;
+
+  public RegisterFileModel(String name, int size) {
+    super(size);
+    this.name = name;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+}
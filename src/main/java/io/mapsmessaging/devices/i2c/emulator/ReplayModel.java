@@ -0,0 +1,246 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.i2c.emulator;
+
+import io.mapsmessaging.devices.trace.BusTrace;
+import io.mapsmessaging.devices.trace.Capture;
+import io.mapsmessaging.devices.trace.CapturedTransaction;
+import io.mapsmessaging.devices.trace.TraceOperation;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A chip that answers with the transactions of a {@link Capture}, so a driver can be run against
+ * traffic recorded from a real device. Each transaction the driver makes is matched, in order,
+ * with the next captured transaction of the same kind to the same register or command, and a read
+ * returns the bytes and result that were captured.
+ * <p>
+ * If the driver makes a transaction the capture does not have next, the capture is searched a
+ * short way ahead for it, and the captured transactions passed over are counted as skipped. If it
+ * is not found the transaction fails, and is counted as a mismatch. A write whose data differs from
+ * the capture is accepted but counted as divergent. Once the capture is used up every transaction
+ * fails, unless the replay loops.
+ * <p>
+ * With {@link ReplayTiming#ORIGINAL} timing the bus latency should be left at zero, since the
+ * captured durations already include it.
+ */
+public class ReplayModel extends ChipModel {
+
+  private static final int LOOKAHEAD = 64;
+
+  private final Capture capture;
+  private final List<CapturedTransaction> transactions;
+  @Getter
+  private final ReplayTiming timing;
+  @Getter
+  @Setter
+  private boolean loop;
+
+  private int cursor;
+  private int selected;
+  private CapturedTransaction pending;
+  private long origin;
+  private long base;
+
+  @Getter
+  private long matched;
+  @Getter
+  private long skipped;
+  @Getter
+  private long mismatches;
+  @Getter
+  private long divergent;
+
+  public ReplayModel(Capture capture, ReplayTiming timing) {
+    super(1);
+    this.capture = capture;
+    this.timing = timing;
+    transactions = capture.getTransactions();
+    loop = false;
+    reset();
+  }
+
+  @Override
+  public String getName() {
+    return "Replay " + capture.getName();
+  }
+
+  /**
+   * @return true once every captured transaction has been replayed or skipped
+   */
+  public boolean isComplete() {
+    for (int x = cursor; x < transactions.size(); x++) {
+      if (transactions.get(x).isTransfer()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int getPosition() {
+    return cursor;
+  }
+
+  /**
+   * A write that is either a transaction of its own or the write half of a write then read
+   */
+  @Override
+  public int write(byte[] data, int offset, int length) {
+    if (length <= 0) {
+      return 0;
+    }
+    int command = data[offset] & 0xff;
+    CapturedTransaction transaction = next(entry ->
+        (entry.getOperation() == TraceOperation.WRITE_READ ||
+            (entry.getOperation() == TraceOperation.WRITE && !entry.hasRegister())) &&
+            entry.getWritten().length > 0 && (entry.getWritten()[0] & 0xff) == command);
+    if (transaction == null) {
+      return -1;
+    }
+    compare(transaction, data, offset, length);
+    if (transaction.getOperation() == TraceOperation.WRITE_READ) {
+      if (transaction.isFailed()) {
+        return transaction.getResult();
+      }
+      pending = transaction;
+      return length;
+    }
+    return transaction.getResult();
+  }
+
+  @Override
+  public int writeRegisters(int register, byte[] data, int offset, int length) {
+    CapturedTransaction transaction = next(entry ->
+        entry.getOperation() == TraceOperation.WRITE && entry.getRegister() == register);
+    if (transaction == null) {
+      return -1;
+    }
+    compare(transaction, data, offset, length);
+    return transaction.isFailed() ? transaction.getResult() : length;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    CapturedTransaction transaction = pending;
+    pending = null;
+    if (transaction == null) {
+      int register = selected;
+      selected = BusTrace.NO_REGISTER;
+      transaction = next(entry -> entry.getOperation() == TraceOperation.READ && entry.getRegister() == register);
+      if (transaction == null) {
+        return -1;
+      }
+    }
+    if (transaction.isFailed()) {
+      return transaction.getResult();
+    }
+    byte[] data = transaction.getRead();
+    int count = Math.min(length, data.length);
+    System.arraycopy(data, 0, buffer, offset, count);
+    return Math.min(transaction.getResult(), length);
+  }
+
+  @Override
+  public void select(int register) {
+    selected = register;
+  }
+
+  @Override
+  public int peek(int register) {
+    return 0;
+  }
+
+  @Override
+  public void poke(int register, int value) {
+    // A replay has no registers of its own
+  }
+
+  /**
+   * Starts the replay again from the first captured transaction
+   */
+  @Override
+  public void reset() {
+    cursor = 0;
+    selected = BusTrace.NO_REGISTER;
+    pending = null;
+    origin = 0;
+    matched = 0;
+    skipped = 0;
+    mismatches = 0;
+    divergent = 0;
+  }
+
+  private CapturedTransaction next(Match match) {
+    if (cursor >= transactions.size() && loop) {
+      cursor = 0;
+      origin = 0;
+    }
+    int passed = 0;
+    for (int x = cursor; x < transactions.size() && passed <= LOOKAHEAD; x++) {
+      CapturedTransaction entry = transactions.get(x);
+      if (!entry.isTransfer()) {
+        continue;
+      }
+      if (match.test(entry)) {
+        skipped += passed;
+        matched++;
+        cursor = x + 1;
+        pace(entry);
+        return entry;
+      }
+      passed++;
+    }
+    mismatches++;
+    return null;
+  }
+
+  private void compare(CapturedTransaction transaction, byte[] data, int offset, int length) {
+    byte[] written = transaction.getWritten();
+    boolean same = written.length == length;
+    for (int x = 0; same && x < length; x++) {
+      same = written[x] == data[offset + x];
+    }
+    if (!same) {
+      divergent++;
+    }
+  }
+
+  private void pace(CapturedTransaction transaction) {
+    if (timing != ReplayTiming.ORIGINAL) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (origin == 0) {
+      origin = now;
+      base = transaction.getTime();
+    }
+    long end = Math.max(now, origin + (transaction.getTime() - base)) + transaction.getElapsedNanos();
+    long remaining = end - now;
+    while (remaining > 0) {
+      LockSupport.parkNanos(remaining);
+      remaining = end - System.nanoTime();
+    }
+  }
+
+  private interface Match {
+    boolean test(CapturedTransaction transaction);
+  }
+}
@@ -22,6 +22,21 @@ public interface AddressableDevice {
 
   int readRegister(int register, byte[] buffer, int offset, int length);
 
+  /**
+   * Writes the supplied bytes, typically a register or memory pointer, and then reads the response.
+   * Buses that support it send both as a single transfer using a repeated start, so the device is
+   * addressed once and no other transfer can occur between the write and the read.
+   *
+   * @return the number of bytes read, or a negative value on failure
+   */
+  default int writeRead(byte[] write, byte[] buffer, int offset, int length) {
+    int result = write(write);
+    if (result < 0) {
+      return result;
+    }
+    return read(buffer, offset, length);
+  }
+
   int getDevice();
 
   int read();
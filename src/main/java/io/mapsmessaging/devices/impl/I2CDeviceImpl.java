@@ -50,6 +50,11 @@ public class I2CDeviceImpl implements AddressableDevice {
     return i2c.readRegister(register, buffer, offset, length);
   }
 
+  @Override
+  public int writeRead(byte[] write, byte[] buffer, int offset, int length) {
+    return i2c.readRegister(write, buffer, offset, length);
+  }
+
   @Override
   public int getDevice() {
     return i2c.getDevice();
@@ -0,0 +1,277 @@
+package io.mapsmessaging.devices.io;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary alternative to the JSON register snapshot. The values are the same trees Jackson
+ * produces for the JSON format, but every string, which includes the field names, enum values and
+ * class ids, is written once and then referred to by index. Integers are written as zig-zag varints.
+ * <p>
+ * Layout: magic, version, entry count, then for each entry the register, the class id and the value.
+ */
+public class BinaryRegisterFormat {
+
+  private static final byte[] MAGIC = {(byte) 0xB1, 'R', 'D'};
+  private static final int VERSION = 1;
+  private static final String CLASS_NAME = "className";
+
+  private static final int NULL = 0;
+  private static final int FALSE = 1;
+  private static final int TRUE = 2;
+  private static final int INTEGER = 3;
+  private static final int FLOAT = 4;
+  private static final int STRING = 5;
+  private static final int ARRAY = 6;
+  private static final int OBJECT = 7;
+  private static final int BINARY = 8;
+
+  private final ObjectMapper mapper;
+
+  public BinaryRegisterFormat(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  public static boolean isBinary(byte[] data) {
+    if (data == null || data.length < MAGIC.length) {
+      return false;
+    }
+    for (int x = 0; x < MAGIC.length; x++) {
+      if (data[x] != MAGIC[x]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public byte[] write(Map<Integer, RegisterData> map) {
+    Writer writer = new Writer();
+    writer.out.write(MAGIC, 0, MAGIC.length);
+    writer.out.write(VERSION);
+    writer.writeVarint(map.size());
+    for (Map.Entry<Integer, RegisterData> entry : map.entrySet()) {
+      RegisterData data = entry.getValue();
+      writer.writeVarint(zigZag(entry.getKey()));
+      writer.writeString(PackageNameProcessor.getInstance().getPrefix(data.getClass()));
+      ObjectNode node = mapper.valueToTree(data);
+      node.remove(CLASS_NAME);
+      writer.writeNode(node);
+    }
+    return writer.out.toByteArray();
+  }
+
+  public Map<Integer, RegisterData> read(byte[] data) throws IOException {
+    if (!isBinary(data)) {
+      throw new IOException("Not a binary register snapshot");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(data, MAGIC.length, data.length - MAGIC.length);
+    try {
+      int version = buffer.get() & 0xff;
+      if (version != VERSION) {
+        throw new IOException("Unsupported binary register snapshot version " + version);
+      }
+      Reader reader = new Reader(buffer);
+      int count = (int) reader.readVarint();
+      Map<Integer, RegisterData> map = new LinkedHashMap<>();
+      for (int x = 0; x < count; x++) {
+        int register = (int) unZigZag(reader.readVarint());
+        String id = reader.readString();
+        JsonNode node = reader.readNode();
+        if (!(node instanceof ObjectNode)) {
+          throw new IOException("Register " + register + " is not an object");
+        }
+        ((ObjectNode) node).put(CLASS_NAME, id);
+        Class<?> type = PackageNameProcessor.getInstance().resolveClass(id);
+        map.put(register, (RegisterData) mapper.treeToValue(node, type));
+      }
+      return map;
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Truncated binary register snapshot", e);
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static final class Writer {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    private void writeNode(JsonNode node) {
+      if (node == null || node.isNull() || node.isMissingNode()) {
+        out.write(NULL);
+      } else if (node.isBoolean()) {
+        out.write(node.booleanValue() ? TRUE : FALSE);
+      } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+        out.write(INTEGER);
+        writeVarint(zigZag(node.longValue()));
+      } else if (node.isNumber()) {
+        out.write(FLOAT);
+        writeLong(Double.doubleToLongBits(node.doubleValue()));
+      } else if (node.isBinary()) {
+        out.write(BINARY);
+        byte[] data = binaryValue(node);
+        writeVarint(data.length);
+        out.write(data, 0, data.length);
+      } else if (node.isArray()) {
+        out.write(ARRAY);
+        writeVarint(node.size());
+        for (JsonNode child : node) {
+          writeNode(child);
+        }
+      } else if (node.isObject()) {
+        out.write(OBJECT);
+        writeVarint(node.size());
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          writeString(field.getKey());
+          writeNode(field.getValue());
+        }
+      } else {
+        out.write(STRING);
+        writeString(node.asText());
+      }
+    }
+
+    // A string already written is sent as its index, otherwise as its length and bytes
+    private void writeString(String value) {
+      Integer index = strings.get(value);
+      if (index != null) {
+        writeVarint(((long) index << 1) | 1);
+        return;
+      }
+      strings.put(value, strings.size());
+      byte[] data = value.getBytes(StandardCharsets.UTF_8);
+      writeVarint((long) data.length << 1);
+      out.write(data, 0, data.length);
+    }
+
+    private void writeVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+
+    private void writeLong(long value) {
+      for (int x = 56; x >= 0; x -= 8) {
+        out.write((int) (value >> x));
+      }
+    }
+
+    private static byte[] binaryValue(JsonNode node) {
+      try {
+        return node.binaryValue();
+      } catch (IOException e) {
+        return new byte[0];
+      }
+    }
+  }
+
+  private static final class Reader {
+    private final ByteBuffer buffer;
+    private final List<String> strings = new ArrayList<>();
+
+    private Reader(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    private JsonNode readNode() throws IOException {
+      int tag = buffer.get() & 0xff;
+      switch (tag) {
+        case NULL:
+          return JsonNodeFactory.instance.nullNode();
+        case FALSE:
+          return JsonNodeFactory.instance.booleanNode(false);
+        case TRUE:
+          return JsonNodeFactory.instance.booleanNode(true);
+        case INTEGER:
+          return JsonNodeFactory.instance.numberNode(unZigZag(readVarint()));
+        case FLOAT:
+          return JsonNodeFactory.instance.numberNode(Double.longBitsToDouble(buffer.getLong()));
+        case STRING:
+          return JsonNodeFactory.instance.textNode(readString());
+        case BINARY:
+          byte[] data = new byte[readLength()];
+          buffer.get(data);
+          return JsonNodeFactory.instance.binaryNode(data);
+        case ARRAY:
+          int size = readLength();
+          ArrayNode array = JsonNodeFactory.instance.arrayNode(size);
+          for (int x = 0; x < size; x++) {
+            array.add(readNode());
+          }
+          return array;
+        case OBJECT:
+          int fields = readLength();
+          ObjectNode object = JsonNodeFactory.instance.objectNode();
+          for (int x = 0; x < fields; x++) {
+            String name = readString();
+            object.set(name, readNode());
+          }
+          return object;
+        default:
+          throw new IOException("Unknown value tag " + tag);
+      }
+    }
+
+    private String readString() throws IOException {
+      long header = readVarint();
+      if ((header & 1) != 0) {
+        long index = header >>> 1;
+        if (index >= strings.size()) {
+          throw new IOException("Invalid string reference " + index);
+        }
+        return strings.get((int) index);
+      }
+      long length = header >>> 1;
+      if (length > buffer.remaining()) {
+        throw new BufferUnderflowException();
+      }
+      String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) length, StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + (int) length);
+      strings.add(value);
+      return value;
+    }
+
+    private int readLength() {
+      long length = readVarint();
+      if (length > buffer.remaining()) {
+        throw new BufferUnderflowException();
+      }
+      return (int) length;
+    }
+
+    private long readVarint() {
+      long value = 0;
+      int shift = 0;
+      int b;
+      do {
+        b = buffer.get() & 0xff;
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0 && shift < 64);
+      return value;
+    }
+  }
+}
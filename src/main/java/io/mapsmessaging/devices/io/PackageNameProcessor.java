@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PackageNameProcessor {
 
@@ -21,11 +22,31 @@ public class PackageNameProcessor {
   private static final PackageNameProcessor instance = new PackageNameProcessor();
   private final Map<String, String> byPackageName;
 
+  // The mapping never changes, so the results for each class and id only need to be worked out once
+  private final Map<Class<?>, String> idByClass;
+  private final Map<String, Class<?>> classById;
+
   private PackageNameProcessor() {
     byPackageName = new LinkedHashMap<>();
     for (String[] map : MAPPING) {
       byPackageName.put(map[0], map[1]);
     }
+    idByClass = new ConcurrentHashMap<>();
+    classById = new ConcurrentHashMap<>();
+  }
+
+  public String getPrefix(Class<?> type) {
+    return idByClass.computeIfAbsent(type, t -> getPrefix(t.getName()));
+  }
+
+  public Class<?> resolveClass(String id) throws ClassNotFoundException {
+    Class<?> type = classById.get(id);
+    if (type == null) {
+      type = Class.forName(getPackage(id));
+      classById.put(id, type);
+      idByClass.putIfAbsent(type, id);
+    }
+    return type;
   }
 
   public String getPrefix(String packageName) {
@@ -50,9 +50,9 @@ public class RegisterDataDeserializer extends StdDeserializer<RegisterData> {
   }
 
   private RegisterData deserialize(JsonNode node) {
-    String className = PackageNameProcessor.getInstance().getPackage(node.get("className").asText());
+    String className = node.get("className").asText();
     try {
-      Class<?> cls = Class.forName(className);
+      Class<?> cls = PackageNameProcessor.getInstance().resolveClass(className);
       return (RegisterData) mapper.treeToValue(node, cls);
     } catch (ClassNotFoundException | JsonProcessingException e) {
       throw new RuntimeException("Could not find class " + className, e);
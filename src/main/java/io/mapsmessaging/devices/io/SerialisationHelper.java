@@ -6,11 +6,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.mapsmessaging.devices.deviceinterfaces.RegisterData;
 
+import java.io.IOException;
 import java.util.Map;
 
 public class SerialisationHelper {
 
   private final ObjectMapper mapper;
+  private final BinaryRegisterFormat binaryFormat;
 
   public SerialisationHelper() {
     mapper = new ObjectMapper();
@@ -18,17 +20,27 @@ public class SerialisationHelper {
     SimpleModule module = new SimpleModule();
     module.addDeserializer(RegisterData.class, new RegisterDataDeserializer(mapper));
     mapper.registerModule(module);
+    binaryFormat = new BinaryRegisterFormat(mapper);
   }
 
-  public Map<Integer, RegisterData> deserialise(byte[] val) throws JsonProcessingException {
-    RegisterDataWrapper wrapper2 = mapper.readValue(new String(val), RegisterDataWrapper.class);
+  public Map<Integer, RegisterData> deserialise(byte[] val) throws IOException {
+    if (BinaryRegisterFormat.isBinary(val)) {
+      return binaryFormat.read(val);
+    }
+    RegisterDataWrapper wrapper2 = mapper.readValue(val, RegisterDataWrapper.class);
     return wrapper2.getMap();
   }
 
   public byte[] serialise(Map<Integer, RegisterData> map) throws JsonProcessingException {
     RegisterDataWrapper wrapper = new RegisterDataWrapper(map);
-    String json = mapper.writeValueAsString(wrapper);
-    return json.getBytes();
+    return mapper.writeValueAsBytes(wrapper);
+  }
+
+  /**
+   * Encodes the registers in the compact binary format, deserialise() accepts either format
+   */
+  public byte[] serialiseBinary(Map<Integer, RegisterData> map) {
+    return binaryFormat.write(map);
   }
 
 }
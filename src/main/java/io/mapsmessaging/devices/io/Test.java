@@ -22,6 +22,8 @@ import io.mapsmessaging.devices.i2c.I2CDevice;
 import io.mapsmessaging.devices.i2c.devices.RegisterMap;
 import io.mapsmessaging.devices.i2c.devices.rtc.ds3231.register.AgingRegister;
 import io.mapsmessaging.devices.i2c.devices.rtc.ds3231.register.AlarmDayRegister;
+import io.mapsmessaging.devices.i2c.emulator.Ds3231Model;
+import io.mapsmessaging.devices.i2c.emulator.EmulatedI2CBus;
 import io.mapsmessaging.devices.impl.AddressableDevice;
 import io.mapsmessaging.logging.Logger;
 import io.mapsmessaging.logging.LoggerFactory;
@@ -34,7 +36,9 @@ public class Test {
     SerialisationHelper helper = new SerialisationHelper();
 
 
-    TestDevice testDevice = new TestDevice(new Addressable(), LoggerFactory.getLogger(TestDevice.class));
+    EmulatedI2CBus bus = new EmulatedI2CBus(100);
+    AddressableDevice rtc = bus.attach(0x68, new Ds3231Model());
+    TestDevice testDevice = new TestDevice(rtc, LoggerFactory.getLogger(TestDevice.class));
     RegisterMap registerMap = new RegisterMap();
     registerMap.addRegister(new AgingRegister(testDevice));
     registerMap.addRegister(new AlarmDayRegister(testDevice, 10, "day"));
@@ -50,59 +54,6 @@ public class Test {
     System.out.println(map2);
   }
 
-  private static class Addressable implements AddressableDevice {
-
-    @Override
-    public void close() {
-
-    }
-
-    @Override
-    public int getBus() {
-      return 1;
-    }
-
-    @Override
-    public int write(int val) {
-      return 0;
-    }
-
-    @Override
-    public int write(byte[] buffer, int offset, int length) {
-      return 0;
-    }
-
-    @Override
-    public int writeRegister(int register, byte[] data) {
-      return 0;
-    }
-
-    @Override
-    public int read(byte[] buffer, int offset, int length) {
-      return 0;
-    }
-
-    @Override
-    public int readRegister(int register) {
-      return 0;
-    }
-
-    @Override
-    public int readRegister(int register, byte[] buffer, int offset, int length) {
-      return 0;
-    }
-
-    @Override
-    public int getDevice() {
-      return 0;
-    }
-
-    @Override
-    public int read() {
-      return 0;
-    }
-  }
-
   private static class TestDevice extends I2CDevice {
 
     protected TestDevice(AddressableDevice device, Logger logger) {
@@ -9,7 +9,7 @@ public class TypeNameResolver extends TypeIdResolverBase {
 
   @Override
   public String idFromValue(Object value) {
-    return PackageNameProcessor.getInstance().getPrefix(value.getClass().getName());
+    return PackageNameProcessor.getInstance().getPrefix(value.getClass());
   }
 
   @Override
@@ -20,8 +20,7 @@ public class TypeNameResolver extends TypeIdResolverBase {
   @Override
   public JavaType typeFromId(DatabindContext context, String id) {
     try {
-      id = PackageNameProcessor.getInstance().getPackage(id);
-      Class<?> clazz = Class.forName(id);
+      Class<?> clazz = PackageNameProcessor.getInstance().resolveClass(id);
       return context.constructType(clazz);
     } catch (ClassNotFoundException e) {
       throw new IllegalStateException("Cannot find class " + id, e);
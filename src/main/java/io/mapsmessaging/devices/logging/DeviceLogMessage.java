@@ -13,6 +13,9 @@ public enum DeviceLogMessage implements LogMessage {
   BUS_MANAGER_CONFIGURE_DEVICES(LEVEL.DEBUG, BUS.MANAGER, "Configure devices called"),
   BUS_MANAGER_PROVIDER(LEVEL.WARN, BUS.MANAGER, "Using GPIO Provider {} from PiGPIO"),
   BUS_MANAGER_SHUTDOWN(LEVEL.WARN, BUS.MANAGER, "Bus Manager shutting down"),
+  SENSOR_POLLER_ADDED(LEVEL.DEBUG, BUS.MANAGER, "Polling {} every {}ms"),
+  SENSOR_POLLER_REMOVED(LEVEL.DEBUG, BUS.MANAGER, "Stopped polling {}"),
+  SENSOR_POLLER_FAILED(LEVEL.DEBUG, BUS.MANAGER, "Poll of {} failed, reason {}"),
   //</editor-fold>
 
   //<editor-fold desc="I2C Bus Manager messages">
@@ -32,6 +35,9 @@ public enum DeviceLogMessage implements LogMessage {
   I2C_BUS_DEVICE_READ(LEVEL.DEBUG, BUS.I2C_DEVICE, "Reading from device on Bus: {} Address: {}, Register: {}, Data : {}"),
   I2C_BUS_DEVICE_WRITE(LEVEL.DEBUG, BUS.I2C_DEVICE, "Writing to device on Bus: {} Address: {}, Register: {}, Data : {}"),
   I2C_BUS_DEVICE_DELAY(LEVEL.DEBUG, BUS.I2C_DEVICE, "Delaying device on Bus: {} Address: {} for {}ms"),
+  I2C_BUS_DEVICE_CAPTURE(LEVEL.WARN, BUS.I2C_DEVICE, "Capturing transactions on Bus: {} Address: {} to {}"),
+  I2C_BUS_DEVICE_CAPTURE_FAILED(LEVEL.WARN, BUS.I2C_DEVICE, "Capture stopped on Bus: {} Address: {}, reason {}"),
+  I2C_BUS_DEVICE_TRACE(LEVEL.WARN, BUS.I2C_DEVICE, "Transaction failed on Bus: {} Address: {}, reason {}, recent transactions:\n{}"),
 
   I2C_BUS_DEVICE_READ_REQUEST(LEVEL.DEBUG, BUS.I2C_DEVICE, "{}, requesting {} and received result {}"),
   I2C_BUS_DEVICE_WRITE_REQUEST(LEVEL.DEBUG, BUS.I2C_DEVICE, "{} Called {}"),
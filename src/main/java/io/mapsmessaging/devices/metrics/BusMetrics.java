@@ -0,0 +1,267 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import lombok.Getter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bus usage of a single device. The device layer records every read and write, with the bytes moved
+ * and the time taken, and the time the driver spent in delay() waiting for the device. The
+ * schedulers record how long each request waited for the bus and how long it then held it.
+ * Operations that fail are counted as failures, not as reads or writes.
+ */
+public class BusMetrics implements BusMetricsMXBean {
+
+  @Getter
+  private final String name;
+  @Getter
+  private final String busType;
+  @Getter
+  private final String bus;
+  @Getter
+  private final String device;
+
+  private final LongAdder reads;
+  private final LongAdder writes;
+  private final LongAdder failures;
+  private final LongAdder bytesRead;
+  private final LongAdder bytesWritten;
+  private final LongAdder delayed;
+
+  @Getter
+  private final LatencyHistogram latency;
+  @Getter
+  private final LatencyHistogram lockWait;
+  @Getter
+  private final LatencyHistogram lockHold;
+
+  BusMetrics(String busType, String bus, String device) {
+    this.busType = busType;
+    this.bus = bus;
+    this.device = device;
+    name = busType + "-" + bus + "-" + device;
+    reads = new LongAdder();
+    writes = new LongAdder();
+    failures = new LongAdder();
+    bytesRead = new LongAdder();
+    bytesWritten = new LongAdder();
+    delayed = new LongAdder();
+    latency = new LatencyHistogram();
+    lockWait = new LatencyHistogram();
+    lockHold = new LatencyHistogram();
+  }
+
+  /**
+   * @param written bytes sent to the device first, such as the register address
+   * @param read    bytes read back
+   * @param start   System.nanoTime() when the operation started
+   */
+  public void recordRead(int written, int read, long start) {
+    latency.record(System.nanoTime() - start);
+    reads.increment();
+    bytesWritten.add(written);
+    bytesRead.add(read);
+  }
+
+  public void recordWrite(int written, long start) {
+    latency.record(System.nanoTime() - start);
+    writes.increment();
+    bytesWritten.add(written);
+  }
+
+  public void recordFailure(long start) {
+    latency.record(System.nanoTime() - start);
+    failures.increment();
+  }
+
+  public void recordDelay(long nanos) {
+    delayed.add(nanos);
+  }
+
+  /**
+   * @param waited nanoseconds a request waited before it was given the bus
+   * @param held   nanoseconds it then held the bus
+   */
+  public void recordLock(long waited, long held) {
+    lockWait.record(waited);
+    lockHold.record(held);
+  }
+
+  @Override
+  public long getReadCount() {
+    return reads.sum();
+  }
+
+  @Override
+  public long getWriteCount() {
+    return writes.sum();
+  }
+
+  @Override
+  public long getOperationCount() {
+    return reads.sum() + writes.sum();
+  }
+
+  @Override
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  @Override
+  public long getBytesRead() {
+    return bytesRead.sum();
+  }
+
+  @Override
+  public long getBytesWritten() {
+    return bytesWritten.sum();
+  }
+
+  @Override
+  public long getTransactionCount() {
+    return reads.sum() + writes.sum() + failures.sum();
+  }
+
+  @Override
+  public long getTotalDelay() {
+    return delayed.sum();
+  }
+
+  @Override
+  public double getMeanLatency() {
+    return latency.getMean();
+  }
+
+  @Override
+  public long getLatency50thPercentile() {
+    return latency.getPercentile(50);
+  }
+
+  @Override
+  public long getLatency99thPercentile() {
+    return latency.getPercentile(99);
+  }
+
+  @Override
+  public long getMaxLatency() {
+    return latency.getMax();
+  }
+
+  @Override
+  public long getLockWaitCount() {
+    return lockWait.getCount();
+  }
+
+  @Override
+  public long getTotalLockWait() {
+    return lockWait.getTotal();
+  }
+
+  @Override
+  public double getMeanLockWait() {
+    return lockWait.getMean();
+  }
+
+  @Override
+  public long getLockWait99thPercentile() {
+    return lockWait.getPercentile(99);
+  }
+
+  @Override
+  public long getMaxLockWait() {
+    return lockWait.getMax();
+  }
+
+  @Override
+  public long getTotalLockHold() {
+    return lockHold.getTotal();
+  }
+
+  @Override
+  public double getMeanLockHold() {
+    return lockHold.getMean();
+  }
+
+  @Override
+  public long getLockHold99thPercentile() {
+    return lockHold.getPercentile(99);
+  }
+
+  @Override
+  public long getMaxLockHold() {
+    return lockHold.getMax();
+  }
+
+  @Override
+  public void reset() {
+    reads.reset();
+    writes.reset();
+    failures.reset();
+    bytesRead.reset();
+    bytesWritten.reset();
+    delayed.reset();
+    latency.reset();
+    lockWait.reset();
+    lockHold.reset();
+  }
+
+  public JSONObject toJson() {
+    JSONObject json = new JSONObject();
+    json.put("name", name);
+    json.put("busType", busType);
+    json.put("bus", bus);
+    json.put("device", device);
+    json.put("reads", getReadCount());
+    json.put("writes", getWriteCount());
+    json.put("failures", getFailureCount());
+    json.put("bytesRead", getBytesRead());
+    json.put("bytesWritten", getBytesWritten());
+    json.put("delay", getTotalDelay());
+    json.put("latency", toJson(latency));
+    json.put("lockWait", toJson(lockWait));
+    json.put("lockHold", toJson(lockHold));
+    return json;
+  }
+
+  // The buckets are listed up to the last one used, each as its upper bound in nanoseconds and count
+  private static JSONObject toJson(LatencyHistogram histogram) {
+    JSONObject json = new JSONObject();
+    json.put("count", histogram.getCount());
+    json.put("total", histogram.getTotal());
+    json.put("mean", histogram.getMean());
+    json.put("p50", histogram.getPercentile(50));
+    json.put("p90", histogram.getPercentile(90));
+    json.put("p99", histogram.getPercentile(99));
+    json.put("max", histogram.getMax());
+    long[] counts = histogram.getBucketCounts();
+    int last = counts.length - 1;
+    while (last >= 0 && counts[last] == 0) {
+      last--;
+    }
+    JSONArray buckets = new JSONArray();
+    for (int x = 0; x <= last; x++) {
+      buckets.put(new JSONArray().put(LatencyHistogram.getUpperBound(x)).put(counts[x]));
+    }
+    json.put("buckets", buckets);
+    return json;
+  }
+}
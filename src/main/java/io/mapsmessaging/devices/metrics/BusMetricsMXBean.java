@@ -0,0 +1,73 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+/**
+ * JMX view of the bus metrics of a single device. Durations are in nanoseconds.
+ */
+public interface BusMetricsMXBean {
+
+  String getName();
+
+  long getReadCount();
+
+  long getWriteCount();
+
+  long getOperationCount();
+
+  long getFailureCount();
+
+  /**
+   * @return reads, writes and failures, every transaction that went out on the bus
+   */
+  long getTransactionCount();
+
+  long getBytesRead();
+
+  long getBytesWritten();
+
+  long getTotalDelay();
+
+  double getMeanLatency();
+
+  long getLatency50thPercentile();
+
+  long getLatency99thPercentile();
+
+  long getMaxLatency();
+
+  long getLockWaitCount();
+
+  long getTotalLockWait();
+
+  double getMeanLockWait();
+
+  long getLockWait99thPercentile();
+
+  long getMaxLockWait();
+
+  long getTotalLockHold();
+
+  double getMeanLockHold();
+
+  long getLockHold99thPercentile();
+
+  long getMaxLockHold();
+
+  void reset();
+}
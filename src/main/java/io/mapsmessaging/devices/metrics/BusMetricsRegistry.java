@@ -0,0 +1,130 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the bus metrics of every device, one instance per physical device however many times it is
+ * opened, and registers each with the platform MBean server as
+ * io.mapsmessaging.devices:type=BusMetrics,bus=&lt;bus&gt;,device=&lt;device&gt;
+ */
+public class BusMetricsRegistry {
+
+  private static final String DOMAIN = "io.mapsmessaging.devices";
+
+  private static class Holder {
+    private static final BusMetricsRegistry INSTANCE = new BusMetricsRegistry();
+  }
+
+  public static BusMetricsRegistry getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private final Map<String, BusMetrics> metrics;
+
+  private BusMetricsRegistry() {
+    metrics = new ConcurrentHashMap<>();
+  }
+
+  public BusMetrics getI2CMetrics(int bus, int address) {
+    return getMetrics("i2c", Integer.toString(bus), String.format("0x%02X", address));
+  }
+
+  public BusMetrics getMetrics(String busType, String bus, String device) {
+    String name = busType + "-" + bus + "-" + device;
+    BusMetrics existing = metrics.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    return metrics.computeIfAbsent(name, k -> register(new BusMetrics(busType, bus, device)));
+  }
+
+  /**
+   * @return the metrics with the name, busType-bus-device, or null
+   */
+  public BusMetrics get(String name) {
+    return metrics.get(name);
+  }
+
+  /**
+   * @return the metrics of every device, ordered by name
+   */
+  public List<BusMetrics> getAll() {
+    List<BusMetrics> list = new ArrayList<>(metrics.values());
+    list.sort(Comparator.comparing(BusMetrics::getName));
+    return list;
+  }
+
+  public void remove(String name) {
+    BusMetrics removed = metrics.remove(name);
+    if (removed != null) {
+      try {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = getObjectName(removed);
+        if (server.isRegistered(objectName)) {
+          server.unregisterMBean(objectName);
+        }
+      } catch (JMException | SecurityException e) {
+        // Nothing registered, so nothing to remove
+      }
+    }
+  }
+
+  public void reset() {
+    for (BusMetrics entry : metrics.values()) {
+      entry.reset();
+    }
+  }
+
+  // The metrics are still collected, and available from the registry, if JMX is not available
+  private static BusMetrics register(BusMetrics entry) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName objectName = getObjectName(entry);
+      if (!server.isRegistered(objectName)) {
+        server.registerMBean(entry, objectName);
+      }
+    } catch (JMException | SecurityException | LinkageError e) {
+      // No JMX in this environment
+    }
+    return entry;
+  }
+
+  private static ObjectName getObjectName(BusMetrics entry) throws JMException {
+    return new ObjectName(DOMAIN + ":type=BusMetrics,bus=" + toValue(entry.getBusType() + "-" + entry.getBus()) +
+        ",device=" + toValue(entry.getDevice()));
+  }
+
+  private static String toValue(String value) {
+    for (int x = 0; x < value.length(); x++) {
+      if (",=:\"*?\n".indexOf(value.charAt(x)) >= 0) {
+        return ObjectName.quote(value);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * The share of a bus's time its traffic occupied over a window. An occupancy of 1 means the bus
+ * was busy for the whole window.
+ */
+@Getter
+public class BusOccupancy {
+
+  private final String bus;
+  private final long windowNanos;
+  private final double busyNanos;
+  private final double occupancy;
+  private final double limit;
+  private final Map<String, Double> devices;
+
+  BusOccupancy(String bus, long windowNanos, double busyNanos, double limit, Map<String, Double> devices) {
+    this.bus = bus;
+    this.windowNanos = windowNanos;
+    this.busyNanos = busyNanos;
+    this.limit = limit;
+    this.devices = devices;
+    occupancy = windowNanos > 0 ? busyNanos / windowNanos : 0;
+  }
+
+  /**
+   * @return the occupancy left before the bus reaches the planner's limit
+   */
+  public double getHeadroom() {
+    return Math.max(0, limit - occupancy);
+  }
+
+  public boolean isOversubscribed() {
+    return occupancy > limit;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import lombok.Getter;
+
+/**
+ * How long a bus is occupied by its traffic. An I2C transaction costs a start condition, the
+ * address byte and a stop condition on top of its data bytes, each of which is 8 bits and an
+ * acknowledge. SPI is full duplex, so a transfer costs the longer of its two directions.
+ */
+@Getter
+public class BusTiming {
+
+  public static final int I2C_STANDARD_MODE = 100_000;
+  public static final int I2C_FAST_MODE = 400_000;
+
+  private static final int I2C_TRANSACTION_BITS = 20;
+  private static final int I2C_BYTE_BITS = 9;
+
+  private final long clockSpeed;
+  private final int transactionBits;
+  private final int byteBits;
+  private final boolean duplex;
+
+  public BusTiming(long clockSpeed, int transactionBits, int byteBits, boolean duplex) {
+    if (clockSpeed <= 0) {
+      throw new IllegalArgumentException("Clock speed must be positive");
+    }
+    this.clockSpeed = clockSpeed;
+    this.transactionBits = transactionBits;
+    this.byteBits = byteBits;
+    this.duplex = duplex;
+  }
+
+  public static BusTiming i2c(long clockSpeed) {
+    return new BusTiming(clockSpeed, I2C_TRANSACTION_BITS, I2C_BYTE_BITS, false);
+  }
+
+  public static BusTiming spi(long clockSpeed) {
+    return new BusTiming(clockSpeed, 0, 8, true);
+  }
+
+  /**
+   * @return nanoseconds the bus is busy moving the transactions and bytes
+   */
+  public double getTransferNanos(double transactions, double bytesWritten, double bytesRead) {
+    double bytes = duplex ? Math.max(bytesWritten, bytesRead) : bytesWritten + bytesRead;
+    double bits = transactions * transactionBits + bytes * byteBits;
+    return bits * 1_000_000_000.0 / clockSpeed;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+// The running totals of a device's bus usage at one instant, used to measure the usage between two
+final class BusUsage {
+
+  final long transactions;
+  final long bytesWritten;
+  final long bytesRead;
+  final long delay;
+
+  private BusUsage(long transactions, long bytesWritten, long bytesRead, long delay) {
+    this.transactions = transactions;
+    this.bytesWritten = bytesWritten;
+    this.bytesRead = bytesRead;
+    this.delay = delay;
+  }
+
+  static BusUsage of(BusMetrics metrics) {
+    return new BusUsage(metrics.getTransactionCount(), metrics.getBytesWritten(), metrics.getBytesRead(), metrics.getTotalDelay());
+  }
+
+  // If the metrics were reset since the earlier usage was taken, everything since the reset is used
+  BusUsage since(BusUsage earlier) {
+    if (earlier == null || transactions < earlier.transactions || delay < earlier.delay) {
+      return this;
+    }
+    return new BusUsage(transactions - earlier.transactions, bytesWritten - earlier.bytesWritten,
+        bytesRead - earlier.bytesRead, delay - earlier.delay);
+  }
+
+  BusUsage plus(BusUsage other) {
+    if (other == null) {
+      return this;
+    }
+    return new BusUsage(transactions + other.transactions, bytesWritten + other.bytesWritten,
+        bytesRead + other.bytesRead, delay + other.delay);
+  }
+
+  double getBusyNanos(BusTiming timing) {
+    return timing.getTransferNanos(transactions, bytesWritten, bytesRead) + delay;
+  }
+}
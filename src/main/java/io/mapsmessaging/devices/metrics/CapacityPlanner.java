@@ -0,0 +1,156 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import io.mapsmessaging.devices.DeviceController;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates how much of each bus's time is taken by its traffic, from the transactions and bytes
+ * in the devices' bus metrics at the bus clock speed plus the time drivers spent in delay(), and
+ * predicts whether an additional polling schedule would take a bus past the occupancy limit.
+ * <p>
+ * Occupancy is measured over a window that runs from the last call to startWindow. Time spent in
+ * delay() is counted as busy, although the arbiter may run other devices during it, so the
+ * estimate errs on the side of caution. Bus clock speeds default to the i2cClockSpeed and
+ * spiClockSpeed system properties, 100 kHz and 1 MHz if not set.
+ */
+public class CapacityPlanner {
+
+  private static final double DEFAULT_LIMIT = 0.8;
+  private static final int MEASURE_SAMPLES = 5;
+
+  private final Map<String, BusTiming> timings;
+  private final Map<String, BusUsage> baselines;
+  private long windowStart;
+
+  @Getter
+  private volatile double limit;
+
+  public CapacityPlanner() {
+    timings = new ConcurrentHashMap<>();
+    baselines = new HashMap<>();
+    limit = DEFAULT_LIMIT;
+    startWindow();
+  }
+
+  /**
+   * @param limit the occupancy, between 0 and 1, a bus should be kept under
+   */
+  public void setLimit(double limit) {
+    if (limit <= 0 || limit > 1) {
+      throw new IllegalArgumentException("Occupancy limit must be greater than 0 and no more than 1");
+    }
+    this.limit = limit;
+  }
+
+  public void setTiming(String bus, BusTiming timing) {
+    timings.put(bus, timing);
+  }
+
+  public BusTiming getTiming(String bus) {
+    BusTiming timing = timings.get(bus);
+    if (timing != null) {
+      return timing;
+    }
+    if (bus.startsWith("spi")) {
+      return BusTiming.spi(Long.getLong("spiClockSpeed", 1_000_000L));
+    }
+    return BusTiming.i2c(Long.getLong("i2cClockSpeed", BusTiming.I2C_STANDARD_MODE));
+  }
+
+  /**
+   * Starts a new measurement window from now
+   */
+  public synchronized void startWindow() {
+    baselines.clear();
+    for (BusMetrics metrics : BusMetricsRegistry.getInstance().getAll()) {
+      baselines.put(metrics.getName(), BusUsage.of(metrics));
+    }
+    windowStart = System.nanoTime();
+  }
+
+  /**
+   * @param bus the bus name, such as i2c-1
+   * @return the occupancy of the bus since the window started
+   */
+  public synchronized BusOccupancy getOccupancy(String bus) {
+    BusTiming timing = getTiming(bus);
+    Map<String, Double> devices = new LinkedHashMap<>();
+    double busy = 0;
+    long window = System.nanoTime() - windowStart;
+    for (BusMetrics metrics : BusMetricsRegistry.getInstance().getAll()) {
+      if (getBus(metrics).equals(bus)) {
+        double device = BusUsage.of(metrics).since(baselines.get(metrics.getName())).getBusyNanos(timing);
+        devices.put(metrics.getDevice(), window > 0 ? device / window : 0);
+        busy += device;
+      }
+    }
+    return new BusOccupancy(bus, window, busy, limit, devices);
+  }
+
+  /**
+   * @return the occupancy of every bus with devices on it, since the window started
+   */
+  public List<BusOccupancy> getOccupancy() {
+    Set<String> buses = new TreeSet<>();
+    for (BusMetrics metrics : BusMetricsRegistry.getInstance().getAll()) {
+      buses.add(getBus(metrics));
+    }
+    List<BusOccupancy> list = new ArrayList<>();
+    for (String bus : buses) {
+      list.add(getOccupancy(bus));
+    }
+    return list;
+  }
+
+  /**
+   * Predicts the occupancy of the bus if a device with the sample cost is polled at the rate, on
+   * top of the traffic measured in the current window
+   */
+  public CapacityPrediction predict(String bus, PollCost cost, double hertz) {
+    return new CapacityPrediction(getOccupancy(bus), cost.getBusyNanos(getTiming(bus)), hertz);
+  }
+
+  /**
+   * Measures the cost of a sample by reading the mounted device, then predicts the occupancy of
+   * its bus if it is polled at the rate
+   */
+  public CapacityPrediction predict(DeviceController controller, double hertz) throws IOException {
+    BusMetrics metrics = controller.getBusMetrics();
+    if (metrics == null) {
+      throw new IOException(controller.getName() + " does not record its bus usage");
+    }
+    BusUsage before = BusUsage.of(metrics);
+    PollCost cost = PollCost.measure(controller, MEASURE_SAMPLES);
+    BusUsage measurement = BusUsage.of(metrics).since(before);
+    synchronized (this) {
+      // The measurement itself is not part of the bus's current traffic
+      baselines.put(metrics.getName(), measurement.plus(baselines.get(metrics.getName())));
+    }
+    return predict(getBus(metrics), cost, hertz);
+  }
+
+  private static String getBus(BusMetrics metrics) {
+    return metrics.getBusType() + "-" + metrics.getBus();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import lombok.Getter;
+
+/**
+ * What the occupancy of a bus would be with an extra polling schedule added to its current traffic
+ */
+@Getter
+public class CapacityPrediction {
+
+  private final BusOccupancy current;
+  private final double sampleNanos;
+  private final double hertz;
+  private final double added;
+  private final double predicted;
+
+  CapacityPrediction(BusOccupancy current, double sampleNanos, double hertz) {
+    this.current = current;
+    this.sampleNanos = sampleNanos;
+    this.hertz = hertz;
+    added = sampleNanos * hertz / 1_000_000_000.0;
+    predicted = current.getOccupancy() + added;
+  }
+
+  public String getBus() {
+    return current.getBus();
+  }
+
+  public double getHeadroom() {
+    return Math.max(0, current.getLimit() - predicted);
+  }
+
+  public boolean isOversubscribed() {
+    return predicted > current.getLimit();
+  }
+
+  /**
+   * @return the highest rate the schedule could run at without taking the bus past the limit
+   */
+  public double getMaxHertz() {
+    if (sampleNanos <= 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return current.getHeadroom() * 1_000_000_000.0 / sampleNanos;
+  }
+}
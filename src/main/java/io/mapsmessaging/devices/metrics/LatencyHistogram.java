@@ -0,0 +1,122 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of durations in nanoseconds. Bucket n counts the durations below 2^n
+ * nanoseconds that did not fit in bucket n - 1, so percentiles are reported as the upper bound of
+ * the bucket they fall in, which is within a factor of two of the true value.
+ */
+public class LatencyHistogram {
+
+  public static final int BUCKETS = 40;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder total;
+  private final AtomicLong max;
+
+  public LatencyHistogram() {
+    buckets = new AtomicLongArray(BUCKETS);
+    count = new LongAdder();
+    total = new LongAdder();
+    max = new AtomicLong();
+  }
+
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos)));
+    count.increment();
+    total.add(nanos);
+    long current = max.get();
+    while (nanos > current && !max.compareAndSet(current, nanos)) {
+      current = max.get();
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotal() {
+    return total.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long samples = count.sum();
+    return samples == 0 ? 0 : (double) total.sum() / samples;
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return the upper bound of the bucket the percentile falls in, or 0 if nothing is recorded
+   */
+  public long getPercentile(double percentile) {
+    long[] counts = getBucketCounts();
+    long samples = 0;
+    for (long bucket : counts) {
+      samples += bucket;
+    }
+    if (samples == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(samples * Math.max(0, Math.min(100, percentile)) / 100.0);
+    long seen = 0;
+    for (int x = 0; x < counts.length; x++) {
+      seen += counts[x];
+      if (seen >= Math.max(1, rank)) {
+        return Math.min(getUpperBound(x), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  public long[] getBucketCounts() {
+    long[] counts = new long[BUCKETS];
+    for (int x = 0; x < BUCKETS; x++) {
+      counts[x] = buckets.get(x);
+    }
+    return counts;
+  }
+
+  /**
+   * @return the exclusive upper bound, in nanoseconds, of the bucket
+   */
+  public static long getUpperBound(int bucket) {
+    return 1L << bucket;
+  }
+
+  public void reset() {
+    for (int x = 0; x < BUCKETS; x++) {
+      buckets.set(x, 0);
+    }
+    count.reset();
+    total.reset();
+    max.set(0);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.metrics;
+
+import io.mapsmessaging.devices.DeviceController;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * The bus traffic of one sample of a device, either measured by reading the device or given from
+ * its data sheet, so the cost of polling it can be predicted before the poll is scheduled
+ */
+@Getter
+public class PollCost {
+
+  private final double transactions;
+  private final double bytesWritten;
+  private final double bytesRead;
+  private final double delayNanos;
+
+  public PollCost(double transactions, double bytesWritten, double bytesRead, double delayNanos) {
+    this.transactions = transactions;
+    this.bytesWritten = bytesWritten;
+    this.bytesRead = bytesRead;
+    this.delayNanos = delayNanos;
+  }
+
+  /**
+   * Reads the device state a number of times and averages the bus traffic it generated. Any other
+   * traffic to the same device while it is measured is included.
+   */
+  public static PollCost measure(DeviceController controller, int samples) throws IOException {
+    BusMetrics metrics = controller.getBusMetrics();
+    if (metrics == null) {
+      throw new IOException(controller.getName() + " does not record its bus usage");
+    }
+    int count = Math.max(1, samples);
+    BusUsage before = BusUsage.of(metrics);
+    for (int x = 0; x < count; x++) {
+      controller.getDeviceState();
+    }
+    BusUsage used = BusUsage.of(metrics).since(before);
+    return new PollCost((double) used.transactions / count, (double) used.bytesWritten / count,
+        (double) used.bytesRead / count, (double) used.delay / count);
+  }
+
+  /**
+   * @return nanoseconds the bus is occupied by one sample
+   */
+  public double getBusyNanos(BusTiming timing) {
+    return timing.getTransferNanos(transactions, bytesWritten, bytesRead) + delayNanos;
+  }
+}
@@ -34,6 +34,7 @@ public class OneWireBusManager {
 
   private final Map<String, OneWireDeviceController> knownDevices;
   private final Map<String, DeviceController> activeDevices;
+  private final Map<String, Map<String, Object>> deviceConfigs;
 
   private final File rootDirectory;
 
@@ -42,6 +43,7 @@ public class OneWireBusManager {
 
     knownDevices = new LinkedHashMap<>();
     activeDevices = new ConcurrentHashMap<>();
+    deviceConfigs = new ConcurrentHashMap<>();
     rootDirectory = new File(ONE_WIRE_ROOT_PATH);
     if (rootDirectory.exists()) {
       ServiceLoader<OneWireDeviceController> deviceEntries = ServiceLoader.load(OneWireDeviceController.class);
@@ -60,6 +62,32 @@ public class OneWireBusManager {
     return activeDevices;
   }
 
+  /**
+   * 1-Wire devices mount themselves from the filesystem, so the configuration only carries the
+   * reading filter settings. Each key is a device id, such as 28-0316a2795cff, or a family prefix,
+   * such as 28, and applies to the matching devices found now and by later scans.
+   */
+  @SuppressWarnings("unchecked")
+  public void configureDevices(Map<String, Object> configuration) {
+    for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+      if (entry.getValue() instanceof Map) {
+        deviceConfigs.put(entry.getKey(), (Map<String, Object>) entry.getValue());
+      }
+    }
+    for (Map.Entry<String, DeviceController> entry : activeDevices.entrySet()) {
+      configure(entry.getKey(), (OneWireDeviceController) entry.getValue());
+    }
+  }
+
+  private OneWireDeviceController configure(String path, OneWireDeviceController controller) {
+    for (Map.Entry<String, Map<String, Object>> entry : deviceConfigs.entrySet()) {
+      if (path.startsWith(entry.getKey())) {
+        controller.getReadingFilter().configure(entry.getValue());
+      }
+    }
+    return controller;
+  }
+
   public void scan() {
     File[] files = rootDirectory.listFiles();
     if (files == null) return;
@@ -69,7 +97,7 @@ public class OneWireBusManager {
           File data = new File(device, "w1_slave");
           if (data.exists()) {
             String path = device.getName();
-            activeDevices.computeIfAbsent(path, s -> entry.getValue().mount(data));
+            activeDevices.computeIfAbsent(path, s -> configure(s, entry.getValue().mount(data)));
           }
         }
       }
@@ -17,21 +17,83 @@
 package io.mapsmessaging.devices.onewire;
 
 import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.FilteredStateEncoder;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.File;
+import java.io.IOException;
 
 @Getter
 @Setter
 public abstract class OneWireDeviceController implements DeviceController {
 
   private boolean raiseExceptionOnError = false;
+  private StateFormat stateFormat = StateFormat.JSON;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private StateEncoder stateEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private FilteredStateEncoder filteredEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean filtering;
+  private final ReadingFilter readingFilter = new ReadingFilter();
 
   public abstract String getId();
 
   public abstract OneWireDeviceController mount(File path);
 
+  /**
+   * Every 1-Wire driver has to say whether it takes readings, since this is what pollAllSensors,
+   * and the reading filter, use to find them
+   *
+   * @return the mounted device if it is a sensor, otherwise null
+   */
+  @Override
+  public abstract Sensor getSensor();
+
+  /**
+   * @return the encoder for this controller's state format, started and ready for the values
+   */
+  protected StateEncoder startState() {
+    if (stateEncoder == null || stateEncoder.getFormat() != stateFormat) {
+      stateEncoder = stateFormat.createEncoder();
+      filteredEncoder = null;
+    }
+    StateEncoder encoder = stateEncoder.start();
+    if (!filtering) {
+      return encoder;
+    }
+    if (filteredEncoder == null) {
+      filteredEncoder = new FilteredStateEncoder(stateFormat);
+    }
+    return filteredEncoder.begin(encoder, readingFilter);
+  }
+
+  /**
+   * Builds the state with getDeviceState, passing on only the values the reading filter lets through
+   */
+  @Override
+  public byte[] getDeviceStateChanges() throws IOException {
+    Sensor sensor = getSensor();
+    if (sensor != null && filteredEncoder == null) {
+      readingFilter.setReadings(sensor.getReadings());
+    }
+    filtering = true;
+    try {
+      return getDeviceState();
+    } finally {
+      filtering = false;
+    }
+  }
+
   @Override
   public void setRaiseExceptionOnError(boolean flag) {
 
@@ -18,13 +18,15 @@ package io.mapsmessaging.devices.onewire.devices.ds18b20;
 
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.StateEncoder;
 import io.mapsmessaging.devices.onewire.OneWireDeviceController;
+import io.mapsmessaging.devices.util.SchemaCache;
 import io.mapsmessaging.schemas.config.SchemaConfig;
 import io.mapsmessaging.schemas.config.impl.JsonSchemaConfig;
 import lombok.Getter;
 import org.everit.json.schema.NumberSchema;
 import org.everit.json.schema.ObjectSchema;
-import org.json.JSONObject;
 
 import java.io.File;
 
@@ -45,6 +47,11 @@ public class DS18B20Controller extends OneWireDeviceController {
     sensor = new DS18B20Device(path);
   }
 
+  @Override
+  public Sensor getSensor() {
+    return sensor;
+  }
+
   public String getId() {
     return "28-";
   }
@@ -58,6 +65,10 @@ public class DS18B20Controller extends OneWireDeviceController {
   }
 
   public SchemaConfig getSchema() {
+    return SchemaCache.getSchema(this, this::createSchema);
+  }
+
+  private SchemaConfig createSchema() {
     JsonSchemaConfig config = new JsonSchemaConfig(buildSchema());
     config.setComments("1-Wire temperature sensor");
     config.setSource(getName());
@@ -74,12 +85,12 @@ public class DS18B20Controller extends OneWireDeviceController {
 
   @Override
   public byte[] getDeviceState() {
-    JSONObject jsonObject = new JSONObject();
+    StateEncoder encoder = startState();
     if (sensor != null) {
       sensor.update();
-      jsonObject.put("temperature", sensor.getCurrent());
+      encoder.put("temperature", sensor.getCurrent());
     }
-    return jsonObject.toString(2).getBytes();
+    return encoder.toByteArray();
   }
 
   private String buildSchema() {
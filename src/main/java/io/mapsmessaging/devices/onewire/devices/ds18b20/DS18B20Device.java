@@ -18,6 +18,8 @@ package io.mapsmessaging.devices.onewire.devices.ds18b20;
 
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
 import io.mapsmessaging.devices.onewire.OneWireDevice;
+import io.mapsmessaging.devices.sensorreadings.FloatSensorReading;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
 import lombok.Getter;
 
 import java.io.File;
@@ -33,12 +35,20 @@ public class DS18B20Device extends OneWireDevice implements Sensor {
   private float myMin;
   @Getter
   private float myMax;
+  private final List<SensorReading<?>> readings;
 
   public DS18B20Device(File path) {
     super(path);
     myCurrent = 0.0f;
     myMin = Float.MAX_VALUE;
     myMax = Float.MIN_VALUE;
+    FloatSensorReading temperature = new FloatSensorReading("temperature", "C", -55, 125, 3, this::readTemperature);
+    readings = List.of(temperature);
+  }
+
+  private float readTemperature() {
+    update();
+    return myCurrent;
   }
 
   public float getCurrent() {
@@ -0,0 +1,45 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+/**
+ * What a {@link SamplePublisher} does with a new sample when a subscriber's buffer is full because
+ * it has not requested, or not yet processed, the samples already buffered.
+ */
+public enum OverflowPolicy {
+  /** Discard the oldest buffered sample to make room */
+  DROP_OLDEST,
+  /** Replace the newest buffered sample, so the subscriber sees the latest value when it catches up */
+  CONFLATE_LATEST,
+  /**
+   * Wait a short time for the subscriber to make room, then discard the new sample. The wait holds
+   * the polling thread, which for I2C is the bus worker, so it delays every device on the bus. The
+   * wait is set by the samplePublisherBlockTimeout system property, 20 milliseconds by default.
+   */
+  BLOCK;
+
+  public static OverflowPolicy parse(Object value) {
+    if (value != null) {
+      String name = value.toString().trim().toUpperCase().replace('-', '_').replace(' ', '_');
+      for (OverflowPolicy policy : values()) {
+        if (policy.name().equals(name) || policy.name().replace("_", "").equals(name)) {
+          return policy;
+        }
+      }
+    }
+    return DROP_OLDEST;
+  }
+}
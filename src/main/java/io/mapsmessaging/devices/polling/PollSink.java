@@ -0,0 +1,36 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import io.mapsmessaging.devices.sensorreadings.ReadingSink;
+
+/**
+ * Receives the readings of every sensor the poller samples. The callbacks are made on the thread
+ * that owns the sensor's bus, so a sink must be quick and thread safe, and hand off any slow work.
+ * For each sample the poller calls pollStarted, then passes each due reading, then pollCompleted.
+ */
+public interface PollSink extends ReadingSink {
+
+  default void pollStarted(SensorPoll poll, long timestamp) {
+  }
+
+  default void pollCompleted(SensorPoll poll) {
+  }
+
+  default void pollFailed(SensorPoll poll, Exception error) {
+  }
+
+}
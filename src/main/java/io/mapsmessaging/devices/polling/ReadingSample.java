@@ -0,0 +1,51 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+import lombok.Getter;
+
+/**
+ * A single value, or error, of a reading taken by the poller
+ */
+@Getter
+public class ReadingSample {
+
+  private final SensorReading<?> reading;
+  private final long timestamp;
+  private final Object value;
+  private final Exception error;
+
+  ReadingSample(SensorReading<?> reading, long timestamp, Object value, Exception error) {
+    this.reading = reading;
+    this.timestamp = timestamp;
+    this.value = value;
+    this.error = error;
+  }
+
+  public String getName() {
+    return reading.getName();
+  }
+
+  public boolean isError() {
+    return error != null;
+  }
+
+  @Override
+  public String toString() {
+    return getName() + "=" + (error != null ? error.getMessage() : value);
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes samples to any number of subscribers, each with its own bounded buffer. A subscriber
+ * receives samples only as it requests them, and what happens to samples that arrive while its
+ * buffer is full is decided by its {@link OverflowPolicy}.
+ * <p>
+ * Subscribers are called on the executor, never on the thread publishing the sample, and the calls
+ * to each subscriber are made one at a time.
+ *
+ * @param <T> type of the samples
+ */
+public class SamplePublisher<T> implements Flow.Publisher<T> {
+
+  private static final long BLOCK_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(Long.getLong("samplePublisherBlockTimeout", 20));
+
+  private final Executor executor;
+  @Getter
+  private final int bufferSize;
+  @Getter
+  private final OverflowPolicy policy;
+  private final List<SampleSubscription> subscriptions;
+  private volatile boolean closed;
+
+  public SamplePublisher(Executor executor, int bufferSize, OverflowPolicy policy) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+    this.policy = policy;
+    subscriptions = new CopyOnWriteArrayList<>();
+    closed = false;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    subscribe(subscriber, policy, bufferSize);
+  }
+
+  /**
+   * Subscribes with an overflow policy and buffer size of its own, rather than the publisher's
+   */
+  public void subscribe(Flow.Subscriber<? super T> subscriber, OverflowPolicy overflowPolicy, int size) {
+    Objects.requireNonNull(subscriber);
+    if (size <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    SampleSubscription subscription = new SampleSubscription(subscriber, overflowPolicy, size);
+    subscriptions.add(subscription);
+    if (closed) {
+      subscription.complete(null);
+    }
+    subscription.schedule();
+  }
+
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /**
+   * @return the number of samples discarded for the current subscribers because their buffers were full
+   */
+  public long getDroppedCount() {
+    long dropped = 0;
+    for (SampleSubscription subscription : subscriptions) {
+      dropped += subscription.getDropped();
+    }
+    return dropped;
+  }
+
+  public void publish(T item) {
+    for (SampleSubscription subscription : subscriptions) {
+      subscription.offer(item);
+    }
+  }
+
+  /**
+   * Completes every subscription once the samples already buffered have been delivered
+   */
+  public void close() {
+    closeExceptionally(null);
+  }
+
+  public void closeExceptionally(Throwable error) {
+    closed = true;
+    for (SampleSubscription subscription : subscriptions) {
+      subscription.complete(error);
+    }
+  }
+
+  private final class SampleSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super T> subscriber;
+    private final OverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final AtomicInteger pending;
+
+    // Guarded by this subscription
+    private final ArrayDeque<T> buffer;
+    private long demand;
+    private long dropped;
+    private boolean completed;
+    private Throwable error;
+    private boolean invalidRequest;
+    private volatile boolean cancelled;
+
+    // Only accessed by the drain
+    private boolean subscribed;
+
+    private SampleSubscription(Flow.Subscriber<? super T> subscriber, OverflowPolicy overflowPolicy, int capacity) {
+      this.subscriber = subscriber;
+      this.overflowPolicy = overflowPolicy;
+      this.capacity = capacity;
+      pending = new AtomicInteger();
+      buffer = new ArrayDeque<>(Math.min(capacity, 64));
+      demand = 0;
+      dropped = 0;
+      completed = false;
+      invalidRequest = false;
+      cancelled = false;
+      subscribed = false;
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (n <= 0) {
+          error = new IllegalArgumentException("Requested " + n + " samples, must be positive");
+          completed = true;
+          invalidRequest = true;
+          buffer.clear();
+          notifyAll();
+        } else {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+      schedule();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+      synchronized (this) {
+        buffer.clear();
+        notifyAll();
+      }
+    }
+
+    private synchronized long getDropped() {
+      return dropped;
+    }
+
+    private void offer(T item) {
+      synchronized (this) {
+        if (cancelled || completed) {
+          return;
+        }
+        if (buffer.size() >= capacity) {
+          switch (overflowPolicy) {
+            case CONFLATE_LATEST:
+              buffer.pollLast();
+              dropped++;
+              break;
+            case BLOCK:
+              if (!waitForSpace()) {
+                dropped++;
+                return;
+              }
+              break;
+            case DROP_OLDEST:
+            default:
+              buffer.pollFirst();
+              dropped++;
+              break;
+          }
+        }
+        buffer.addLast(item);
+      }
+      schedule();
+    }
+
+    // Called holding the subscription, the drain frees space and notifies as it delivers. The wait is
+    // bounded since the publishing thread is usually a bus worker, which other devices are waiting on
+    private boolean waitForSpace() {
+      long end = System.nanoTime() + BLOCK_TIMEOUT;
+      try {
+        long remaining = BLOCK_TIMEOUT;
+        while (buffer.size() >= capacity && !cancelled && !completed && remaining > 0) {
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+          remaining = end - System.nanoTime();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      return buffer.size() < capacity && !cancelled && !completed;
+    }
+
+    private void complete(Throwable failure) {
+      synchronized (this) {
+        if (!completed) {
+          completed = true;
+          error = failure;
+          notifyAll();
+        }
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (pending.getAndIncrement() == 0) {
+        try {
+          executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          cancel(); // Shutting down
+        }
+      }
+    }
+
+    private void drain() {
+      int missed = 1;
+      do {
+        if (!subscribed) {
+          subscribed = true;
+          try {
+            subscriber.onSubscribe(this);
+          } catch (RuntimeException e) {
+            cancel();
+          }
+        }
+        deliver();
+        missed = pending.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void deliver() {
+      while (!cancelled) {
+        T item = null;
+        boolean finished = false;
+        Throwable failure = null;
+        synchronized (this) {
+          if (invalidRequest || (completed && buffer.isEmpty())) {
+            finished = true;
+            failure = error;
+          } else if (demand > 0 && !buffer.isEmpty()) {
+            item = buffer.pollFirst();
+            if (demand != Long.MAX_VALUE) {
+              demand--;
+            }
+            notifyAll();
+          } else {
+            return;
+          }
+        }
+        if (finished) {
+          cancel();
+          signalEnd(failure);
+          return;
+        }
+        try {
+          subscriber.onNext(item);
+        } catch (RuntimeException e) {
+          cancel();
+        }
+      }
+    }
+
+    private void signalEnd(Throwable failure) {
+      try {
+        if (failure != null) {
+          subscriber.onError(failure);
+        } else {
+          subscriber.onComplete();
+        }
+      } catch (RuntimeException e) {
+        // The subscription has already ended
+      }
+    }
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.sensorreadings.ReadingSink;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A sensor registered with the SensorPoller. The sensor is sampled every interval, and individual
+ * readings can be given a longer interval of their own, in which case they are only passed to the
+ * sinks on the samples where they are due.
+ */
+@Getter
+public class SensorPoll {
+
+  private final String id;
+  private final DeviceController controller;
+  private final Sensor sensor;
+  private final String bus;
+  private final List<SensorReading<?>> readings;
+
+  private volatile long interval;
+  // Phase of the poll within its bus's schedule, so polls sharing a bus do not all fire together
+  private volatile long offset;
+
+  @Getter(AccessLevel.NONE)
+  private final SensorPoller poller;
+  @Getter(AccessLevel.NONE)
+  private volatile long[] readingIntervals;
+  @Getter(AccessLevel.NONE)
+  private final long[] readingDue;
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong polls;
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong skipped;
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong failures;
+  @Getter(AccessLevel.NONE)
+  final AtomicBoolean inFlight;
+  @Getter(AccessLevel.NONE)
+  final FanOut fanOut;
+  @Getter(AccessLevel.NONE)
+  ScheduledFuture<?> future;
+
+  SensorPoll(SensorPoller poller, String id, DeviceController controller, String bus, long interval) throws IOException {
+    this.poller = poller;
+    this.id = id;
+    this.controller = controller;
+    this.bus = bus;
+    this.interval = interval;
+    sensor = controller.getSensor();
+    readings = sensor.getReadings();
+    readingIntervals = new long[readings.size()];
+    readingDue = new long[readings.size()];
+    polls = new AtomicLong();
+    skipped = new AtomicLong();
+    failures = new AtomicLong();
+    inFlight = new AtomicBoolean(false);
+    fanOut = new FanOut();
+  }
+
+  public void setInterval(long interval) {
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Poll interval must be positive");
+    }
+    this.interval = interval;
+    poller.replan(bus);
+  }
+
+  /**
+   * Sets how often a reading is passed to the sinks, the reading is still taken from the same
+   * snapshot as the others on the samples where it is due
+   *
+   * @param name     the reading name
+   * @param interval milliseconds between values, 0 to pass the reading on every sample
+   * @return false if the sensor has no reading with the name
+   */
+  public boolean setReadingInterval(String name, long interval) {
+    for (int x = 0; x < readings.size(); x++) {
+      if (readings.get(x).getName().equals(name)) {
+        long[] updated = readingIntervals.clone();
+        updated[x] = Math.max(0, interval);
+        readingIntervals = updated;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long getReadingInterval(String name) {
+    for (int x = 0; x < readings.size(); x++) {
+      if (readings.get(x).getName().equals(name)) {
+        long readingInterval = readingIntervals[x];
+        return readingInterval > 0 ? readingInterval : interval;
+      }
+    }
+    return -1;
+  }
+
+  public long getPollCount() {
+    return polls.get();
+  }
+
+  /**
+   * @return the number of samples dropped because the previous one had not completed
+   */
+  public long getSkippedCount() {
+    return skipped.get();
+  }
+
+  public long getFailureCount() {
+    return failures.get();
+  }
+
+  public void cancel() {
+    poller.cancel(this);
+  }
+
+  void setOffset(long offset) {
+    this.offset = offset;
+  }
+
+  void polled() {
+    polls.incrementAndGet();
+  }
+
+  void skipped() {
+    skipped.incrementAndGet();
+  }
+
+  void failed() {
+    failures.incrementAndGet();
+  }
+
+  // Only called by the sample in flight, so the due times need no locking. Half an interval of
+  // slack stops a reading slipping a whole sample because the timer fired a little early.
+  boolean isDue(int index, long now) {
+    long readingInterval = readingIntervals[index];
+    if (readingInterval <= interval) {
+      return true;
+    }
+    if (now + interval / 2 < readingDue[index]) {
+      return false;
+    }
+    long next = readingDue[index] + readingInterval;
+    readingDue[index] = next < now ? now + readingInterval : next;
+    return true;
+  }
+
+  // Passes each value on to every sink of the current sample, one sink failing does not stop the rest
+  static final class FanOut implements ReadingSink {
+    private PollSink[] sinks = new PollSink[0];
+
+    void setSinks(PollSink[] sinks) {
+      this.sinks = sinks;
+    }
+
+    @Override
+    public void acceptFloat(SensorReading<?> reading, float value) {
+      for (PollSink sink : sinks) {
+        try {
+          sink.acceptFloat(reading, value);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    }
+
+    @Override
+    public void acceptLong(SensorReading<?> reading, long value) {
+      for (PollSink sink : sinks) {
+        try {
+          sink.acceptLong(reading, value);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    }
+
+    @Override
+    public void acceptInt(SensorReading<?> reading, int value) {
+      for (PollSink sink : sinks) {
+        try {
+          sink.acceptInt(reading, value);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    }
+
+    @Override
+    public void acceptObject(SensorReading<?> reading, Object value) {
+      for (PollSink sink : sinks) {
+        try {
+          sink.acceptObject(reading, value);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    }
+
+    @Override
+    public void acceptError(SensorReading<?> reading, Exception error) {
+      for (PollSink sink : sinks) {
+        try {
+          sink.acceptError(reading, error);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.i2c.I2CDeviceScheduler;
+import io.mapsmessaging.devices.logging.DeviceLogMessage;
+import io.mapsmessaging.devices.onewire.OneWireDeviceController;
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+import io.mapsmessaging.devices.spi.SpiDeviceScheduler;
+import io.mapsmessaging.logging.Logger;
+import io.mapsmessaging.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Samples mounted sensors at their configured intervals and passes the readings to the registered
+ * sinks, so applications do not each need a timer thread competing for the buses.
+ * <p>
+ * Polls are planned per bus. Every poll runs on a common timeline, so polls with related intervals
+ * stay aligned, and the polls sharing a bus are given evenly spaced offsets within the shortest
+ * interval on that bus so they do not all hit the bus at once. I2C samples run as transactions on
+ * the bus arbiter, SPI samples hold the SPI bus, and each sample reads the sensor's readings from a
+ * single snapshot. A sample that is still running when the next is due causes the next to be
+ * skipped rather than queued.
+ */
+public class SensorPoller {
+
+  private final Logger logger = LoggerFactory.getLogger(SensorPoller.class);
+
+  private final ScheduledExecutorService timer;
+  private final Map<String, SensorPoll> polls;
+  private final Map<String, ExecutorService> busExecutors;
+  private final long epoch;
+  private volatile PollSink[] sinks;
+  private volatile boolean closed;
+
+  public SensorPoller() {
+    timer = Executors.newSingleThreadScheduledExecutor(runnable -> createThread(runnable, "Sensor-Poller"));
+    polls = new ConcurrentHashMap<>();
+    busExecutors = new ConcurrentHashMap<>();
+    epoch = System.currentTimeMillis();
+    sinks = new PollSink[0];
+    closed = false;
+  }
+
+  /**
+   * Starts polling the controller's sensor, replacing any existing poll with the same id
+   *
+   * @param id         identifies the poll to the sinks
+   * @param controller a mounted controller that provides a Sensor
+   * @param interval   milliseconds between samples
+   * @return the poll, which can be used to change its rates or cancel it
+   */
+  public synchronized SensorPoll poll(String id, DeviceController controller, long interval) throws IOException {
+    if (closed) {
+      throw new IOException("Sensor poller has been closed");
+    }
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Poll interval must be positive");
+    }
+    if (controller.getSensor() == null) {
+      throw new IllegalArgumentException(controller.getName() + " does not provide sensor readings");
+    }
+    SensorPoll existing = polls.get(id);
+    if (existing != null) {
+      cancel(existing);
+    }
+    SensorPoll poll = new SensorPoll(this, id, controller, getBus(controller), interval);
+    polls.put(id, poll);
+    logger.log(DeviceLogMessage.SENSOR_POLLER_ADDED, id, interval);
+    replan(poll.getBus());
+    return poll;
+  }
+
+  public synchronized void cancel(SensorPoll poll) {
+    if (polls.remove(poll.getId(), poll)) {
+      if (poll.future != null) {
+        poll.future.cancel(false);
+        poll.future = null;
+      }
+      logger.log(DeviceLogMessage.SENSOR_POLLER_REMOVED, poll.getId());
+      replan(poll.getBus());
+    }
+  }
+
+  public SensorPoll getPoll(String id) {
+    return polls.get(id);
+  }
+
+  public Collection<SensorPoll> getPolls() {
+    return Collections.unmodifiableCollection(polls.values());
+  }
+
+  public synchronized void addSink(PollSink sink) {
+    PollSink[] updated = Arrays.copyOf(sinks, sinks.length + 1);
+    updated[sinks.length] = sink;
+    sinks = updated;
+  }
+
+  public synchronized void removeSink(PollSink sink) {
+    List<PollSink> list = new ArrayList<>(Arrays.asList(sinks));
+    if (list.remove(sink)) {
+      sinks = list.toArray(new PollSink[0]);
+    }
+  }
+
+  public synchronized void close() {
+    closed = true;
+    for (SensorPoll poll : polls.values()) {
+      if (poll.future != null) {
+        poll.future.cancel(false);
+      }
+    }
+    polls.clear();
+    timer.shutdownNow();
+    for (ExecutorService executor : busExecutors.values()) {
+      executor.shutdownNow();
+    }
+    busExecutors.clear();
+  }
+
+  // Spreads the polls on the bus evenly across the shortest interval on the bus and reschedules them
+  synchronized void replan(String bus) {
+    if (closed) {
+      return;
+    }
+    List<SensorPoll> planned = new ArrayList<>();
+    for (SensorPoll poll : polls.values()) {
+      if (poll.getBus().equals(bus)) {
+        planned.add(poll);
+      }
+    }
+    if (planned.isEmpty()) {
+      return;
+    }
+    planned.sort(Comparator.comparingLong(SensorPoll::getInterval).thenComparing(SensorPoll::getId));
+    long slot = Math.max(1, planned.get(0).getInterval() / planned.size());
+    long now = System.currentTimeMillis();
+    for (int x = 0; x < planned.size(); x++) {
+      SensorPoll poll = planned.get(x);
+      long interval = poll.getInterval();
+      poll.setOffset((x * slot) % interval);
+      if (poll.future != null) {
+        poll.future.cancel(false);
+      }
+      long delay = Math.floorMod(epoch + poll.getOffset() - now, interval);
+      poll.future = timer.scheduleAtFixedRate(() -> dispatch(poll), delay, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void dispatch(SensorPoll poll) {
+    if (!poll.inFlight.compareAndSet(false, true)) {
+      poll.skipped();
+      return;
+    }
+    try {
+      DeviceController controller = poll.getController();
+      if (controller instanceof I2CDeviceScheduler) {
+        ((I2CDeviceScheduler) controller)
+            .submitRead(() -> {
+              sample(poll);
+              return null;
+            })
+            .whenComplete((result, error) -> finished(poll, error));
+      } else {
+        busExecutors.computeIfAbsent(poll.getBus(), this::createExecutor).execute(() -> runSample(poll));
+      }
+    } catch (RejectedExecutionException e) {
+      poll.inFlight.set(false); // Closing down
+    }
+  }
+
+  private void runSample(SensorPoll poll) {
+    Throwable error = null;
+    try {
+      DeviceController controller = poll.getController();
+      if (controller instanceof SpiDeviceScheduler) {
+        ((SpiDeviceScheduler) controller).runOnBus(() -> sample(poll));
+      } else {
+        sample(poll);
+      }
+    } catch (RuntimeException e) {
+      error = e;
+    } finally {
+      finished(poll, error);
+    }
+  }
+
+  // Runs while the sample owns the bus
+  private void sample(SensorPoll poll) {
+    PollSink[] targets = sinks;
+    long now = System.currentTimeMillis();
+    Sensor sensor = poll.getSensor();
+    long timestamp;
+    try {
+      timestamp = sensor.snapshot();
+    } catch (IOException e) {
+      failed(poll, targets, e);
+      return;
+    }
+    try {
+      poll.polled();
+      poll.fanOut.setSinks(targets);
+      for (PollSink sink : targets) {
+        try {
+          sink.pollStarted(poll, timestamp);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+      List<SensorReading<?>> readings = poll.getReadings();
+      for (int x = 0; x < readings.size(); x++) {
+        if (poll.isDue(x, now)) {
+          readings.get(x).read(poll.fanOut);
+        }
+      }
+      for (PollSink sink : targets) {
+        try {
+          sink.pollCompleted(poll);
+        } catch (RuntimeException e) {
+          // A misbehaving sink must not stop the others
+        }
+      }
+    } finally {
+      sensor.releaseSnapshot();
+    }
+  }
+
+  private void finished(SensorPoll poll, Throwable error) {
+    poll.inFlight.set(false);
+    if (error != null) {
+      Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      failed(poll, sinks, cause instanceof Exception ? (Exception) cause : new ExecutionException(cause));
+    }
+  }
+
+  private void failed(SensorPoll poll, PollSink[] targets, Exception error) {
+    poll.failed();
+    logger.log(DeviceLogMessage.SENSOR_POLLER_FAILED, poll.getId(), error.getMessage());
+    for (PollSink sink : targets) {
+      try {
+        sink.pollFailed(poll, error);
+      } catch (RuntimeException e) {
+        // A misbehaving sink must not stop the others
+      }
+    }
+  }
+
+  private ExecutorService createExecutor(String bus) {
+    return Executors.newSingleThreadExecutor(runnable -> createThread(runnable, "Sensor-Poller-" + bus));
+  }
+
+  private static String getBus(DeviceController controller) {
+    if (controller instanceof I2CDeviceScheduler) {
+      return "i2c-" + ((I2CDeviceScheduler) controller).getArbiter().getBus();
+    }
+    if (controller instanceof SpiDeviceScheduler) {
+      return "spi";
+    }
+    if (controller instanceof OneWireDeviceController) {
+      return "1wire";
+    }
+    return "other";
+  }
+
+  private static Thread createThread(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import io.mapsmessaging.devices.sensorreadings.SensorReading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Publishes the samples taken by a {@link SensorPoller} as {@link java.util.concurrent.Flow}
+ * streams, one per polled sensor and one per reading, so any number of consumers share the poller's
+ * single read of each sensor instead of each reading the device and parsing its state.
+ * <p>
+ * Publishers are looked up by poll id and may be requested before the sensor is polled. Samples are
+ * only built for polls that have a publisher.
+ */
+public class SensorPublisher implements PollSink {
+
+  public static final int DEFAULT_BUFFER_SIZE = 16;
+
+  private final SensorPoller poller;
+  private final int bufferSize;
+  private final OverflowPolicy policy;
+  private final ExecutorService executor;
+  private final Map<String, SamplePublisher<SensorSample>> sensors;
+  private final Map<String, SamplePublisher<ReadingSample>> readings;
+  private final ThreadLocal<SampleBuilder> builders;
+
+  public SensorPublisher(SensorPoller poller) {
+    this(poller, DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+  }
+
+  /**
+   * @param poller     the poller whose samples are published
+   * @param bufferSize the default number of samples buffered for each subscriber
+   * @param policy     the default policy when a subscriber's buffer is full
+   */
+  public SensorPublisher(SensorPoller poller, int bufferSize, OverflowPolicy policy) {
+    this.poller = poller;
+    this.bufferSize = bufferSize;
+    this.policy = policy;
+    executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "Sensor-Publisher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    sensors = new ConcurrentHashMap<>();
+    readings = new ConcurrentHashMap<>();
+    builders = ThreadLocal.withInitial(SampleBuilder::new);
+    poller.addSink(this);
+  }
+
+  /**
+   * @param pollId the id the sensor is polled with
+   * @return the publisher of every sample of the sensor
+   */
+  public SamplePublisher<SensorSample> forSensor(String pollId) {
+    return sensors.computeIfAbsent(pollId, k -> new SamplePublisher<>(executor, bufferSize, policy));
+  }
+
+  /**
+   * @param pollId  the id the sensor is polled with
+   * @param reading the name of the reading
+   * @return the publisher of the reading's values, published when the reading is due
+   */
+  public SamplePublisher<ReadingSample> forReading(String pollId, String reading) {
+    return readings.computeIfAbsent(readingKey(pollId, reading), k -> new SamplePublisher<>(executor, bufferSize, policy));
+  }
+
+  /**
+   * Completes the streams of a sensor, typically once its poll has been cancelled
+   */
+  public void remove(String pollId) {
+    SamplePublisher<SensorSample> publisher = sensors.remove(pollId);
+    if (publisher != null) {
+      publisher.close();
+    }
+    String prefix = pollId + "/";
+    readings.entrySet().removeIf(entry -> {
+      if (entry.getKey().startsWith(prefix)) {
+        entry.getValue().close();
+        return true;
+      }
+      return false;
+    });
+  }
+
+  public void close() {
+    poller.removeSink(this);
+    for (SamplePublisher<SensorSample> publisher : sensors.values()) {
+      publisher.close();
+    }
+    for (SamplePublisher<ReadingSample> publisher : readings.values()) {
+      publisher.close();
+    }
+    sensors.clear();
+    readings.clear();
+    executor.shutdown();
+  }
+
+  @Override
+  public void pollStarted(SensorPoll poll, long timestamp) {
+    SamplePublisher<SensorSample> sensor = sensors.get(poll.getId());
+    boolean active = (sensor != null && sensor.hasSubscribers()) || hasReadingSubscribers(poll);
+    builders.get().begin(active ? poll : null, timestamp);
+  }
+
+  @Override
+  public void pollCompleted(SensorPoll poll) {
+    SampleBuilder builder = builders.get();
+    if (builder.poll != poll) {
+      return;
+    }
+    List<ReadingSample> samples = Collections.unmodifiableList(builder.finish());
+    SamplePublisher<SensorSample> sensor = sensors.get(poll.getId());
+    if (sensor != null) {
+      sensor.publish(new SensorSample(poll.getId(), builder.timestamp, samples));
+    }
+    if (!readings.isEmpty()) {
+      for (ReadingSample sample : samples) {
+        SamplePublisher<ReadingSample> reading = readings.get(readingKey(poll.getId(), sample.getName()));
+        if (reading != null) {
+          reading.publish(sample);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void pollFailed(SensorPoll poll, Exception error) {
+    SampleBuilder builder = builders.get();
+    if (builder.poll == poll) {
+      builder.finish();
+    }
+  }
+
+  @Override
+  public void acceptFloat(SensorReading<?> reading, float value) {
+    builders.get().add(reading, value, null);
+  }
+
+  @Override
+  public void acceptLong(SensorReading<?> reading, long value) {
+    builders.get().add(reading, value, null);
+  }
+
+  @Override
+  public void acceptInt(SensorReading<?> reading, int value) {
+    builders.get().add(reading, value, null);
+  }
+
+  @Override
+  public void acceptObject(SensorReading<?> reading, Object value) {
+    builders.get().add(reading, value, null);
+  }
+
+  @Override
+  public void acceptError(SensorReading<?> reading, Exception error) {
+    builders.get().add(reading, null, error);
+  }
+
+  private boolean hasReadingSubscribers(SensorPoll poll) {
+    if (readings.isEmpty()) {
+      return false;
+    }
+    for (SensorReading<?> reading : poll.getReadings()) {
+      SamplePublisher<ReadingSample> publisher = readings.get(readingKey(poll.getId(), reading.getName()));
+      if (publisher != null && publisher.hasSubscribers()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String readingKey(String pollId, String reading) {
+    return pollId + "/" + reading;
+  }
+
+  // Collects the readings of the sample in progress on the current thread
+  private static final class SampleBuilder {
+    private SensorPoll poll;
+    private long timestamp;
+    private List<ReadingSample> samples;
+
+    private void begin(SensorPoll active, long time) {
+      poll = active;
+      timestamp = time;
+      samples = active != null ? new ArrayList<>(active.getReadings().size()) : null;
+    }
+
+    private void add(SensorReading<?> reading, Object value, Exception error) {
+      if (poll != null) {
+        samples.add(new ReadingSample(reading, timestamp, value, error));
+      }
+    }
+
+    private List<ReadingSample> finish() {
+      List<ReadingSample> result = samples;
+      poll = null;
+      samples = null;
+      return result;
+    }
+  }
+}
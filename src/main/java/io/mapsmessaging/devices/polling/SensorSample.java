@@ -0,0 +1,54 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package io.mapsmessaging.devices.polling;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The readings taken by one sample of a sensor, all from the same snapshot
+ */
+@Getter
+public class SensorSample {
+
+  private final String id;
+  private final long timestamp;
+  private final List<ReadingSample> readings;
+
+  SensorSample(String id, long timestamp, List<ReadingSample> readings) {
+    this.id = id;
+    this.timestamp = timestamp;
+    this.readings = readings;
+  }
+
+  /**
+   * @return the named reading, or null if it was not due on this sample
+   */
+  public ReadingSample get(String name) {
+    for (ReadingSample reading : readings) {
+      if (reading.getName().equals(name)) {
+        return reading;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return id + "@" + timestamp + readings;
+  }
+}
@@ -1,24 +1,63 @@
 package io.mapsmessaging.devices.sensorreadings;
 
+import java.io.IOException;
+
 public class FloatSensorReading extends NumericSensorReading<Float> {
 
+  private static final float[] SCALES = {1f, 10f, 100f, 1_000f, 10_000f, 100_000f, 1_000_000f, 10_000_000f, 100_000_000f};
+
   private final int precision;
+  private final float scale;
+  private final FloatReadingSupplier floatSupplier;
 
   public FloatSensorReading(String name, String unit, float min, float max, int precision, ReadingSupplier<Float> valueSupplier) {
     super(name, unit, min, max, valueSupplier);
     this.precision = precision;
+    scale = getScale(precision);
+    floatSupplier = valueSupplier::get;
+  }
+
+  public FloatSensorReading(String name, String unit, float min, float max, int precision, FloatReadingSupplier valueSupplier) {
+    super(name, unit, min, max, valueSupplier::get);
+    this.precision = precision;
+    scale = getScale(precision);
+    floatSupplier = valueSupplier;
+  }
+
+  public float getFloat() throws IOException {
+    return round(floatSupplier.get());
+  }
+
+  @Override
+  public void read(ReadingSink sink) {
+    try {
+      sink.acceptFloat(this, getFloat());
+    } catch (IOException ioException) {
+      sink.acceptError(this, ioException);
+    }
   }
 
   @Override
   protected Float format(Float val){
-    if(precision >= 0){
-      return roundToDecimalPlaces(val, precision);
+    return round(val);
+  }
+
+  private float round(float value) {
+    if (precision >= 0) {
+      return Math.round(value * scale) / scale;
     }
-    return val;
+    return value;
   }
 
   public static float roundToDecimalPlaces(float value, int places) {
-    float scale = (float) Math.pow(10, places);
+    float scale = getScale(places);
     return Math.round(value * scale) / scale;
   }
+
+  private static float getScale(int places) {
+    if (places >= 0 && places < SCALES.length) {
+      return SCALES[places];
+    }
+    return (float) Math.pow(10, places);
+  }
 }
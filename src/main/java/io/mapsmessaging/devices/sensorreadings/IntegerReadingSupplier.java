@@ -0,0 +1,14 @@
+package io.mapsmessaging.devices.sensorreadings;
+
+import java.io.IOException;
+
+public interface IntegerReadingSupplier {
+
+  /**
+   * Gets a result without boxing it.
+   *
+   * @return a result
+   */
+  int get() throws IOException;
+
+}
@@ -1,8 +1,31 @@
 package io.mapsmessaging.devices.sensorreadings;
 
+import java.io.IOException;
+
 public class IntegerSensorReading extends NumericSensorReading<Integer> {
 
+  private final IntegerReadingSupplier intSupplier;
+
   public IntegerSensorReading(String name, String unit, int min, int max, ReadingSupplier<Integer> valueSupplier) {
     super(name, unit, min, max, valueSupplier);
+    intSupplier = valueSupplier::get;
+  }
+
+  public IntegerSensorReading(String name, String unit, int min, int max, IntegerReadingSupplier valueSupplier) {
+    super(name, unit, min, max, valueSupplier::get);
+    intSupplier = valueSupplier;
+  }
+
+  public int getInt() throws IOException {
+    return intSupplier.get();
+  }
+
+  @Override
+  public void read(ReadingSink sink) {
+    try {
+      sink.acceptInt(this, intSupplier.get());
+    } catch (IOException ioException) {
+      sink.acceptError(this, ioException);
+    }
   }
-}
\ No newline at end of file
+}
@@ -1,8 +1,31 @@
 package io.mapsmessaging.devices.sensorreadings;
 
+import java.io.IOException;
+
 public class LongSensorReading extends NumericSensorReading<Long> {
 
+  private final LongReadingSupplier longSupplier;
+
   public LongSensorReading(String name, String unit, long min, long max, ReadingSupplier<Long> valueSupplier) {
     super(name, unit, min, max, valueSupplier);
+    longSupplier = valueSupplier::get;
+  }
+
+  public LongSensorReading(String name, String unit, long min, long max, LongReadingSupplier valueSupplier) {
+    super(name, unit, min, max, valueSupplier::get);
+    longSupplier = valueSupplier;
+  }
+
+  public long getLong() throws IOException {
+    return longSupplier.get();
+  }
+
+  @Override
+  public void read(ReadingSink sink) {
+    try {
+      sink.acceptLong(this, longSupplier.get());
+    } catch (IOException ioException) {
+      sink.acceptError(this, ioException);
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,344 @@
+package io.mapsmessaging.devices.sensorreadings;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Passes a reading on to the target sink only when it has moved past its deadband since it was last
+ * passed on, or when its heartbeat has expired, so readings that barely move are not sent every time.
+ * <p>
+ * The deadband is either an absolute amount or a percentage of the range given by the minimum and
+ * maximum of a {@link NumericSensorReading}. A deadband of 0 passes on any change. Non numeric
+ * readings are passed on when they are not equal to the last value, and errors are always passed on.
+ * A filter keeps the last values it has passed on, so it is used by one caller at a time.
+ * <p>
+ * Values written straight into a device state, rather than read from a reading, are filtered by
+ * name with the hasChanged methods. Their percentage deadband uses the range of the reading with
+ * the same name, if the sensor has one.
+ */
+public class ReadingFilter implements ReadingSink {
+
+  private static final String DEADBAND = "deadband";
+  private static final String DEADBAND_PERCENT = "deadbandPercent";
+  private static final String HEARTBEAT = "heartbeat";
+
+  private final Settings defaults;
+  private final Map<String, Settings> settings;
+  private final Map<Object, State> states;
+  private final Map<String, SensorReading<?>> ranges;
+  private int version;
+
+  private ReadingSink target;
+  private long now;
+  private int passed;
+
+  public ReadingFilter() {
+    defaults = new Settings(0, 0);
+    settings = new HashMap<>();
+    states = new HashMap<>();
+    ranges = new HashMap<>();
+    version = 0;
+  }
+
+  /**
+   * Applies the deadband, deadbandPercent and heartbeat entries of a device configuration. Each
+   * entry is either a number, which applies to every reading, or a map of reading name to number.
+   */
+  public synchronized void configure(Map<String, ?> config) {
+    apply(config.get(DEADBAND), (name, value) -> setDeadband(name, value.doubleValue()));
+    apply(config.get(DEADBAND_PERCENT), (name, value) -> setDeadbandPercent(name, value.doubleValue()));
+    apply(config.get(HEARTBEAT), (name, value) -> setHeartbeat(name, value.longValue()));
+  }
+
+  public synchronized void setDeadband(double deadband) {
+    setDeadband(null, deadband);
+  }
+
+  public synchronized void setDeadband(String reading, double deadband) {
+    Settings entry = getSettings(reading);
+    entry.deadband = Math.max(0, deadband);
+    entry.percent = false;
+    version++;
+  }
+
+  public synchronized void setDeadbandPercent(double percent) {
+    setDeadbandPercent(null, percent);
+  }
+
+  public synchronized void setDeadbandPercent(String reading, double percent) {
+    Settings entry = getSettings(reading);
+    entry.deadband = Math.max(0, percent);
+    entry.percent = true;
+    version++;
+  }
+
+  /**
+   * @param heartbeat milliseconds after which a reading is passed on even if it has not moved, 0 never
+   */
+  public synchronized void setHeartbeat(long heartbeat) {
+    setHeartbeat(null, heartbeat);
+  }
+
+  public synchronized void setHeartbeat(String reading, long heartbeat) {
+    getSettings(reading).heartbeat = Math.max(0, heartbeat);
+    version++;
+  }
+
+  /**
+   * Supplies the ranges for percentage deadbands on values filtered by name
+   */
+  public synchronized void setReadings(List<SensorReading<?>> readings) {
+    ranges.clear();
+    for (SensorReading<?> reading : readings) {
+      ranges.put(reading.getName(), reading);
+    }
+    version++;
+  }
+
+  public synchronized boolean isFiltering() {
+    return defaults.isActive() || !settings.isEmpty();
+  }
+
+  /**
+   * Forgets the values already passed on, so every reading is passed on by the next pass
+   */
+  public synchronized void reset() {
+    states.clear();
+  }
+
+  /**
+   * Starts a pass over the readings of a sensor
+   *
+   * @param sink receives the readings that are passed on
+   * @return this filter, to read the readings into
+   */
+  public synchronized ReadingFilter begin(ReadingSink sink) {
+    target = sink;
+    now = System.currentTimeMillis();
+    passed = 0;
+    return this;
+  }
+
+  /**
+   * @return the number of readings passed on since begin was called
+   */
+  public synchronized int getPassed() {
+    return passed;
+  }
+
+  @Override
+  public synchronized void acceptFloat(SensorReading<?> reading, float value) {
+    if (hasMoved(reading, value)) {
+      target.acceptFloat(reading, value);
+    }
+  }
+
+  @Override
+  public synchronized void acceptLong(SensorReading<?> reading, long value) {
+    if (hasMoved(reading, value)) {
+      target.acceptLong(reading, value);
+    }
+  }
+
+  @Override
+  public synchronized void acceptInt(SensorReading<?> reading, int value) {
+    if (hasMoved(reading, value)) {
+      target.acceptInt(reading, value);
+    }
+  }
+
+  @Override
+  public synchronized void acceptObject(SensorReading<?> reading, Object value) {
+    boolean moved;
+    if (value instanceof Number) {
+      moved = hasMoved(reading, ((Number) value).doubleValue());
+    } else {
+      State state = getState(reading);
+      moved = state.isDue(now) || !Objects.equals(state.lastObject, value);
+      if (moved) {
+        state.lastObject = value;
+        state.published(now);
+        passed++;
+      }
+    }
+    if (moved) {
+      target.acceptObject(reading, value);
+    }
+  }
+
+  @Override
+  public synchronized void acceptError(SensorReading<?> reading, Exception error) {
+    passed++;
+    target.acceptError(reading, error);
+  }
+
+  /**
+   * @return true if the named numeric value should be passed on, in which case it is recorded as passed
+   */
+  public synchronized boolean hasChanged(String name, double value) {
+    return hasMoved(getState(name, name, ranges.get(name)), value);
+  }
+
+  /**
+   * @return true if the named value is not equal to the last one passed on, or its heartbeat has expired
+   */
+  public synchronized boolean hasChanged(String name, Object value) {
+    State state = getState(name, name, ranges.get(name));
+    boolean moved = state.isDue(now) || !Objects.equals(state.lastObject, value);
+    if (moved) {
+      state.lastObject = value;
+      state.published(now);
+      passed++;
+    }
+    return moved;
+  }
+
+  /**
+   * A named set of values, such as an array or vector, that is passed on whole if any value has moved
+   */
+  public synchronized boolean hasChanged(String name, double[] values, int count) {
+    State state = getState(name, name, ranges.get(name));
+    boolean moved = state.isDue(now) || state.lastValues == null || state.lastValues.length != count;
+    for (int x = 0; !moved && x < count; x++) {
+      moved = Math.abs(values[x] - state.lastValues[x]) > state.threshold ||
+          Double.isNaN(values[x]) != Double.isNaN(state.lastValues[x]);
+    }
+    if (moved) {
+      state.lastValues = Arrays.copyOf(values, count);
+      state.published(now);
+      passed++;
+    }
+    return moved;
+  }
+
+  private boolean hasMoved(SensorReading<?> reading, double value) {
+    return hasMoved(getState(reading), value);
+  }
+
+  private boolean hasMoved(State state, double value) {
+    boolean moved = state.isDue(now) ||
+        Math.abs(value - state.lastValue) > state.threshold ||
+        Double.isNaN(value) != Double.isNaN(state.lastValue);
+    if (moved) {
+      state.lastValue = value;
+      state.published(now);
+      passed++;
+    }
+    return moved;
+  }
+
+  private State getState(SensorReading<?> reading) {
+    return getState(reading, reading.getName(), reading);
+  }
+
+  // Readings are kept by the reading, and values filtered by name by their name
+  private State getState(Object key, String name, SensorReading<?> range) {
+    State state = states.get(key);
+    if (state == null) {
+      state = new State();
+      states.put(key, state);
+    }
+    if (state.version != version) {
+      state.configure(range, settings.get(name), defaults, version);
+    }
+    return state;
+  }
+
+  private Settings getSettings(String reading) {
+    if (reading == null) {
+      return defaults;
+    }
+    return settings.computeIfAbsent(reading, k -> new Settings(-1, -1));
+  }
+
+  private static void apply(Object value, SettingUpdate update) {
+    if (value instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        Number number = toNumber(entry.getValue());
+        if (number != null) {
+          update.set(entry.getKey().toString(), number);
+        }
+      }
+    } else {
+      Number number = toNumber(value);
+      if (number != null) {
+        update.set(null, number);
+      }
+    }
+  }
+
+  private static Number toNumber(Object value) {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    if (value != null) {
+      try {
+        return Double.parseDouble(value.toString().trim());
+      } catch (NumberFormatException e) {
+        // Ignore badly formed entries
+      }
+    }
+    return null;
+  }
+
+  private interface SettingUpdate {
+    void set(String reading, Number value);
+  }
+
+  // Settings for a single reading use -1 for values that are taken from the defaults
+  private static final class Settings {
+    private double deadband;
+    private boolean percent;
+    private long heartbeat;
+
+    private Settings(double deadband, long heartbeat) {
+      this.deadband = deadband;
+      this.heartbeat = heartbeat;
+      percent = false;
+    }
+
+    private boolean isActive() {
+      return deadband > 0 || heartbeat > 0;
+    }
+  }
+
+  private static final class State {
+    private double threshold;
+    private long heartbeat;
+    private int version = -1;
+    private boolean published = false;
+    private long lastPublished;
+    private double lastValue;
+    private Object lastObject;
+    private double[] lastValues;
+
+    private void configure(SensorReading<?> reading, Settings entry, Settings defaults, int version) {
+      this.version = version;
+      heartbeat = entry != null && entry.heartbeat >= 0 ? entry.heartbeat : defaults.heartbeat;
+      Settings band = entry != null && entry.deadband >= 0 ? entry : defaults;
+      threshold = band.deadband;
+      if (band.percent) {
+        threshold = 0;
+        if (reading instanceof NumericSensorReading) {
+          NumericSensorReading<?> numeric = (NumericSensorReading<?>) reading;
+          if (numeric.getMinimum() instanceof Number && numeric.getMaximum() instanceof Number) {
+            double range = ((Number) numeric.getMaximum()).doubleValue() - ((Number) numeric.getMinimum()).doubleValue();
+            threshold = Math.abs(range) * band.deadband / 100.0;
+          }
+        }
+      }
+    }
+
+    private boolean isDue(long now) {
+      return !published || (heartbeat > 0 && now - lastPublished >= heartbeat);
+    }
+
+    private void published(long now) {
+      published = true;
+      lastPublished = now;
+    }
+  }
+}
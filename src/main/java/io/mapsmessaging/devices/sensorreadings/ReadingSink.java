@@ -0,0 +1,21 @@
+package io.mapsmessaging.devices.sensorreadings;
+
+/**
+ * Receives sensor values as they are read. Numeric values are passed as primitives and errors are
+ * passed directly, so reading into a sink does not box values or allocate a ComputationResult.
+ */
+public interface ReadingSink {
+
+  void acceptFloat(SensorReading<?> reading, float value);
+
+  void acceptLong(SensorReading<?> reading, long value);
+
+  default void acceptInt(SensorReading<?> reading, int value) {
+    acceptLong(reading, value);
+  }
+
+  void acceptObject(SensorReading<?> reading, Object value);
+
+  void acceptError(SensorReading<?> reading, Exception error);
+
+}
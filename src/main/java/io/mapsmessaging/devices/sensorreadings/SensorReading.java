@@ -29,6 +29,20 @@ public class SensorReading<T> {
     }
   }
 
+  /**
+   * Reads the value and passes it, or the error, to the sink without wrapping it in a
+   * ComputationResult. Numeric readings pass primitive values.
+   *
+   * @param sink the receiver of the value
+   */
+  public void read(ReadingSink sink) {
+    try {
+      sink.acceptObject(this, format(supplier.get()));
+    } catch (IOException ioException) {
+      sink.acceptError(this, ioException);
+    }
+  }
+
   protected T format(T val){
     return val;
   }
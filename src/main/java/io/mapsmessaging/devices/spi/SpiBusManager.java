@@ -48,6 +48,7 @@ public class SpiBusManager {
     SpiDeviceController controller = knownDevices.get(name);
     if (controller != null) {
       SpiDeviceController mounted = controller.mount(pi4j, config);
+      mounted.getReadingFilter().configure(config);
       activeDevices.put(mounted.getName(), new SpiDeviceScheduler(mounted));
       return mounted;
     }
@@ -18,16 +18,29 @@ package io.mapsmessaging.devices.spi;
 
 import com.pi4j.io.spi.Spi;
 import io.mapsmessaging.devices.Device;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.metrics.BusMetricsRegistry;
+import lombok.Getter;
 
 public abstract class SpiDevice implements Device {
 
   protected final Spi spi;
+  @Getter
+  protected final BusMetrics metrics;
 
   protected SpiDevice(Spi spi) {
     this.spi = spi;
+    metrics = BusMetricsRegistry.getInstance().getMetrics("spi", Integer.toString(spi.config().getBus().getBus()), spi.id());
   }
 
   public void transfer(byte[] request, byte[] response) {
-    spi.transfer(request, response);
+    long start = System.nanoTime();
+    try {
+      spi.transfer(request, response);
+    } catch (RuntimeException e) {
+      metrics.recordFailure(start);
+      throw e;
+    }
+    metrics.recordRead(request.length, response.length, start);
   }
 }
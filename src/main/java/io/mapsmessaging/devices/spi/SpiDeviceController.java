@@ -23,18 +23,71 @@ import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiChipSelect;
 import com.pi4j.io.spi.SpiMode;
 import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.FilteredStateEncoder;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
 import java.util.Map;
 
 @Getter
 @Setter
 public abstract class SpiDeviceController implements DeviceController {
   private boolean raiseExceptionOnError = false;
+  private StateFormat stateFormat = StateFormat.JSON;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private StateEncoder stateEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private FilteredStateEncoder filteredEncoder;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean filtering;
+  private final ReadingFilter readingFilter = new ReadingFilter();
 
   public abstract SpiDeviceController mount(Context pi4j, Map<String, String> config);
 
+  /**
+   * @return the encoder for this controller's state format, started and ready for the values
+   */
+  protected StateEncoder startState() {
+    if (stateEncoder == null || stateEncoder.getFormat() != stateFormat) {
+      stateEncoder = stateFormat.createEncoder();
+      filteredEncoder = null;
+    }
+    StateEncoder encoder = stateEncoder.start();
+    if (!filtering) {
+      return encoder;
+    }
+    if (filteredEncoder == null) {
+      filteredEncoder = new FilteredStateEncoder(stateFormat);
+    }
+    return filteredEncoder.begin(encoder, readingFilter);
+  }
+
+  /**
+   * Builds the state with getDeviceState, passing on only the values the reading filter lets through
+   */
+  @Override
+  public byte[] getDeviceStateChanges() throws IOException {
+    Sensor sensor = getSensor();
+    if (sensor != null && filteredEncoder == null) {
+      readingFilter.setReadings(sensor.getReadings());
+    }
+    filtering = true;
+    try {
+      return getDeviceState();
+    } finally {
+      filtering = false;
+    }
+  }
+
   public Spi createDevice(Context pi4j, String name, String id, int spiBus, SpiChipSelect chipSelect, SpiMode mode) {
     var spiConfig = Spi.newConfigBuilder(pi4j)
         .id(id)
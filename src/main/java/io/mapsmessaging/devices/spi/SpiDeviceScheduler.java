@@ -2,6 +2,11 @@ package io.mapsmessaging.devices.spi;
 
 import com.pi4j.context.Context;
 import io.mapsmessaging.devices.DeviceType;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.StateFormat;
+import io.mapsmessaging.devices.metrics.BusMetrics;
+import io.mapsmessaging.devices.sensorreadings.ReadingFilter;
+import io.mapsmessaging.devices.util.SchemaCache;
 import io.mapsmessaging.schemas.config.SchemaConfig;
 
 import java.io.IOException;
@@ -13,9 +18,11 @@ public class SpiDeviceScheduler extends SpiDeviceController {
   private static final Semaphore SPI_BUS_SEMAPHORE = new Semaphore(1);
 
   private final SpiDeviceController deviceController;
+  private final BusMetrics metrics;
 
   public SpiDeviceScheduler(SpiDeviceController deviceController) {
     this.deviceController = deviceController;
+    metrics = deviceController.getBusMetrics();
   }
 
   @Override
@@ -28,18 +35,33 @@ public class SpiDeviceScheduler extends SpiDeviceController {
     return deviceController.getDescription();
   }
 
+  @Override
+  public StateFormat getStateFormat() {
+    return deviceController.getStateFormat();
+  }
+
+  @Override
+  public void setStateFormat(StateFormat format) {
+    deviceController.setStateFormat(format);
+  }
+
   @Override
   public SchemaConfig getSchema() {
-    return deviceController.getSchema();
+    return SchemaCache.getSchema(deviceController);
+  }
+
+  @Override
+  public String getSchemaFingerprint() {
+    return SchemaCache.getFingerprint(deviceController);
   }
 
   @Override
   public byte[] getDeviceConfiguration() throws IOException {
+    long acquired = acquire();
     try {
-      SPI_BUS_SEMAPHORE.acquireUninterruptibly();
       return deviceController.getDeviceConfiguration();
     } finally {
-      SPI_BUS_SEMAPHORE.release();
+      release(acquired);
     }
   }
   public DeviceType getType(){
@@ -48,22 +70,77 @@ public class SpiDeviceScheduler extends SpiDeviceController {
 
   @Override
   public byte[] getDeviceState() throws IOException {
+    long acquired = acquire();
     try {
-      SPI_BUS_SEMAPHORE.acquireUninterruptibly();
       return deviceController.getDeviceState();
     } finally {
-      SPI_BUS_SEMAPHORE.release();
+      release(acquired);
+    }
+  }
+
+  @Override
+  public byte[] getDeviceStateChanges() throws IOException {
+    long acquired = acquire();
+    try {
+      return deviceController.getDeviceStateChanges();
+    } finally {
+      release(acquired);
+    }
+  }
+
+  @Override
+  public ReadingFilter getReadingFilter() {
+    return deviceController.getReadingFilter();
+  }
+
+  @Override
+  public Sensor getSensor() {
+    return deviceController.getSensor();
+  }
+
+  @Override
+  public BusMetrics getBusMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Runs the task while holding the SPI bus
+   */
+  public void runOnBus(Runnable task) {
+    long acquired = acquire();
+    try {
+      task.run();
+    } finally {
+      release(acquired);
     }
   }
 
   @Override
   public byte[] updateDeviceConfiguration(byte[] val) throws IOException {
+    long acquired = acquire();
     try {
-      SPI_BUS_SEMAPHORE.acquireUninterruptibly();
       return deviceController.updateDeviceConfiguration(val);
     } finally {
-      SPI_BUS_SEMAPHORE.release();
+      release(acquired);
+    }
+  }
+
+  // Returns the time the bus was acquired, so the release can record the wait and the hold
+  private long acquire() {
+    long start = System.nanoTime();
+    SPI_BUS_SEMAPHORE.acquireUninterruptibly();
+    long acquired = System.nanoTime();
+    if (metrics != null) {
+      metrics.getLockWait().record(acquired - start);
+    }
+    return acquired;
+  }
+
+  private void release(long acquired) {
+    if (metrics != null) {
+      metrics.getLockHold().record(System.nanoTime() - acquired);
     }
+    SPI_BUS_SEMAPHORE.release();
   }
 
   @Override
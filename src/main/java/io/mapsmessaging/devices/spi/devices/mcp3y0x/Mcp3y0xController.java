@@ -20,6 +20,9 @@ import com.pi4j.context.Context;
 import com.pi4j.io.spi.Spi;
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.NamingConstants;
+import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.encoding.StateEncoder;
+import io.mapsmessaging.devices.metrics.BusMetrics;
 import io.mapsmessaging.devices.sensorreadings.SensorReading;
 import io.mapsmessaging.devices.spi.SpiDeviceController;
 import io.mapsmessaging.schemas.config.SchemaConfig;
@@ -29,7 +32,6 @@ import lombok.Setter;
 import org.everit.json.schema.ArraySchema;
 import org.everit.json.schema.NumberSchema;
 import org.everit.json.schema.ObjectSchema;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.List;
@@ -81,6 +83,16 @@ public class Mcp3y0xController extends SpiDeviceController {
     return device.getDescription();
   }
 
+  @Override
+  public Sensor getSensor() {
+    return device;
+  }
+
+  @Override
+  public BusMetrics getBusMetrics() {
+    return device != null ? device.getMetrics() : null;
+  }
+
   public List<SensorReading<?>> getSensors() {
     return device.getSensors();
   }
@@ -96,15 +108,15 @@ public class Mcp3y0xController extends SpiDeviceController {
   }
 
   public byte[] getDeviceState() {
-    JSONObject jsonObject = new JSONObject();
-    JSONArray jsonArray = new JSONArray();
+    StateEncoder encoder = startState();
+    encoder.startArray("current");
     if (device != null) {
       for (short x = 0; x < device.channels; x++) {
-        jsonArray.put(device.readFromChannel(false, x));
+        encoder.add(device.readFromChannel(false, x));
       }
     }
-    jsonObject.put("current", jsonArray);
-    return jsonObject.toString(2).getBytes();
+    encoder.endArray();
+    return encoder.toByteArray();
   }
 
   public SchemaConfig getSchema() {
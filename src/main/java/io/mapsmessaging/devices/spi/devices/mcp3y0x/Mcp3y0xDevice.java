@@ -19,8 +19,8 @@ package io.mapsmessaging.devices.spi.devices.mcp3y0x;
 import com.pi4j.io.spi.Spi;
 import io.mapsmessaging.devices.DeviceType;
 import io.mapsmessaging.devices.deviceinterfaces.Sensor;
+import io.mapsmessaging.devices.sensorreadings.IntegerReadingSupplier;
 import io.mapsmessaging.devices.sensorreadings.IntegerSensorReading;
-import io.mapsmessaging.devices.sensorreadings.ReadingSupplier;
 import io.mapsmessaging.devices.sensorreadings.SensorReading;
 import io.mapsmessaging.devices.spi.SpiDevice;
 import lombok.Getter;
@@ -99,13 +99,18 @@ public class Mcp3y0xDevice extends SpiDevice implements Sensor {
     return name;
   }
 
+  @Override
+  public List<SensorReading<?>> getReadings() {
+    return sensors;
+  }
+
   @Override
   public String getDescription() {
     return "Microchip Technology Analog to Digital " + channels + " channel " + bits + " bit convertor";
   }
 
 
-  private class ReadFromChannel implements ReadingSupplier<Integer> {
+  private class ReadFromChannel implements IntegerReadingSupplier {
 
     private final short channel;
 
@@ -114,7 +119,7 @@ public class Mcp3y0xDevice extends SpiDevice implements Sensor {
     }
 
     @Override
-    public Integer get() throws IOException {
+    public int get() throws IOException {
       return readFromChannel(false, channel);
     }
   }
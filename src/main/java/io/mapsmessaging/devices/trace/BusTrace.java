@@ -0,0 +1,237 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An always on record of bus transactions, kept in a preallocated ring of fixed size binary
+ * records so recording costs a few stores and never allocates or formats. Each record holds the
+ * start time, duration, bus, address, register, operation, length, result and the first bytes of
+ * the data. Records are only decoded and formatted when the trace is dumped.
+ * <p>
+ * Writers claim a slot with a single atomic increment, so any number of threads record at once.
+ * Each slot carries the sequence number of the record in it, which readers check before and after
+ * decoding, so a record being overwritten while it is read is skipped rather than returned torn.
+ * The ring size is set by the busTraceSize system property, 8192 records by default.
+ */
+public class BusTrace {
+
+  public static final int PAYLOAD_SIZE = 16;
+  public static final int NO_REGISTER = -1;
+
+  // timestamp, elapsed, bus, address, register, length, result, operation, payload length, payload
+  private static final int TIMESTAMP = 0;
+  private static final int ELAPSED = 8;
+  private static final int BUS = 12;
+  private static final int ADDRESS = 14;
+  private static final int REGISTER = 16;
+  private static final int LENGTH = 20;
+  private static final int RESULT = 24;
+  private static final int OPERATION = 28;
+  private static final int PAYLOAD_LENGTH = 29;
+  private static final int PAYLOAD = 32;
+  private static final int RECORD_SIZE = PAYLOAD + PAYLOAD_SIZE;
+
+  private static class Holder {
+    private static final BusTrace INSTANCE = new BusTrace(Integer.getInteger("busTraceSize", 8192));
+  }
+
+  public static BusTrace getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private final ByteBuffer ring;
+  private final AtomicLongArray stamps;
+  private final AtomicLong next;
+  private final int mask;
+  private final long epochMillis;
+  private final long epochNanos;
+
+  /**
+   * @param size number of records kept, rounded up to a power of two
+   */
+  public BusTrace(int size) {
+    int capacity = Integer.highestOneBit(Math.max(2, size) - 1) << 1;
+    ring = ByteBuffer.allocateDirect(capacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+    stamps = new AtomicLongArray(capacity);
+    for (int x = 0; x < capacity; x++) {
+      stamps.set(x, -1);
+    }
+    next = new AtomicLong();
+    mask = capacity - 1;
+    epochMillis = System.currentTimeMillis();
+    epochNanos = System.nanoTime();
+  }
+
+  public int getCapacity() {
+    return mask + 1;
+  }
+
+  /**
+   * @return the number of records written since the trace was created
+   */
+  public long getRecordCount() {
+    return next.get();
+  }
+
+  /**
+   * Records a transaction
+   *
+   * @param register the register addressed, or NO_REGISTER
+   * @param data     the data written or read, may be null
+   * @param length   the number of bytes requested, or the delay in milliseconds
+   * @param result   the bytes transferred, or a negative value if the transaction failed
+   * @param start    System.nanoTime() when the transaction started
+   */
+  public void record(int bus, int address, int register, TraceOperation operation,
+                     byte[] data, int offset, int length, int result, long start) {
+    long sequence = begin(bus, address, register, operation, length, result, start);
+    int base = (int) (sequence & mask) * RECORD_SIZE;
+    int captured = 0;
+    if (data != null) {
+      int available = operation == TraceOperation.WRITE ? length : result;
+      captured = Math.max(0, Math.min(PAYLOAD_SIZE, Math.min(available, data.length - offset)));
+      for (int x = 0; x < captured; x++) {
+        ring.put(base + PAYLOAD + x, data[offset + x]);
+      }
+    }
+    commit(sequence, captured);
+  }
+
+  /**
+   * Records a single byte transaction, without the caller having to wrap the byte in an array
+   */
+  public void recordByte(int bus, int address, int register, TraceOperation operation, int value, int result, long start) {
+    long sequence = begin(bus, address, register, operation, 1, result, start);
+    ring.put((int) (sequence & mask) * RECORD_SIZE + PAYLOAD, (byte) value);
+    commit(sequence, 1);
+  }
+
+  // Claims the next slot, marks it as being written and fills in everything but the payload
+  private long begin(int bus, int address, int register, TraceOperation operation, int length, int result, long start) {
+    long now = System.nanoTime();
+    long sequence = next.getAndIncrement();
+    int slot = (int) (sequence & mask);
+    int base = slot * RECORD_SIZE;
+    stamps.setOpaque(slot, -1);
+    VarHandle.storeStoreFence();
+    ring.putLong(base + TIMESTAMP, epochMillis * 1_000_000L + (start - epochNanos));
+    ring.putInt(base + ELAPSED, (int) Math.min(Integer.MAX_VALUE, Math.max(0, now - start)));
+    ring.putShort(base + BUS, (short) bus);
+    ring.putShort(base + ADDRESS, (short) address);
+    ring.putInt(base + REGISTER, register);
+    ring.putInt(base + LENGTH, length);
+    ring.putInt(base + RESULT, result);
+    ring.put(base + OPERATION, (byte) operation.ordinal());
+    return sequence;
+  }
+
+  private void commit(long sequence, int captured) {
+    int slot = (int) (sequence & mask);
+    ring.put(slot * RECORD_SIZE + PAYLOAD_LENGTH, (byte) captured);
+    stamps.lazySet(slot, sequence);
+  }
+
+  /**
+   * @return every record still in the ring, oldest first
+   */
+  public List<TraceRecord> getRecords() {
+    return getRecords(-1, -1, getCapacity());
+  }
+
+  /**
+   * @param bus     the bus, or -1 for every bus
+   * @param address the device address, or -1 for every device
+   * @param max     the most records to return, the latest are kept
+   * @return the matching records still in the ring, oldest first
+   */
+  public List<TraceRecord> getRecords(int bus, int address, int max) {
+    long end = next.get();
+    long start = Math.max(0, end - getCapacity());
+    List<TraceRecord> records = new ArrayList<>();
+    for (long sequence = end - 1; sequence >= start && records.size() < max; sequence--) {
+      TraceRecord traceRecord = read(sequence);
+      if (traceRecord != null &&
+          (bus < 0 || traceRecord.getBus() == bus) &&
+          (address < 0 || traceRecord.getAddress() == address)) {
+        records.add(traceRecord);
+      }
+    }
+    Collections.reverse(records);
+    return records;
+  }
+
+  public String dump() {
+    return dump(getRecords());
+  }
+
+  public String dump(int bus, int address, int max) {
+    return dump(getRecords(bus, address, max));
+  }
+
+  public static String dump(List<TraceRecord> records) {
+    StringBuilder sb = new StringBuilder(records.size() * 96);
+    for (TraceRecord traceRecord : records) {
+      sb.append(traceRecord).append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Discards every record
+   */
+  public void clear() {
+    for (int x = 0; x <= mask; x++) {
+      stamps.set(x, -1);
+    }
+  }
+
+  private TraceRecord read(long sequence) {
+    int slot = (int) (sequence & mask);
+    if (stamps.get(slot) != sequence) {
+      return null;
+    }
+    int base = slot * RECORD_SIZE;
+    long timestamp = ring.getLong(base + TIMESTAMP);
+    long elapsed = ring.getInt(base + ELAPSED);
+    int bus = ring.getShort(base + BUS) & 0xffff;
+    int address = ring.getShort(base + ADDRESS) & 0xffff;
+    int register = ring.getInt(base + REGISTER);
+    int length = ring.getInt(base + LENGTH);
+    int result = ring.getInt(base + RESULT);
+    TraceOperation operation = TraceOperation.valueOf(ring.get(base + OPERATION));
+    int captured = Math.min(PAYLOAD_SIZE, Math.max(0, ring.get(base + PAYLOAD_LENGTH)));
+    byte[] payload = new byte[captured];
+    for (int x = 0; x < captured; x++) {
+      payload[x] = ring.get(base + PAYLOAD + x);
+    }
+    VarHandle.loadLoadFence();
+    if (stamps.get(slot) != sequence || operation == null) {
+      return null; // Overwritten while it was being read
+    }
+    return new TraceRecord(sequence, timestamp, elapsed, bus, address, register, operation, length, result, payload);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import lombok.Getter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The transactions of a single device, read from a file written by {@link CaptureWriter}. A capture
+ * cut short, by the unit losing power for example, loads up to the last complete transaction.
+ */
+@Getter
+public class Capture {
+
+  private static final int MAX_DATA = 1 << 20;
+
+  private final int bus;
+  private final int address;
+  private final long startTime;
+  private final String name;
+  private final List<CapturedTransaction> transactions;
+
+  private Capture(int bus, int address, long startTime, String name, List<CapturedTransaction> transactions) {
+    this.bus = bus;
+    this.address = address;
+    this.startTime = startTime;
+    this.name = name;
+    this.transactions = Collections.unmodifiableList(transactions);
+  }
+
+  public static Capture load(Path path) throws IOException {
+    try (InputStream stream = Files.newInputStream(path)) {
+      return load(stream);
+    }
+  }
+
+  public static Capture load(InputStream stream) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+    byte[] magic = new byte[CaptureWriter.MAGIC.length];
+    try {
+      in.readFully(magic);
+      for (int x = 0; x < magic.length; x++) {
+        if (magic[x] != CaptureWriter.MAGIC[x]) {
+          throw new IOException("Not a bus capture");
+        }
+      }
+      int version = in.readUnsignedByte();
+      if (version != CaptureWriter.VERSION) {
+        throw new IOException("Unsupported bus capture version " + version);
+      }
+    } catch (EOFException e) {
+      throw new IOException("Truncated bus capture header", e);
+    }
+    int bus = in.readInt();
+    int address = in.readInt();
+    long startTime = in.readLong();
+    String name = in.readUTF();
+    List<CapturedTransaction> transactions = new ArrayList<>();
+    try {
+      int op;
+      while ((op = in.read()) >= 0) {
+        TraceOperation operation = TraceOperation.valueOf(op);
+        if (operation == null) {
+          throw new IOException("Unknown operation " + op + " in bus capture at transaction " + transactions.size());
+        }
+        long time = in.readLong();
+        long elapsed = in.readLong();
+        int register = in.readInt();
+        int length = in.readInt();
+        int result = in.readInt();
+        byte[] written = readBytes(in);
+        byte[] read = readBytes(in);
+        transactions.add(new CapturedTransaction(operation, time, elapsed, register, length, result, written, read));
+      }
+    } catch (EOFException e) {
+      // The last transaction was only partly written
+    }
+    return new Capture(bus, address, startTime, name, transactions);
+  }
+
+  /**
+   * @return nanoseconds from the start of the capture to the end of the last transaction
+   */
+  public long getDuration() {
+    if (transactions.isEmpty()) {
+      return 0;
+    }
+    CapturedTransaction last = transactions.get(transactions.size() - 1);
+    return last.getTime() + last.getElapsedNanos();
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_DATA) {
+      throw new IOException("Invalid data length " + length + " in bus capture");
+    }
+    byte[] data = new byte[length];
+    in.readFully(data);
+    return data;
+  }
+}
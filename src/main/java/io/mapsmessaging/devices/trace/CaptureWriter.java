@@ -0,0 +1,145 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the transactions of a single device to a capture file, which {@link Capture} reads back.
+ * <p>
+ * Layout: magic, version, bus, address, start time in epoch milliseconds and the device name, then
+ * for each transaction the operation, start time relative to the capture, duration, register,
+ * length, result, and the bytes written and read, each preceded by its count. A timer flushes any
+ * new transactions once a second, so a unit that is powered off loses at most the last second of
+ * traffic, even if the device has gone quiet.
+ * <p>
+ * A capture file that already exists is kept, renamed with the next free numeric suffix, so a
+ * restart does not overwrite the capture of the run before it.
+ */
+public class CaptureWriter implements Closeable {
+
+  static final byte[] MAGIC = {(byte) 0xB1, 'B', 'C'};
+  static final int VERSION = 1;
+
+  private static final long FLUSH_INTERVAL = 1000;
+  private static final ScheduledExecutorService FLUSH_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "Capture-Flush");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final DataOutputStream out;
+  private final long origin;
+  private final ScheduledFuture<?> flushTask;
+  private long count;
+  private long flushed;
+
+  public CaptureWriter(Path path, int bus, int address, String name) throws IOException {
+    this(Files.newOutputStream(keepPrevious(path)), bus, address, name);
+  }
+
+  public CaptureWriter(OutputStream stream, int bus, int address, String name) throws IOException {
+    out = new DataOutputStream(new BufferedOutputStream(stream, 16384));
+    origin = System.nanoTime();
+    out.write(MAGIC);
+    out.writeByte(VERSION);
+    out.writeInt(bus);
+    out.writeInt(address);
+    out.writeLong(System.currentTimeMillis());
+    out.writeUTF(name != null ? name : "");
+    out.flush();
+    flushTask = FLUSH_TIMER.scheduleWithFixedDelay(this::flushPending, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+  }
+
+  // Moves an existing capture aside, to path.1, path.2 and so on, and returns the path to write
+  private static Path keepPrevious(Path path) throws IOException {
+    if (Files.exists(path)) {
+      int suffix = 1;
+      Path previous = path.resolveSibling(path.getFileName() + "." + suffix);
+      while (Files.exists(previous)) {
+        suffix++;
+        previous = path.resolveSibling(path.getFileName() + "." + suffix);
+      }
+      Files.move(path, previous);
+    }
+    return path;
+  }
+
+  /**
+   * Appends a transaction
+   *
+   * @param register the register addressed, or BusTrace.NO_REGISTER
+   * @param written  the bytes written, may be null
+   * @param read     the buffer read into, may be null, only the bytes transferred are kept
+   * @param start    System.nanoTime() when the transaction started
+   */
+  public synchronized void write(TraceOperation operation, int register, int length, int result,
+                                 byte[] written, int writeOffset, int writeLength,
+                                 byte[] read, int readOffset, long start) throws IOException {
+    long now = System.nanoTime();
+    out.writeByte(operation.ordinal());
+    out.writeLong(start - origin);
+    out.writeLong(now - start);
+    out.writeInt(register);
+    out.writeInt(length);
+    out.writeInt(result);
+    writeBytes(written, writeOffset, written != null ? writeLength : 0);
+    writeBytes(read, readOffset, read != null ? Math.min(result, length) : 0);
+    count++;
+  }
+
+  public synchronized long getCount() {
+    return count;
+  }
+
+  public synchronized void flush() throws IOException {
+    out.flush();
+    flushed = count;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    flushTask.cancel(false);
+    out.close();
+  }
+
+  private synchronized void flushPending() {
+    if (flushed != count) {
+      try {
+        flush();
+      } catch (IOException e) {
+        // The next write reports the failure, and stops the capture
+        flushTask.cancel(false);
+      }
+    }
+  }
+
+  private void writeBytes(byte[] data, int offset, int length) throws IOException {
+    int len = data != null ? Math.max(0, Math.min(length, data.length - offset)) : 0;
+    out.writeInt(len);
+    if (len > 0) {
+      out.write(data, offset, len);
+    }
+  }
+}
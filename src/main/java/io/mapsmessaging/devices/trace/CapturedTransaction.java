@@ -0,0 +1,82 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import lombok.Getter;
+
+/**
+ * A single transaction read back from a capture file. Unlike the trace ring a capture keeps the
+ * whole of the data written and read, so the transaction can be replayed.
+ */
+@Getter
+public class CapturedTransaction {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final TraceOperation operation;
+  private final long time;
+  private final long elapsedNanos;
+  private final int register;
+  private final int length;
+  private final int result;
+  private final byte[] written;
+  private final byte[] read;
+
+  /**
+   * @param time    nanoseconds since the capture started
+   * @param written the bytes written, for a WRITE_READ the write half
+   * @param read    the bytes read
+   */
+  public CapturedTransaction(TraceOperation operation, long time, long elapsedNanos, int register,
+                             int length, int result, byte[] written, byte[] read) {
+    this.operation = operation;
+    this.time = time;
+    this.elapsedNanos = elapsedNanos;
+    this.register = register;
+    this.length = length;
+    this.result = result;
+    this.written = written != null ? written : EMPTY;
+    this.read = read != null ? read : EMPTY;
+  }
+
+  public boolean hasRegister() {
+    return register >= 0;
+  }
+
+  public boolean isFailed() {
+    return result < 0;
+  }
+
+  /**
+   * @return true for the transactions a device sees, rather than the open and close markers
+   */
+  public boolean isTransfer() {
+    return operation == TraceOperation.READ || operation == TraceOperation.WRITE || operation == TraceOperation.WRITE_READ;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(64);
+    sb.append('+').append(time / 1000).append("us ").append(operation);
+    if (hasRegister()) {
+      sb.append(" reg 0x").append(Integer.toHexString(register));
+    }
+    sb.append(" len ").append(length).append(" result ").append(result);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import io.mapsmessaging.devices.impl.AddressableDevice;
+import io.mapsmessaging.devices.logging.DeviceLogMessage;
+import io.mapsmessaging.logging.Logger;
+import io.mapsmessaging.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Wraps a device and writes every transaction made through it, with the whole of the data and its
+ * timing, to a capture file. Captures taken from a unit in the field can then be replayed against
+ * an emulated bus with the ReplayModel.
+ * <p>
+ * If the capture file cannot be written, capturing stops and the device carries on as normal.
+ */
+public class CapturingDevice implements AddressableDevice {
+
+  private final Logger logger = LoggerFactory.getLogger(CapturingDevice.class);
+
+  private final AddressableDevice device;
+  private final CaptureWriter writer;
+  private final byte[] single;
+  private volatile boolean capturing;
+
+  public CapturingDevice(AddressableDevice device, CaptureWriter writer) {
+    this.device = device;
+    this.writer = writer;
+    single = new byte[1];
+    capturing = true;
+  }
+
+  public static CapturingDevice open(AddressableDevice device, Path path, String name) throws IOException {
+    return new CapturingDevice(device, new CaptureWriter(path, device.getBus(), device.getDevice(), name));
+  }
+
+  public boolean isCapturing() {
+    return capturing;
+  }
+
+  public long getCaptured() {
+    return writer.getCount();
+  }
+
+  @Override
+  public void close() {
+    device.close();
+    if (capturing) {
+      capturing = false;
+      try {
+        writer.write(TraceOperation.CLOSE, BusTrace.NO_REGISTER, 0, 0, null, 0, 0, null, 0, System.nanoTime());
+        writer.close();
+      } catch (IOException e) {
+        logger.log(DeviceLogMessage.I2C_BUS_DEVICE_CAPTURE_FAILED, getBus(), getDevice(), e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public int getBus() {
+    return device.getBus();
+  }
+
+  @Override
+  public int getDevice() {
+    return device.getDevice();
+  }
+
+  @Override
+  public int write(int val) {
+    long start = System.nanoTime();
+    int result = device.write(val);
+    if (capturing) {
+      synchronized (single) {
+        single[0] = (byte) val;
+        capture(TraceOperation.WRITE, BusTrace.NO_REGISTER, 1, result, single, 0, 1, null, 0, start);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int write(byte[] buffer, int offset, int length) {
+    long start = System.nanoTime();
+    int result = device.write(buffer, offset, length);
+    capture(TraceOperation.WRITE, BusTrace.NO_REGISTER, length, result, buffer, offset, length, null, 0, start);
+    return result;
+  }
+
+  @Override
+  public int writeRegister(int register, byte[] data) {
+    long start = System.nanoTime();
+    int result = device.writeRegister(register, data);
+    capture(TraceOperation.WRITE, register & 0xff, data.length, result, data, 0, data.length, null, 0, start);
+    return result;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    long start = System.nanoTime();
+    int result = device.read(buffer, offset, length);
+    capture(TraceOperation.READ, BusTrace.NO_REGISTER, length, result, null, 0, 0, buffer, offset, start);
+    return result;
+  }
+
+  @Override
+  public int read() {
+    long start = System.nanoTime();
+    return captureByte(BusTrace.NO_REGISTER, device.read(), start);
+  }
+
+  @Override
+  public int readRegister(int register) {
+    long start = System.nanoTime();
+    return captureByte(register & 0xff, device.readRegister(register), start);
+  }
+
+  @Override
+  public int readRegister(int register, byte[] buffer, int offset, int length) {
+    long start = System.nanoTime();
+    int result = device.readRegister(register, buffer, offset, length);
+    capture(TraceOperation.READ, register & 0xff, length, result, null, 0, 0, buffer, offset, start);
+    return result;
+  }
+
+  @Override
+  public int writeRead(byte[] write, byte[] buffer, int offset, int length) {
+    long start = System.nanoTime();
+    int result = device.writeRead(write, buffer, offset, length);
+    capture(TraceOperation.WRITE_READ, BusTrace.NO_REGISTER, length, result, write, 0, write.length, buffer, offset, start);
+    return result;
+  }
+
+  // A single byte read returns the value rather than a count, it is captured as a one byte read
+  private int captureByte(int register, int value, long start) {
+    if (capturing) {
+      synchronized (single) {
+        single[0] = (byte) value;
+        capture(TraceOperation.READ, register, 1, value < 0 ? value : 1, null, 0, 0, single, 0, start);
+      }
+    }
+    return value;
+  }
+
+  private void capture(TraceOperation operation, int register, int length, int result,
+                       byte[] written, int writeOffset, int writeLength, byte[] read, int readOffset, long start) {
+    if (!capturing) {
+      return;
+    }
+    try {
+      writer.write(operation, register, length, result, written, writeOffset, writeLength, read, readOffset, start);
+    } catch (IOException e) {
+      capturing = false;
+      logger.log(DeviceLogMessage.I2C_BUS_DEVICE_CAPTURE_FAILED, getBus(), getDevice(), e.getMessage());
+      try {
+        writer.close();
+      } catch (IOException ex) {
+        // Already reported
+      }
+    }
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+public enum TraceOperation {
+  READ,
+  WRITE,
+  WRITE_READ,
+  DELAY,
+  OPEN,
+  CLOSE;
+
+  private static final TraceOperation[] VALUES = values();
+
+  static TraceOperation valueOf(int ordinal) {
+    return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.mapsmessaging.devices.trace;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A single bus transaction decoded from the trace ring
+ */
+@Getter
+public class TraceRecord {
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private final long sequence;
+  private final long timestamp;
+  private final long elapsedNanos;
+  private final int bus;
+  private final int address;
+  private final int register;
+  private final TraceOperation operation;
+  private final int length;
+  private final int result;
+  private final byte[] payload;
+
+  TraceRecord(long sequence, long timestamp, long elapsedNanos, int bus, int address, int register,
+              TraceOperation operation, int length, int result, byte[] payload) {
+    this.sequence = sequence;
+    this.timestamp = timestamp;
+    this.elapsedNanos = elapsedNanos;
+    this.bus = bus;
+    this.address = address;
+    this.register = register;
+    this.operation = operation;
+    this.length = length;
+    this.result = result;
+    this.payload = payload;
+  }
+
+  /**
+   * @return nanoseconds since the epoch when the transaction started
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public boolean hasRegister() {
+    return register >= 0;
+  }
+
+  public boolean isFailed() {
+    return result < 0;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(96);
+    sb.append(Instant.ofEpochSecond(0, timestamp)).append(' ')
+        .append(bus).append(':');
+    hex(sb, address);
+    sb.append(' ').append(operation);
+    if (hasRegister()) {
+      sb.append(" reg ");
+      hex(sb, register);
+    }
+    sb.append(" len ").append(length)
+        .append(" result ").append(result)
+        .append(' ').append(elapsedNanos / 1000).append("us");
+    if (payload.length > 0) {
+      sb.append(" [");
+      for (int x = 0; x < payload.length; x++) {
+        if (x > 0) {
+          sb.append(',');
+        }
+        hex(sb, payload[x] & 0xff);
+      }
+      if (payload.length < length && operation != TraceOperation.DELAY) {
+        sb.append(",..");
+      }
+      sb.append(']');
+    }
+    return sb.toString();
+  }
+
+  private static void hex(StringBuilder sb, int value) {
+    if (value > 0xff) {
+      hex(sb, value >> 8);
+    }
+    sb.append(HEX[(value >> 4) & 0xf]).append(HEX[value & 0xf]);
+  }
+}
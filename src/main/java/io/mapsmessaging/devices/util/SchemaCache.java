@@ -0,0 +1,104 @@
+/*
+ *      Copyright [ 2020 - 2023 ] [Matthew Buckton]
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.mapsmessaging.devices.util;
+
+import io.mapsmessaging.devices.DeviceController;
+import io.mapsmessaging.schemas.config.SchemaConfig;
+import io.mapsmessaging.schemas.config.impl.JsonSchemaConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Schemas only depend on the driver, so each one is built once, by the first controller of the
+ * driver class to be asked for it, and then shared by every instance. Drivers whose name changes
+ * with the detected device, like the gravity gas sensors, get one schema per name. The shared
+ * SchemaConfig must not be modified by callers.
+ * <p>
+ * Each schema also has a fingerprint, a SHA-256 of its content, so consumers can tell whether a
+ * schema they already hold is still current without fetching it again.
+ */
+public final class SchemaCache {
+
+  private static final Map<String, Entry> SCHEMAS = new ConcurrentHashMap<>();
+
+  private SchemaCache() {
+  }
+
+  public static SchemaConfig getSchema(DeviceController controller) {
+    return getEntry(controller, controller::getSchema).schema;
+  }
+
+  public static SchemaConfig getSchema(DeviceController controller, Supplier<SchemaConfig> builder) {
+    return getEntry(controller, builder).schema;
+  }
+
+  public static String getFingerprint(DeviceController controller) {
+    return getEntry(controller, controller::getSchema).fingerprint;
+  }
+
+  // Not computeIfAbsent, a controller's own getSchema() may already go through the cache
+  private static Entry getEntry(DeviceController controller, Supplier<SchemaConfig> builder) {
+    String key = controller.getClass().getName() + ":" + controller.getName();
+    Entry entry = SCHEMAS.get(key);
+    if (entry == null) {
+      entry = new Entry(builder.get());
+      Entry existing = SCHEMAS.putIfAbsent(key, entry);
+      if (existing != null) {
+        entry = existing;
+      }
+    }
+    return entry;
+  }
+
+  private static String fingerprint(SchemaConfig schema) {
+    StringBuilder content = new StringBuilder();
+    content.append(schema.getSource()).append('\n')
+        .append(schema.getVersion()).append('\n')
+        .append(schema.getResourceType()).append('\n')
+        .append(schema.getComments()).append('\n')
+        .append(schema.getInterfaceDescription()).append('\n');
+    if (schema instanceof JsonSchemaConfig) {
+      content.append(((JsonSchemaConfig) schema).getSchema());
+    }
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      return Integer.toHexString(content.toString().hashCode());
+    }
+  }
+
+  private static final class Entry {
+    private final SchemaConfig schema;
+    private final String fingerprint;
+
+    private Entry(SchemaConfig schema) {
+      this.schema = schema;
+      fingerprint = fingerprint(schema);
+    }
+  }
+}